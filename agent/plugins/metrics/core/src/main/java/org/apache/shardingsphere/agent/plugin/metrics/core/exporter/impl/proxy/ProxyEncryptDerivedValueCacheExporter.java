@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.cache.EncryptDerivedValueCache;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy encrypt derived value cache exporter.
+ */
+public final class ProxyEncryptDerivedValueCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_encrypt_derived_value_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Derived value cache statistics of encrypt assisted query and like query columns. hit_count, miss_count, hit_rate and size of each cache",
+            Arrays.asList("database", "table", "column", "item", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            each.getRuleMetaData().findSingleRule(EncryptRule.class).ifPresent(optional -> addMetrics(result, each.getName(), optional));
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final EncryptRule rule) {
+        for (String each : rule.getLogicTableMapper().getTableNames()) {
+            EncryptTable encryptTable = rule.getEncryptTable(each);
+            for (EncryptColumn column : encryptTable.getColumns().values()) {
+                column.getAssistedQuery().ifPresent(optional -> addMetrics(collector, databaseName, encryptTable.getTable(), column.getName(), "assisted_query", optional.getDerivedValueCache()));
+                column.getLikeQuery().ifPresent(optional -> addMetrics(collector, databaseName, encryptTable.getTable(), column.getName(), "like_query", optional.getDerivedValueCache()));
+            }
+        }
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final String tableName, final String columnName, final String item,
+                            final EncryptDerivedValueCache cache) {
+        if (null == cache) {
+            return;
+        }
+        collector.addMetric(Arrays.asList(databaseName, tableName, columnName, item, "hit_count"), cache.getHitCount());
+        collector.addMetric(Arrays.asList(databaseName, tableName, columnName, item, "miss_count"), cache.getMissCount());
+        collector.addMetric(Arrays.asList(databaseName, tableName, columnName, item, "hit_rate"), cache.getHitRate());
+        collector.addMetric(Arrays.asList(databaseName, tableName, columnName, item, "size"), cache.getEstimatedSize());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.cache.EncryptDerivedValueCache;
+import org.apache.shardingsphere.encrypt.rule.column.item.AssistedQueryColumnItem;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class ProxyEncryptDerivedValueCacheExporterTest {
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_encrypt_derived_value_cache",
+                MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("database", "table", "column", "item", "name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExportWithoutContextManager() {
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(null);
+        assertFalse(new ProxyEncryptDerivedValueCacheExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    void assertExportWithDerivedValueCache() {
+        EncryptDerivedValueCache cache = new EncryptDerivedValueCache(10L, false);
+        cache.get("foo", each -> "derived_foo");
+        cache.get("foo", each -> "derived_foo");
+        cache.get("bar", each -> "derived_bar");
+        ShardingSphereDatabase database = mockDatabase(cache);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxyEncryptDerivedValueCacheExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), containsString("hit_count=1"));
+        assertThat(collector.get().toString(), containsString("miss_count=2"));
+        assertThat(collector.get().toString(), containsString("size=2"));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final EncryptDerivedValueCache cache) {
+        EncryptColumn encryptColumn = new EncryptColumn("foo_col", mock(CipherColumnItem.class));
+        encryptColumn.setAssistedQuery(new AssistedQueryColumnItem("foo_col_assisted", null, cache));
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.getTable()).thenReturn("foo_tbl");
+        when(encryptTable.getColumns()).thenReturn(Collections.singletonMap("foo_col", encryptColumn));
+        EncryptRule rule = mock(EncryptRule.class, RETURNS_DEEP_STUBS);
+        when(rule.getLogicTableMapper().getTableNames()).thenReturn(Collections.singletonList("foo_tbl"));
+        when(rule.getEncryptTable("foo_tbl")).thenReturn(encryptTable);
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getRuleMetaData().findSingleRule(EncryptRule.class)).thenReturn(Optional.of(rule));
+        return result;
+    }
+}
@@ -26,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Database packet codec.
@@ -36,6 +37,8 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket> {
     
     private final DatabasePacketCodecEngine databasePacketCodecEngine;
     
+    private final AtomicLong encodedBytes = new AtomicLong();
+    
     @Override
     protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
         int readableBytes = in.readableBytes();
@@ -51,8 +54,18 @@ public final class PacketCodec extends ByteToMessageCodec<DatabasePacket> {
     @Override
     protected void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
         databasePacketCodecEngine.encode(context, message, out);
+        encodedBytes.addAndGet(out.readableBytes());
         if (log.isDebugEnabled()) {
             log.debug("Write to client {} :\n{}", context.channel().id().asShortText(), ByteBufUtil.prettyHexDump(out));
         }
     }
+    
+    /**
+     * Get total bytes encoded by this codec.
+     *
+     * @return total encoded bytes
+     */
+    public long getEncodedBytes() {
+        return encodedBytes.get();
+    }
 }
@@ -28,6 +28,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -74,4 +76,12 @@ class PacketCodecTest {
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    void assertGetEncodedBytes() {
+        when(byteBuf.readableBytes()).thenReturn(10, 20);
+        packetCodec.encode(context, mock(DatabasePacket.class), byteBuf);
+        packetCodec.encode(context, mock(DatabasePacket.class), byteBuf);
+        assertThat(packetCodec.getEncodedBytes(), is(30L));
+    }
 }
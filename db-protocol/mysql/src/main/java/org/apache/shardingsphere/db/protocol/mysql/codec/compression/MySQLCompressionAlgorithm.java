@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec.compression;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Compression algorithm of MySQL compressed protocol.
+ */
+public interface MySQLCompressionAlgorithm {
+    
+    /**
+     * Compress readable bytes into heap buffer.
+     *
+     * @param in bytes to be compressed, reader index is not changed
+     * @param out heap buffer to write compressed bytes
+     * @return whether compressed bytes are written, false means the compressed bytes are not smaller than the original ones
+     */
+    boolean compress(ByteBuf in, ByteBuf out);
+    
+    /**
+     * Decompress readable bytes into heap buffer.
+     *
+     * @param in compressed bytes
+     * @param out heap buffer to write decompressed bytes
+     * @param uncompressedLength uncompressed length
+     */
+    void decompress(ByteBuf in, ByteBuf out, int uncompressedLength);
+    
+    /**
+     * Release resources of compression algorithm.
+     */
+    void close();
+}
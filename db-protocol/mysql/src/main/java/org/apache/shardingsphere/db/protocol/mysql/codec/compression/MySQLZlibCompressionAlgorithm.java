@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shardingsphere.db.protocol.mysql.exception.MySQLProtocolException;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Zlib compression algorithm of MySQL compressed protocol.
+ */
+public final class MySQLZlibCompressionAlgorithm implements MySQLCompressionAlgorithm {
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final Inflater inflater = new Inflater();
+    
+    @Override
+    public boolean compress(final ByteBuf in, final ByteBuf out) {
+        int length = in.readableBytes();
+        out.ensureWritable(length);
+        deflater.setInput(in.hasArray() ? in.array() : ByteBufUtil.getBytes(in), getArrayOffset(in), length);
+        deflater.finish();
+        int compressedLength = deflater.deflate(out.array(), out.arrayOffset() + out.writerIndex(), length);
+        boolean result = deflater.finished() && compressedLength < length;
+        deflater.reset();
+        if (result) {
+            out.writerIndex(out.writerIndex() + compressedLength);
+        }
+        return result;
+    }
+    
+    @Override
+    public void decompress(final ByteBuf in, final ByteBuf out, final int uncompressedLength) {
+        out.ensureWritable(uncompressedLength);
+        inflater.setInput(in.hasArray() ? in.array() : ByteBufUtil.getBytes(in), getArrayOffset(in), in.readableBytes());
+        try {
+            int actualLength = inflater.inflate(out.array(), out.arrayOffset() + out.writerIndex(), uncompressedLength);
+            if (actualLength != uncompressedLength || !inflater.finished()) {
+                throw new MySQLProtocolException("Decompressed length `%d` does not match uncompressed length `%d`.", actualLength, uncompressedLength);
+            }
+        } catch (final DataFormatException ex) {
+            throw new MySQLProtocolException("Can not decompress zlib packet, reason is: %s", ex.getMessage());
+        } finally {
+            inflater.reset();
+        }
+        in.skipBytes(in.readableBytes());
+        out.writerIndex(out.writerIndex() + uncompressedLength);
+    }
+    
+    private int getArrayOffset(final ByteBuf byteBuf) {
+        return byteBuf.hasArray() ? byteBuf.arrayOffset() + byteBuf.readerIndex() : 0;
+    }
+    
+    @Override
+    public void close() {
+        deflater.end();
+        inflater.end();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.util.Native;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.exception.MySQLProtocolException;
+
+/**
+ * Zstd compression algorithm of MySQL compressed protocol.
+ *
+ * <p>
+ * Zstd is supported by MySQL 8.0.18 and later clients, and only available when zstd-jni is present in class path.
+ * Zstd classes are only referenced by method bodies, so that this class can be loaded without zstd-jni.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLZstdCompressionAlgorithm implements MySQLCompressionAlgorithm {
+    
+    /**
+     * Default compression level of MySQL zstd compression.
+     */
+    public static final int DEFAULT_COMPRESSION_LEVEL = 3;
+    
+    private static final boolean AVAILABLE = loadZstd();
+    
+    private final int compressionLevel;
+    
+    private static boolean loadZstd() {
+        try {
+            Class.forName("com.github.luben.zstd.Zstd");
+            Native.load();
+            return true;
+        } catch (final ClassNotFoundException | LinkageError ignored) {
+            return false;
+        }
+    }
+    
+    /**
+     * Judge whether zstd is available.
+     *
+     * @return is available or not
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+    
+    @Override
+    public boolean compress(final ByteBuf in, final ByteBuf out) {
+        int length = in.readableBytes();
+        out.ensureWritable(length);
+        long compressedLength;
+        try {
+            compressedLength = Zstd.compressByteArray(out.array(), out.arrayOffset() + out.writerIndex(), length,
+                    in.hasArray() ? in.array() : ByteBufUtil.getBytes(in), getArrayOffset(in), length, compressionLevel);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ignored) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+        if (compressedLength >= length) {
+            return false;
+        }
+        out.writerIndex(out.writerIndex() + (int) compressedLength);
+        return true;
+    }
+    
+    @Override
+    public void decompress(final ByteBuf in, final ByteBuf out, final int uncompressedLength) {
+        out.ensureWritable(uncompressedLength);
+        long actualLength;
+        try {
+            actualLength = Zstd.decompressByteArray(out.array(), out.arrayOffset() + out.writerIndex(), uncompressedLength,
+                    in.hasArray() ? in.array() : ByteBufUtil.getBytes(in), getArrayOffset(in), in.readableBytes());
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            throw new MySQLProtocolException("Can not decompress zstd packet, reason is: %s", ex.getMessage());
+        }
+        if (actualLength != uncompressedLength) {
+            throw new MySQLProtocolException("Decompressed length `%d` does not match uncompressed length `%d`.", actualLength, uncompressedLength);
+        }
+        in.skipBytes(in.readableBytes());
+        out.writerIndex(out.writerIndex() + uncompressedLength);
+    }
+    
+    private int getArrayOffset(final ByteBuf byteBuf) {
+        return byteBuf.hasArray() ? byteBuf.arrayOffset() + byteBuf.readerIndex() : 0;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
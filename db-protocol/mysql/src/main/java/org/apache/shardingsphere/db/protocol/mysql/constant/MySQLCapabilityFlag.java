@@ -19,6 +19,7 @@ package org.apache.shardingsphere.db.protocol.mysql.constant;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.codec.compression.MySQLZstdCompressionAlgorithm;
 
 /**
  * Capability flag for MySQL.
@@ -77,7 +78,11 @@ public enum MySQLCapabilityFlag {
     
     CLIENT_SESSION_TRACK(0x00800000),
     
-    CLIENT_DEPRECATE_EOF(0x01000000);
+    CLIENT_DEPRECATE_EOF(0x01000000),
+    
+    CLIENT_OPTIONAL_RESULTSET_METADATA(0x02000000),
+    
+    CLIENT_ZSTD_COMPRESSION_ALGORITHM(0x04000000);
     
     private final int value;
     
@@ -87,17 +92,23 @@ public enum MySQLCapabilityFlag {
      * @return handshake capability flags lower bit
      */
     public static int calculateHandshakeCapabilityFlagsLower() {
-        return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_FOUND_ROWS, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_ODBC, CLIENT_IGNORE_SPACE,
+        return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_FOUND_ROWS, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_COMPRESS, CLIENT_ODBC, CLIENT_LOCAL_FILES, CLIENT_IGNORE_SPACE,
                 CLIENT_PROTOCOL_41, CLIENT_INTERACTIVE, CLIENT_IGNORE_SIGPIPE, CLIENT_TRANSACTIONS, CLIENT_SECURE_CONNECTION) & 0x0000ffff;
     }
     
     /**
      * Get handshake capability flags upper bit.
+     * 
+     * <p>Zstd compression is advertised only when zstd is available.</p>
      *
      * @return handshake capability flags upper bit
      */
     public static int calculateHandshakeCapabilityFlagsUpper() {
-        return calculateCapabilityFlags(CLIENT_MULTI_STATEMENTS, CLIENT_PLUGIN_AUTH) >> 16;
+        int result = calculateCapabilityFlags(CLIENT_MULTI_STATEMENTS, CLIENT_PLUGIN_AUTH);
+        if (MySQLZstdCompressionAlgorithm.isAvailable()) {
+            result |= CLIENT_ZSTD_COMPRESSION_ALGORITHM.value;
+        }
+        return result >> 16;
     }
     
     /**
@@ -35,6 +35,8 @@ public final class MySQLConstants {
     
     public static final AttributeKey<Integer> MYSQL_OPTION_MULTI_STATEMENTS = AttributeKey.valueOf("MYSQL_OPTION_MULTI_STATEMENTS");
     
+    public static final AttributeKey<Boolean> MYSQL_CLIENT_LOCAL_FILES = AttributeKey.valueOf("MYSQL_CLIENT_LOCAL_FILES");
+    
     /**
      * Protocol version is always 0x0A.
      */
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.concurrent.PromiseNotifier;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.codec.compression.MySQLCompressionAlgorithm;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * MySQL compressed protocol handler.
+ *
+ * <p>
+ * Inbound compressed packets are decompressed before MySQL packets are decoded.
+ * Outbound MySQL packets are buffered until flush and written as compressed packets, payload smaller than {@value #MIN_COMPRESS_LENGTH} bytes is sent uncompressed.
+ * </p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression.html">Compression</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressionHandler extends ChannelDuplexHandler {
+    
+    private static final int MIN_COMPRESS_LENGTH = 50;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private final MySQLCompressionAlgorithm compressionAlgorithm;
+    
+    private final List<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    private ByteBuf cumulation;
+    
+    private ByteBuf pendingWrites;
+    
+    private int sequenceId;
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object msg) {
+        if (!(msg instanceof ByteBuf)) {
+            context.fireChannelRead(msg);
+            return;
+        }
+        cumulation = null == cumulation ? (ByteBuf) msg : ByteToMessageDecoder.MERGE_CUMULATOR.cumulate(context.alloc(), cumulation, (ByteBuf) msg);
+        try {
+            decode(context);
+        } finally {
+            if (null != cumulation && !cumulation.isReadable()) {
+                cumulation.release();
+                cumulation = null;
+            }
+        }
+    }
+    
+    private void decode(final ChannelHandlerContext context) {
+        while (cumulation.readableBytes() >= HEADER_LENGTH) {
+            int readerIndex = cumulation.readerIndex();
+            int payloadLength = cumulation.getUnsignedMediumLE(readerIndex);
+            if (cumulation.readableBytes() < HEADER_LENGTH + payloadLength) {
+                return;
+            }
+            sequenceId = cumulation.getUnsignedByte(readerIndex + 3) + 1;
+            int uncompressedLength = cumulation.getUnsignedMediumLE(readerIndex + 4);
+            ByteBuf payload = cumulation.skipBytes(HEADER_LENGTH).readSlice(payloadLength);
+            context.fireChannelRead(0 == uncompressedLength ? payload.retain() : decompress(context, payload, uncompressedLength));
+        }
+    }
+    
+    private ByteBuf decompress(final ChannelHandlerContext context, final ByteBuf payload, final int uncompressedLength) {
+        ByteBuf result = context.alloc().heapBuffer(uncompressedLength, uncompressedLength);
+        try {
+            compressionAlgorithm.decompress(payload, result, uncompressedLength);
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.release();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object msg, final ChannelPromise promise) {
+        if (!(msg instanceof ByteBuf)) {
+            context.write(msg, promise);
+            return;
+        }
+        ByteBuf byteBuf = (ByteBuf) msg;
+        if (null == pendingWrites) {
+            pendingWrites = context.alloc().heapBuffer(Math.max(byteBuf.readableBytes(), MIN_COMPRESS_LENGTH));
+        }
+        try {
+            pendingWrites.writeBytes(byteBuf);
+        } finally {
+            byteBuf.release();
+        }
+        if (!promise.isVoid()) {
+            pendingPromises.add(promise);
+        }
+        if (pendingWrites.readableBytes() >= MAX_PAYLOAD_LENGTH) {
+            context.write(encode(context, MAX_PAYLOAD_LENGTH));
+            pendingWrites.discardReadBytes();
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (null != pendingWrites) {
+            ChannelFuture future = context.write(encode(context, pendingWrites.readableBytes()));
+            if (!pendingPromises.isEmpty()) {
+                future.addListener(new PromiseNotifier<>(pendingPromises.toArray(new ChannelPromise[0])));
+                pendingPromises.clear();
+            }
+            pendingWrites.release();
+            pendingWrites = null;
+        }
+        context.flush();
+    }
+    
+    private ByteBuf encode(final ChannelHandlerContext context, final int length) {
+        ByteBuf result = context.alloc().heapBuffer(Math.min(length, MAX_PAYLOAD_LENGTH) + HEADER_LENGTH);
+        int remainLength = length;
+        while (remainLength > 0) {
+            ByteBuf payload = pendingWrites.readSlice(Math.min(remainLength, MAX_PAYLOAD_LENGTH));
+            remainLength -= payload.readableBytes();
+            int headerIndex = result.writerIndex();
+            result.writeZero(HEADER_LENGTH);
+            boolean compressed = payload.readableBytes() >= MIN_COMPRESS_LENGTH && compressionAlgorithm.compress(payload, result);
+            if (!compressed) {
+                result.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+            }
+            result.setMediumLE(headerIndex, result.writerIndex() - headerIndex - HEADER_LENGTH);
+            result.setByte(headerIndex + 3, sequenceId++);
+            result.setMediumLE(headerIndex + 4, compressed ? payload.readableBytes() : 0);
+        }
+        return result;
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        if (null != cumulation) {
+            cumulation.release();
+            cumulation = null;
+        }
+        if (null != pendingWrites) {
+            pendingWrites.release();
+            pendingWrites = null;
+        }
+        for (ChannelPromise each : pendingPromises) {
+            each.tryFailure(new ClosedChannelException());
+        }
+        pendingPromises.clear();
+        compressionAlgorithm.close();
+    }
+}
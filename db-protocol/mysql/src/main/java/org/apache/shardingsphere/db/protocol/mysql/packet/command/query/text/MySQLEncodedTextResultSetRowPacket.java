@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Text result set row packet for MySQL, whose values are already encoded into pooled byte buffer.
+ * 
+ * <p>The byte buffer is released by codec after it is written, or by channel if it is never written.</p>
+ *
+ * @see MySQLTextResultSetRowPacket
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLEncodedTextResultSetRowPacket extends MySQLPacket implements ReferenceCounted {
+    
+    private final ByteBuf encodedValues;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(encodedValues, encodedValues.readerIndex(), encodedValues.readableBytes());
+    }
+    
+    @Override
+    public int refCnt() {
+        return encodedValues.refCnt();
+    }
+    
+    @Override
+    public MySQLEncodedTextResultSetRowPacket retain() {
+        encodedValues.retain();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedTextResultSetRowPacket retain(final int increment) {
+        encodedValues.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedTextResultSetRowPacket touch() {
+        encodedValues.touch();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedTextResultSetRowPacket touch(final Object hint) {
+        encodedValues.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return encodedValues.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return encodedValues.release(decrement);
+    }
+}
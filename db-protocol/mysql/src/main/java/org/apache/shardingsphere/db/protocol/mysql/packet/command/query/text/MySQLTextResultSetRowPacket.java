@@ -52,16 +52,20 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     @Override
     protected void write(final MySQLPacketPayload payload) {
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt1(NULL);
-                continue;
-            }
-            writeDataIntoPayload(payload, each);
+            writeValue(payload, each);
         }
     }
     
-    private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
+    /**
+     * Write value of text result set row.
+     *
+     * @param payload payload operation for MySQL packet
+     * @param data value to be written
+     */
+    public static void writeValue(final MySQLPacketPayload payload, final Object data) {
+        if (null == data) {
+            payload.writeInt1(NULL);
+        } else if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
             payload.writeStringLenenc(data.toString().split("\\.")[0]);
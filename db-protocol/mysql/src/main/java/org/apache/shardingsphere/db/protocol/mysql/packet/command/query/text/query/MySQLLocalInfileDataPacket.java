@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
+
+/**
+ * LOCAL INFILE data packet for MySQL.
+ *
+ * <p>The client sends the file content in consecutive data packets and an empty packet to terminate it.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_local_infile_request.html">LOCAL INFILE Request</a>
+ */
+@Getter
+public final class MySQLLocalInfileDataPacket extends MySQLPacket implements CommandPacket {
+    
+    private final byte[] data;
+    
+    public MySQLLocalInfileDataPacket(final byte[] data) {
+        this.data = data;
+    }
+    
+    public MySQLLocalInfileDataPacket(final MySQLPacketPayload payload) {
+        data = new byte[payload.getByteBuf().readableBytes()];
+        payload.getByteBuf().readBytes(data);
+    }
+    
+    /**
+     * Judge whether this packet terminates the file content.
+     *
+     * @return is end of data or not
+     */
+    public boolean isEndOfData() {
+        return 0 == data.length;
+    }
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.writeBytes(data);
+    }
+}
@@ -15,36 +15,32 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.proxy.frontend.executor;
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query;
 
 import lombok.Getter;
-import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
-
-import java.util.concurrent.ExecutorService;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 /**
- * User executor group.
+ * LOCAL INFILE request packet for MySQL.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_local_infile_request.html">LOCAL INFILE Request</a>
  */
-public final class UserExecutorGroup {
-    
-    private static final String NAME_FORMAT = "Command-%d";
-    
-    private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
-    
-    @Getter
-    private final ExecutorService executorService;
-    
-    private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
-        executorService = executorServiceManager.getExecutorService();
-    }
+@RequiredArgsConstructor
+@Getter
+public final class MySQLLocalInfileRequestPacket extends MySQLPacket {
     
     /**
-     * Get instance of user executor group.
-     *
-     * @return user executor group
+     * Header of LOCAL INFILE request packet.
      */
-    public static UserExecutorGroup getInstance() {
-        return INSTANCE;
+    public static final int HEADER = 0xfb;
+    
+    private final String fileName;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(HEADER);
+        payload.writeStringEOF(fileName);
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.handshake;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.db.protocol.mysql.codec.compression.MySQLZstdCompressionAlgorithm;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
@@ -52,6 +53,8 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
     
     private int multiStatementsOption;
     
+    private int zstdCompressionLevel = MySQLZstdCompressionAlgorithm.DEFAULT_COMPRESSION_LEVEL;
+    
     public MySQLHandshakeResponse41Packet(final MySQLPacketPayload payload) {
         capabilityFlags = payload.readInt4();
         multiStatementsOption = readMultiStatementsOption(capabilityFlags);
@@ -62,6 +65,8 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
         authResponse = readAuthResponse(payload);
         database = readDatabase(payload);
         authPluginName = readAuthPluginName(payload);
+        skipConnectAttributes(payload);
+        zstdCompressionLevel = readZstdCompressionLevel(payload);
     }
     
     private int readMultiStatementsOption(final int capabilityFlags) {
@@ -88,6 +93,18 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
         return 0 == (capabilityFlags & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue()) ? null : payload.readStringNul();
     }
     
+    private void skipConnectAttributes(final MySQLPacketPayload payload) {
+        if (0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_CONNECT_ATTRS.getValue()) && payload.getByteBuf().isReadable()) {
+            payload.skipReserved((int) payload.readIntLenenc());
+        }
+    }
+    
+    private int readZstdCompressionLevel(final MySQLPacketPayload payload) {
+        return 0 == (capabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue()) || !payload.getByteBuf().isReadable()
+                ? MySQLZstdCompressionAlgorithm.DEFAULT_COMPRESSION_LEVEL
+                : payload.readInt1();
+    }
+    
     /**
      * Set database.
      *
@@ -118,6 +135,7 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
         writeAuthResponse(payload);
         writeDatabase(payload);
         writeAuthPluginName(payload);
+        writeZstdCompressionLevel(payload);
     }
     
     private void writeAuthResponse(final MySQLPacketPayload payload) {
@@ -142,4 +160,10 @@ public final class MySQLHandshakeResponse41Packet extends MySQLPacket {
             payload.writeStringNul(authPluginName);
         }
     }
+    
+    private void writeZstdCompressionLevel(final MySQLPacketPayload payload) {
+        if (0 != (capabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue())) {
+            payload.writeInt1(zstdCompressionLevel);
+        }
+    }
 }
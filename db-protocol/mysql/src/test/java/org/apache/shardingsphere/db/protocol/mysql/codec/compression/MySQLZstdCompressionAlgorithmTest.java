@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLZstdCompressionAlgorithmTest {
+    
+    @Test
+    void assertCompressAndDecompress() {
+        MySQLCompressionAlgorithm algorithm = new MySQLZstdCompressionAlgorithm(MySQLZstdCompressionAlgorithm.DEFAULT_COMPRESSION_LEVEL);
+        byte[] expected = new byte[1024];
+        Arrays.fill(expected, (byte) 'a');
+        ByteBuf compressed = Unpooled.buffer();
+        assertTrue(algorithm.compress(Unpooled.directBuffer().writeBytes(expected), compressed));
+        ByteBuf actual = Unpooled.buffer();
+        algorithm.decompress(compressed, actual, expected.length);
+        assertThat(Arrays.copyOf(actual.array(), actual.readableBytes()), is(expected));
+        algorithm.close();
+    }
+    
+    @Test
+    void assertCompressIncompressibleBytes() {
+        MySQLCompressionAlgorithm algorithm = new MySQLZstdCompressionAlgorithm(MySQLZstdCompressionAlgorithm.DEFAULT_COMPRESSION_LEVEL);
+        ByteBuf compressed = Unpooled.buffer();
+        assertFalse(algorithm.compress(Unpooled.wrappedBuffer(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}), compressed));
+        assertThat(compressed.readableBytes(), is(0));
+        algorithm.close();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.codec.compression.MySQLZlibCompressionAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MySQLCompressionHandlerTest {
+    
+    private EmbeddedChannel channel;
+    
+    @BeforeEach
+    void setUp() {
+        channel = new EmbeddedChannel(new MySQLCompressionHandler(new MySQLZlibCompressionAlgorithm()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertWriteUncompressedPacket() {
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(5));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(readBytes(actual), is(new byte[]{1, 0, 0, 1, 0}));
+        actual.release();
+    }
+    
+    @Test
+    void assertWriteCompressedPacketsUntilFlush() throws DataFormatException {
+        byte[] packet = new byte[500];
+        Arrays.fill(packet, (byte) 'a');
+        channel.write(Unpooled.wrappedBuffer(packet));
+        channel.write(Unpooled.wrappedBuffer(packet));
+        assertNull(channel.readOutbound());
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(1000));
+        assertThat(compressedLength, is(actual.readableBytes()));
+        byte[] expected = new byte[1000];
+        Arrays.fill(expected, (byte) 'a');
+        assertThat(inflate(readBytes(actual), 1000), is(expected));
+        actual.release();
+    }
+    
+    @Test
+    void assertReadCompressedPacket() {
+        byte[] packet = new byte[200];
+        Arrays.fill(packet, (byte) 'b');
+        byte[] compressed = deflate(packet);
+        ByteBuf frame = Unpooled.buffer().writeMediumLE(compressed.length).writeByte(3).writeMediumLE(packet.length).writeBytes(compressed);
+        channel.writeInbound(frame.readRetainedSlice(10));
+        assertNull(channel.readInbound());
+        channel.writeInbound(frame);
+        ByteBuf actual = channel.readInbound();
+        assertThat(readBytes(actual), is(packet));
+        actual.release();
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1, 0, 0, 1, 0}));
+        ByteBuf response = channel.readOutbound();
+        assertThat(response.getUnsignedByte(3), is((short) 4));
+        response.release();
+    }
+    
+    @Test
+    void assertReadUncompressedPacket() {
+        channel.writeInbound(Unpooled.buffer().writeMediumLE(5).writeByte(0).writeMediumLE(0).writeBytes(new byte[]{1, 0, 0, 0, 1}));
+        ByteBuf actual = channel.readInbound();
+        assertThat(readBytes(actual), is(new byte[]{1, 0, 0, 0, 1}));
+        actual.release();
+    }
+    
+    private byte[] readBytes(final ByteBuf byteBuf) {
+        byte[] result = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(result);
+        return result;
+    }
+    
+    private byte[] deflate(final byte[] input) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(input);
+        deflater.finish();
+        byte[] buffer = new byte[input.length];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+        return Arrays.copyOf(buffer, length);
+    }
+    
+    private byte[] inflate(final byte[] input, final int uncompressedLength) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        inflater.setInput(input);
+        byte[] result = new byte[uncompressedLength];
+        inflater.inflate(result);
+        inflater.end();
+        return result;
+    }
+}
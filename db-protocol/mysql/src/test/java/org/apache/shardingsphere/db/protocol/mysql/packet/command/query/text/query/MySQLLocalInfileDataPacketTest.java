@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MySQLLocalInfileDataPacketTest {
+    
+    @Test
+    void assertNewWithData() {
+        MySQLLocalInfileDataPacket actual = new MySQLLocalInfileDataPacket(new MySQLPacketPayload(Unpooled.wrappedBuffer("1,foo\n".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+        assertThat(actual.getData(), is("1,foo\n".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.isEndOfData(), is(false));
+    }
+    
+    @Test
+    void assertNewWithEndOfData() {
+        assertThat(new MySQLLocalInfileDataPacket(new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8)).isEndOfData(), is(true));
+    }
+    
+    @Test
+    void assertWrite() {
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class);
+        byte[] data = "1,foo\n".getBytes(StandardCharsets.UTF_8);
+        new MySQLLocalInfileDataPacket(data).write(payload);
+        verify(payload).writeBytes(data);
+    }
+}
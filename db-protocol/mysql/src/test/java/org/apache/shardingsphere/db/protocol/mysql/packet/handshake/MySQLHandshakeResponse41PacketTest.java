@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.handshake;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
@@ -125,6 +126,18 @@ class MySQLHandshakeResponse41PacketTest {
         verify(payload).skipReserved(23);
     }
     
+    @Test
+    void assertNewWithPayloadWithZstdCompressionAlgorithm() {
+        when(payload.readInt1()).thenReturn(MySQLConstants.DEFAULT_CHARSET.getId(), 7);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue(), 1000);
+        when(payload.readStringNul()).thenReturn("root");
+        when(payload.readStringNulByBytes()).thenReturn(new byte[]{1});
+        when(payload.getByteBuf()).thenReturn(Unpooled.wrappedBuffer(new byte[]{7}));
+        MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(payload);
+        assertThat(actual.getCapabilityFlags(), is(MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue()));
+        assertThat(actual.getZstdCompressionLevel(), is(7));
+    }
+    
     @Test
     void assertWriteWithDatabase() {
         MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(100, MySQLConstants.DEFAULT_CHARSET.getId(), "root");
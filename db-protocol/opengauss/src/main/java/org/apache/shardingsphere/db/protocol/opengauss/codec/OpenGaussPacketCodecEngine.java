@@ -33,6 +33,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacket
 import org.apache.shardingsphere.infra.exception.postgresql.vendor.PostgreSQLVendorError;
 
 import java.nio.charset.Charset;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -53,6 +54,8 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
     
     private final List<ByteBuf> pendingMessages = new LinkedList<>();
     
+    private int syncedPendingMessageCount;
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= (startupPhase ? 0 : MESSAGE_TYPE_LENGTH) + PAYLOAD_LENGTH;
@@ -67,18 +70,25 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
             }
             int payloadLength = in.getInt(in.readerIndex() + 1);
             if (in.readableBytes() < MESSAGE_TYPE_LENGTH + payloadLength) {
-                return;
+                break;
             }
             byte type = in.getByte(in.readerIndex());
             CommandPacketType commandPacketType = OpenGaussCommandPacketType.valueOf(type);
             if (requireAggregation(commandPacketType)) {
                 pendingMessages.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
-            } else if (pendingMessages.isEmpty()) {
-                out.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
+            } else if (PostgreSQLCommandPacketType.SYNC_COMMAND == commandPacketType && !pendingMessages.isEmpty()) {
+                pendingMessages.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
+                syncedPendingMessageCount = pendingMessages.size();
             } else {
-                handlePendingMessages(context, in, out, payloadLength);
+                handleSyncedPendingMessages(context, out);
+                if (pendingMessages.isEmpty()) {
+                    out.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
+                } else {
+                    handlePendingMessages(context, in, out, payloadLength);
+                }
             }
         }
+        handleSyncedPendingMessages(context, out);
     }
     
     private void handleStartupPhase(final ByteBuf in, final List<Object> out) {
@@ -98,6 +108,20 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
                 && PostgreSQLCommandPacketType.SYNC_COMMAND != commandPacketType && PostgreSQLCommandPacketType.FLUSH_COMMAND != commandPacketType;
     }
     
+    private void handleSyncedPendingMessages(final ChannelHandlerContext context, final List<Object> out) {
+        if (0 == syncedPendingMessageCount) {
+            return;
+        }
+        CompositeByteBuf result = context.alloc().compositeBuffer(syncedPendingMessageCount);
+        Iterator<ByteBuf> iterator = pendingMessages.iterator();
+        for (int i = 0; i < syncedPendingMessageCount; i++) {
+            result.addComponent(true, iterator.next());
+            iterator.remove();
+        }
+        out.add(result);
+        syncedPendingMessageCount = 0;
+    }
+    
     private void handlePendingMessages(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int payloadLength) {
         CompositeByteBuf result = context.alloc().compositeBuffer(pendingMessages.size() + 1);
         result.addComponents(true, pendingMessages).addComponent(true, in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
@@ -20,7 +20,11 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.admin.PostgreSQLUnsupportedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLPipelinedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
@@ -33,6 +37,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -60,7 +65,30 @@ public final class PostgreSQLCommandPacketFactory {
             PostgreSQLPacketPayload slicedPayload = new PostgreSQLPacketPayload(payload.getByteBuf().readSlice(length), payload.getCharset());
             result.add(getPostgreSQLCommandPacket(type, slicedPayload));
         }
-        return new PostgreSQLAggregatedCommandPacket(result);
+        return newAggregatedInstance(result);
+    }
+    
+    /**
+     * Create new instance of aggregated command packet.
+     * 
+     * <p>Packets of more than one sync are split at each sync into a pipelined command packet.</p>
+     *
+     * @param packets packets of extended query messages
+     * @return created instance
+     */
+    public static PostgreSQLCommandPacket newAggregatedInstance(final List<PostgreSQLCommandPacket> packets) {
+        List<PostgreSQLAggregatedCommandPacket> result = new LinkedList<>();
+        int beginIndex = 0;
+        for (int i = 0; i < packets.size(); i++) {
+            if (packets.get(i) instanceof PostgreSQLComSyncPacket) {
+                result.add(new PostgreSQLAggregatedCommandPacket(packets.subList(beginIndex, i + 1)));
+                beginIndex = i + 1;
+            }
+        }
+        if (beginIndex < packets.size()) {
+            result.add(new PostgreSQLAggregatedCommandPacket(packets.subList(beginIndex, packets.size())));
+        }
+        return result.size() > 1 ? new PostgreSQLPipelinedCommandPacket(result) : new PostgreSQLAggregatedCommandPacket(packets);
     }
     
     private static PostgreSQLCommandPacket getPostgreSQLCommandPacket(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLPacketPayload payload) {
@@ -81,6 +109,12 @@ public final class PostgreSQLCommandPacketFactory {
                 return new PostgreSQLComClosePacket(payload);
             case FLUSH_COMMAND:
                 return new PostgreSQLComFlushPacket(payload);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataPacket(payload);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDonePacket(payload);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailPacket(payload);
             case TERMINATE:
                 return new PostgreSQLComTerminationPacket(payload);
             default:
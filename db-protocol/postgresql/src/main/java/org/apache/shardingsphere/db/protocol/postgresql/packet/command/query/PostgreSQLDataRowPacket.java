@@ -63,7 +63,13 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         binaryProtocolValue.write(payload, value);
     }
     
-    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
+    /**
+     * Write value of data row in text format.
+     *
+     * @param payload payload operation for PostgreSQL packet
+     * @param each value to be written
+     */
+    public static void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
         } else if (each instanceof byte[]) {
@@ -78,7 +84,7 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         }
     }
     
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
+    private static void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
             payload.writeInt4(dataBytes.length);
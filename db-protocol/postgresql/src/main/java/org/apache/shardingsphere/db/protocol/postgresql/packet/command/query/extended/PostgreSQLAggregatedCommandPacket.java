@@ -22,6 +22,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
@@ -49,6 +50,9 @@ public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPa
         int batchPacketEndIndex = -1;
         int index = 0;
         for (PostgreSQLCommandPacket each : packets) {
+            if (each instanceof PostgreSQLComSyncPacket) {
+                break;
+            }
             if (each instanceof PostgreSQLComParsePacket) {
                 if (++parsePacketCount > 1) {
                     break;
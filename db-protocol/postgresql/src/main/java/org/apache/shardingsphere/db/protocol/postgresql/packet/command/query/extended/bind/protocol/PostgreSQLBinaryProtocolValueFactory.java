@@ -23,7 +23,9 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 /**
@@ -34,6 +36,8 @@ public final class PostgreSQLBinaryProtocolValueFactory {
     
     private static final Map<BinaryColumnType, PostgreSQLBinaryProtocolValue> BINARY_PROTOCOL_VALUES = new HashMap<>();
     
+    private static final Collection<BinaryColumnType> BINARY_RESULT_COLUMN_TYPES = new HashSet<>();
+    
     static {
         setUnspecifiedBinaryProtocolValue();
         setStringLenencBinaryProtocolValue();
@@ -54,6 +58,8 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         setStringArrayBinaryProtocolValue();
         setByteaBinaryProtocolValue();
         setUUIDBinaryProtocolValue();
+        setBoolBinaryProtocolValue();
+        setBinaryResultColumnTypes();
     }
     
     private static void setUnspecifiedBinaryProtocolValue() {
@@ -65,6 +71,7 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         PostgreSQLStringBinaryProtocolValue binaryProtocolValue = new PostgreSQLStringBinaryProtocolValue();
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.VARCHAR, binaryProtocolValue);
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.CHAR, binaryProtocolValue);
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.TEXT, binaryProtocolValue);
     }
     
     private static void setInt8BinaryProtocolValue() {
@@ -145,6 +152,27 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.UUID, new PostgreSQLUUIDBinaryProtocolValue());
     }
     
+    private static void setBoolBinaryProtocolValue() {
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.BOOL, new PostgreSQLBoolBinaryProtocolValue());
+    }
+    
+    private static void setBinaryResultColumnTypes() {
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.VARCHAR);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.CHAR);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.TEXT);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.INT8);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.INT4);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.INT2);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.FLOAT8);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.FLOAT4);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.NUMERIC);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.DATE);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.TIMESTAMP);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.BYTEA);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.UUID);
+        BINARY_RESULT_COLUMN_TYPES.add(PostgreSQLColumnType.BOOL);
+    }
+    
     /**
      * Get binary protocol value.
      *
@@ -155,4 +183,16 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         Preconditions.checkArgument(BINARY_PROTOCOL_VALUES.containsKey(binaryColumnType), "Cannot find PostgreSQL type '%s' in column type when process binary protocol value", binaryColumnType);
         return BINARY_PROTOCOL_VALUES.get(binaryColumnType);
     }
+    
+    /**
+     * Judge whether values of column type can be written in binary format to data row.
+     * 
+     * <p>Column types which binary protocol value can only read parameters, such as arrays, are not included.</p>
+     *
+     * @param binaryColumnType binary column type
+     * @return can be written in binary format or not
+     */
+    public static boolean isBinaryResultSupported(final BinaryColumnType binaryColumnType) {
+        return BINARY_RESULT_COLUMN_TYPES.contains(binaryColumnType);
+    }
 }
@@ -23,6 +23,7 @@ import org.postgresql.jdbc.TimestampUtils;
 import org.postgresql.util.PSQLException;
 
 import java.sql.Date;
+import java.time.LocalDate;
 
 /**
  * Binary protocol value for date for PostgreSQL.
@@ -46,7 +47,7 @@ public final class PostgreSQLDateBinaryProtocolValue implements PostgreSQLBinary
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
         byte[] binaryDate = new byte[4];
-        new TimestampUtils(false, null).toBinDate(null, binaryDate, (Date) value);
+        new TimestampUtils(false, null).toBinDate(null, binaryDate, value instanceof LocalDate ? Date.valueOf((LocalDate) value) : (Date) value);
         payload.writeBytes(binaryDate);
     }
 }
@@ -21,7 +21,6 @@ import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacket
 import org.postgresql.util.ByteConverter;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Binary protocol value for numeric for PostgreSQL.
@@ -30,7 +29,7 @@ public final class PostgreSQLNumericBinaryProtocolValue implements PostgreSQLBin
     
     @Override
     public int getColumnLength(final Object value) {
-        return value instanceof BigDecimal ? ByteConverter.numeric((BigDecimal) value).length : value.toString().getBytes(StandardCharsets.UTF_8).length;
+        return ByteConverter.numeric(toBigDecimal(value)).length;
     }
     
     @Override
@@ -42,6 +41,10 @@ public final class PostgreSQLNumericBinaryProtocolValue implements PostgreSQLBin
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeBytes(value instanceof BigDecimal ? ByteConverter.numeric((BigDecimal) value) : value.toString().getBytes(StandardCharsets.UTF_8));
+        payload.writeBytes(ByteConverter.numeric(toBigDecimal(value)));
+    }
+    
+    private BigDecimal toBigDecimal(final Object value) {
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
     }
 }
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ex
 
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Binary protocol value for string for PostgreSQL.
  */
@@ -26,7 +28,7 @@ public final class PostgreSQLStringBinaryProtocolValue implements PostgreSQLBina
     
     @Override
     public int getColumnLength(final Object value) {
-        return value.toString().length();
+        return value instanceof byte[] ? ((byte[]) value).length : value.toString().getBytes(StandardCharsets.UTF_8).length;
     }
     
     @Override
@@ -41,7 +43,7 @@ public final class PostgreSQLStringBinaryProtocolValue implements PostgreSQLBina
         if (value instanceof byte[]) {
             payload.writeBytes((byte[]) value);
         } else {
-            payload.writeStringEOF(value.toString());
+            payload.writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
         }
     }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 
 /**
  * Binary protocol value for time for PostgreSQL.
@@ -39,6 +40,6 @@ public final class PostgreSQLTimeBinaryProtocolValue implements PostgreSQLBinary
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeInt8(PostgreSQLBinaryTimestampUtils.toPostgreSQLTime((Timestamp) value));
+        payload.writeInt8(PostgreSQLBinaryTimestampUtils.toPostgreSQLTime(value instanceof LocalDateTime ? Timestamp.valueOf((LocalDateTime) value) : (Timestamp) value));
     }
 }
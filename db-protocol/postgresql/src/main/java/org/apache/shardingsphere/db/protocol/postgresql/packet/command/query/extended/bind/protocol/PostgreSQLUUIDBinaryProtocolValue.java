@@ -41,7 +41,7 @@ public final class PostgreSQLUUIDBinaryProtocolValue implements PostgreSQLBinary
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        UUID uuid = (UUID) value;
+        UUID uuid = value instanceof UUID ? (UUID) value : UUID.fromString(value.toString());
         payload.writeInt8(uuid.getMostSignificantBits());
         payload.writeInt8(uuid.getLeastSignificantBits());
     }
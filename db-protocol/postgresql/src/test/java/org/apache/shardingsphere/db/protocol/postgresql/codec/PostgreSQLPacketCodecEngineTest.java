@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -87,6 +89,51 @@ class PostgreSQLPacketCodecEngineTest {
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    void assertDecodePipelinedMessagesOfMultipleSyncs() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        writeEmptyMessage(in, 'P');
+        writeEmptyMessage(in, 'S');
+        writeEmptyMessage(in, 'P');
+        writeEmptyMessage(in, 'S');
+        writeEmptyMessage(in, 'B');
+        List<Object> out = new LinkedList<>();
+        PostgreSQLPacketCodecEngine engine = createStartedUpEngine();
+        engine.decode(context, in, out);
+        assertThat(out.size(), is(1));
+        assertThat(((ByteBuf) out.get(0)).readableBytes(), is(20));
+        writeEmptyMessage(in, 'S');
+        engine.decode(context, in, out);
+        assertThat(out.size(), is(2));
+        assertThat(((ByteBuf) out.get(1)).readableBytes(), is(10));
+    }
+    
+    @Test
+    void assertDecodeSyncedMessagesBeforeSimpleQuery() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        writeEmptyMessage(in, 'P');
+        writeEmptyMessage(in, 'S');
+        writeEmptyMessage(in, 'Q');
+        List<Object> out = new LinkedList<>();
+        createStartedUpEngine().decode(context, in, out);
+        assertThat(out.size(), is(2));
+        assertThat(((ByteBuf) out.get(0)).readableBytes(), is(10));
+        assertThat(((ByteBuf) out.get(1)).readableBytes(), is(5));
+    }
+    
+    private PostgreSQLPacketCodecEngine createStartedUpEngine() {
+        PostgreSQLPacketCodecEngine result = new PostgreSQLPacketCodecEngine();
+        result.decode(context, Unpooled.buffer().writeInt(8).writeInt(196608), new LinkedList<>());
+        return result;
+    }
+    
+    private void writeEmptyMessage(final ByteBuf byteBuf, final char type) {
+        byteBuf.writeByte(type);
+        byteBuf.writeInt(4);
+    }
+    
     @Test
     void assertEncodePostgreSQLPacket() {
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
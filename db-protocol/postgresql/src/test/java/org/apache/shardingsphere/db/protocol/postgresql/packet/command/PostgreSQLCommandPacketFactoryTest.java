@@ -18,7 +18,15 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 
 import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLPipelinedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.flush.PostgreSQLComFlushPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLComTerminationPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -27,7 +35,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -69,6 +81,25 @@ class PostgreSQLCommandPacketFactoryTest {
         assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.SYNC_COMMAND, payload), instanceOf(PostgreSQLAggregatedCommandPacket.class));
     }
     
+    @Test
+    void assertNewAggregatedInstanceWithOneSync() {
+        List<PostgreSQLCommandPacket> packets = Arrays.asList(mock(PostgreSQLComParsePacket.class), mock(PostgreSQLComSyncPacket.class));
+        assertThat(PostgreSQLCommandPacketFactory.newAggregatedInstance(packets), instanceOf(PostgreSQLAggregatedCommandPacket.class));
+    }
+    
+    @Test
+    void assertNewAggregatedInstanceWithMultipleSyncs() {
+        List<PostgreSQLCommandPacket> packets = Arrays.asList(mock(PostgreSQLComParsePacket.class), mock(PostgreSQLComSyncPacket.class),
+                mock(PostgreSQLComExecutePacket.class), mock(PostgreSQLComSyncPacket.class), mock(PostgreSQLComFlushPacket.class));
+        PostgreSQLCommandPacket actual = PostgreSQLCommandPacketFactory.newAggregatedInstance(packets);
+        assertThat(actual, instanceOf(PostgreSQLPipelinedCommandPacket.class));
+        List<PostgreSQLAggregatedCommandPacket> actualPackets = ((PostgreSQLPipelinedCommandPacket) actual).getPackets();
+        assertThat(actualPackets.size(), is(3));
+        assertThat(actualPackets.get(0).getPackets(), is(packets.subList(0, 2)));
+        assertThat(actualPackets.get(1).getPackets(), is(packets.subList(2, 4)));
+        assertThat(actualPackets.get(2).getPackets(), is(packets.subList(4, 5)));
+    }
+    
     @Test
     void assertNewInstanceWithCloseComPacket() {
         assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.CLOSE_COMMAND, payload), instanceOf(PostgreSQLAggregatedCommandPacket.class));
@@ -79,6 +110,25 @@ class PostgreSQLCommandPacketFactoryTest {
         assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.FLUSH_COMMAND, payload), instanceOf(PostgreSQLAggregatedCommandPacket.class));
     }
     
+    @Test
+    void assertNewInstanceWithCopyDataComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        when(payload.readInt4()).thenReturn(4);
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DATA, payload), instanceOf(PostgreSQLComCopyDataPacket.class));
+    }
+    
+    @Test
+    void assertNewInstanceWithCopyDoneComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DONE, payload), instanceOf(PostgreSQLComCopyDonePacket.class));
+    }
+    
+    @Test
+    void assertNewInstanceWithCopyFailComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_FAIL, payload), instanceOf(PostgreSQLComCopyFailPacket.class));
+    }
+    
     @Test
     void assertNewInstanceWithTerminationComPacket() {
         when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
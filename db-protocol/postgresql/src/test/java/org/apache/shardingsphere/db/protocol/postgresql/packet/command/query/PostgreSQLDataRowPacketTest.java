@@ -118,6 +118,14 @@ class PostgreSQLDataRowPacketTest {
         verify(payload).writeInt4(value);
     }
     
+    @Test
+    void assertWriteBinaryBool() {
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton(new BinaryCell(PostgreSQLColumnType.BOOL, true)));
+        actual.write(payload);
+        verify(payload).writeInt4(1);
+        verify(payload).writeInt1(1);
+    }
+    
     @Test
     void assertGetIdentifier() {
         assertThat(new PostgreSQLDataRowPacket(Collections.emptyList()).getIdentifier(), is(PostgreSQLMessagePacketType.DATA_ROW));
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLEncodedDataRowPacketTest {
+    
+    @Test
+    void assertWrite() {
+        ByteBuf encodedValues = Unpooled.buffer();
+        PostgreSQLPacketPayload encodedPayload = new PostgreSQLPacketPayload(encodedValues, StandardCharsets.UTF_8);
+        encodedPayload.writeInt2(2);
+        PostgreSQLDataRowPacket.writeTextValue(encodedPayload, "value");
+        PostgreSQLDataRowPacket.writeTextValue(encodedPayload, null);
+        ByteBuf expected = Unpooled.buffer();
+        new PostgreSQLDataRowPacket(Arrays.asList("value", null)).write(new PostgreSQLPacketPayload(expected, StandardCharsets.UTF_8));
+        ByteBuf actual = Unpooled.buffer();
+        new PostgreSQLEncodedDataRowPacket(encodedValues).write(new PostgreSQLPacketPayload(actual, StandardCharsets.UTF_8));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertGetIdentifier() {
+        assertThat(new PostgreSQLEncodedDataRowPacket(Unpooled.buffer()).getIdentifier(), is(PostgreSQLMessagePacketType.DATA_ROW));
+    }
+    
+    @Test
+    void assertRelease() {
+        ByteBuf encodedValues = Unpooled.buffer();
+        PostgreSQLEncodedDataRowPacket actual = new PostgreSQLEncodedDataRowPacket(encodedValues);
+        assertThat(actual.retain().refCnt(), is(2));
+        actual.release(2);
+        assertThat(encodedValues.refCnt(), is(0));
+    }
+}
@@ -22,7 +22,9 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PostgreSQLBinaryProtocolValueFactoryTest {
     
@@ -86,6 +88,20 @@ class PostgreSQLBinaryProtocolValueFactoryTest {
         assertThat(binaryProtocolValue, instanceOf(PostgreSQLTimeBinaryProtocolValue.class));
     }
     
+    @Test
+    void assertGetBoolBinaryProtocolValue() {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLColumnType.BOOL);
+        assertThat(binaryProtocolValue, instanceOf(PostgreSQLBoolBinaryProtocolValue.class));
+    }
+    
+    @Test
+    void assertIsBinaryResultSupported() {
+        assertTrue(PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLColumnType.NUMERIC));
+        assertTrue(PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLColumnType.UUID));
+        assertFalse(PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLColumnType.INT4_ARRAY));
+        assertFalse(PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLColumnType.JSON));
+    }
+    
     @Test
     void assertGetBinaryProtocolValueExThrown() {
         assertThrows(IllegalArgumentException.class, () -> PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLColumnType.XML));
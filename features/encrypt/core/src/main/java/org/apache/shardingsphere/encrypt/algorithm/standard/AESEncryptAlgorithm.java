@@ -30,14 +30,13 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithmMetaData;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -55,10 +54,18 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         metaData = new EncryptAlgorithmMetaData();
         secretKey = createSecretKey(props);
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private byte[] createSecretKey(final Properties props) {
@@ -72,26 +79,47 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plainValue, final EncryptContext encryptContext) {
-        if (null == plainValue) {
-            return null;
-        }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(result);
+        return null == plainValue ? null : doEncrypt(encryptCipher.get(), plainValue);
     }
     
     @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final Object cipherValue, final EncryptContext encryptContext) {
-        if (null == cipherValue) {
-            return null;
+        return null == cipherValue ? null : doDecrypt(decryptCipher.get(), cipherValue);
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> batchEncrypt(final List<Object> plainValues, final EncryptContext encryptContext) {
+        Cipher cipher = encryptCipher.get();
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : doEncrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    private String doEncrypt(final Cipher cipher, final Object plainValue) throws GeneralSecurityException {
+        return Base64.getEncoder().encodeToString(doFinal(encryptCipher, cipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    private String doDecrypt(final Cipher cipher, final Object cipherValue) throws GeneralSecurityException {
+        return new String(doFinal(decryptCipher, cipher, Base64.getDecoder().decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] doFinal(final ThreadLocal<Cipher> cipherHolder, final Cipher cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipherHolder.remove();
+            throw ex;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int mode) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(mode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
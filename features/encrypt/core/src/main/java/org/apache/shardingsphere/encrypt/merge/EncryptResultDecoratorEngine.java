@@ -40,7 +40,7 @@ public final class EncryptResultDecoratorEngine implements ResultDecoratorEngine
     public Optional<ResultDecorator<EncryptRule>> newInstance(final ShardingSphereDatabase database,
                                                               final EncryptRule encryptRule, final ConfigurationProperties props, final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return Optional.of(new EncryptDQLResultDecorator(database, encryptRule, (SelectStatementContext) sqlStatementContext));
+            return Optional.of(new EncryptDQLResultDecorator(database, encryptRule, (SelectStatementContext) sqlStatementContext, props));
         }
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return Optional.of(new EncryptDALResultDecorator());
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encrypt column decryptor.
+ */
+@RequiredArgsConstructor
+public final class EncryptColumnDecryptor {
+    
+    private final EncryptAlgorithm encryptor;
+    
+    private final EncryptContext encryptContext;
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @return plain value
+     */
+    public Object decrypt(final Object cipherValue) {
+        return null == cipherValue ? null : encryptor.decrypt(cipherValue, encryptContext);
+    }
+    
+    /**
+     * Decrypt values in batch.
+     *
+     * @param cipherValues cipher values
+     * @return plain values
+     */
+    public List<Object> decrypt(final List<Object> cipherValues) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.Optional;
+
+/**
+ * Encrypt column decryptor builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EncryptColumnDecryptorBuilder {
+    
+    /**
+     * Build column decryptors.
+     *
+     * @param database database
+     * @param encryptRule encrypt rule
+     * @param selectStatementContext select statement context
+     * @return column decryptors indexed by column index minus one, null element means the column does not need decrypt
+     */
+    public static EncryptColumnDecryptor[] build(final ShardingSphereDatabase database, final EncryptRule encryptRule, final SelectStatementContext selectStatementContext) {
+        EncryptColumnDecryptor[] result = new EncryptColumnDecryptor[selectStatementContext.getProjectionsContext().getExpandProjections().size()];
+        String schemaName = null;
+        for (int i = 0; i < result.length; i++) {
+            Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(i + 1);
+            if (!columnProjection.isPresent()) {
+                continue;
+            }
+            String originalTableName = columnProjection.get().getOriginalTable().getValue();
+            String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+            Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+            if (!encryptTable.isPresent() || !encryptTable.get().isEncryptColumn(originalColumnName)) {
+                continue;
+            }
+            if (null == schemaName) {
+                schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                        .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+            }
+            EncryptContext encryptContext = EncryptContextBuilder.build(database.getName(), schemaName, originalTableName, originalColumnName);
+            result[i] = new EncryptColumnDecryptor(encryptTable.get().getEncryptColumn(originalColumnName).getCipher().getEncryptor(), encryptContext);
+        }
+        return result;
+    }
+}
@@ -21,12 +21,17 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * DQL result decorator for encrypt.
  */
@@ -39,13 +44,28 @@ public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptR
     
     private final SelectStatementContext selectStatementContext;
     
+    private final ConfigurationProperties props;
+    
     @Override
     public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, encryptRule, selectStatementContext, new TransparentMergedResult(queryResult));
+        return decorate(new TransparentMergedResult(queryResult));
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        return decorate(mergedResult);
+    }
+    
+    private MergedResult decorate(final MergedResult mergedResult) {
+        int batchSize = props.getValue(ConfigurationPropertyKey.ENCRYPT_PARALLEL_DECRYPT_BATCH_SIZE);
+        if (batchSize <= 0) {
+            return new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        }
+        EncryptColumnDecryptor[] columnDecryptors = EncryptColumnDecryptorBuilder.build(database, encryptRule, selectStatementContext);
+        if (Arrays.stream(columnDecryptors).allMatch(Objects::isNull)) {
+            return mergedResult;
+        }
+        int executorSize = props.getValue(ConfigurationPropertyKey.ENCRYPT_PARALLEL_DECRYPT_EXECUTOR_SIZE);
+        return new EncryptReadAheadMergedResult(mergedResult, columnDecryptors, batchSize, encryptRule.getResource().getExecutorService(executorSize));
     }
 }
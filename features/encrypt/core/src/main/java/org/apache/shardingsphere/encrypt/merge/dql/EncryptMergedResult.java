@@ -19,10 +19,7 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
-import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
-import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
@@ -30,7 +27,6 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Optional;
 
 /**
  * Merged result for encrypt.
@@ -46,6 +42,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private EncryptColumnDecryptor[] columnDecryptors;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -53,20 +51,15 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+        EncryptColumnDecryptor columnDecryptor = getColumnDecryptor(columnIndex);
+        return null == columnDecryptor ? mergedResult.getValue(columnIndex, type) : columnDecryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
+    }
+    
+    private EncryptColumnDecryptor getColumnDecryptor(final int columnIndex) {
+        if (null == columnDecryptors) {
+            columnDecryptors = EncryptColumnDecryptorBuilder.build(database, encryptRule, selectStatementContext);
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        return columnDecryptors.length < columnIndex ? null : columnDecryptors[columnIndex - 1];
     }
     
     @Override
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded executor to decrypt encrypted query results in parallel.
+ * 
+ * <p>It is held by encrypt rule, created on first use and shut down when the rule is closed.
+ * When the queue is full or the executor has been shut down, the decrypt task runs on the caller thread.</p>
+ */
+public final class EncryptParallelDecryptExecutor implements AutoCloseable {
+    
+    private static final int QUEUE_SIZE_PER_THREAD = 16;
+    
+    private ExecutorService executorService;
+    
+    /**
+     * Get executor service.
+     *
+     * @param executorSize executor size, 0 means available processors
+     * @return executor service
+     */
+    public synchronized ExecutorService getExecutorService(final int executorSize) {
+        if (null == executorService) {
+            int threadSize = executorSize > 0 ? executorSize : Runtime.getRuntime().availableProcessors();
+            executorService = new ThreadPoolExecutor(threadSize, threadSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(threadSize * QUEUE_SIZE_PER_THREAD),
+                    ExecutorThreadFactoryBuilder.build("Encrypt-Decrypt-%d"), (task, executor) -> task.run());
+        }
+        return executorService;
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null != executorService) {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Merged result for encrypt which reads rows ahead and decrypts them in parallel.
+ * 
+ * <p>Rows are read from the underlying merged result on the caller thread in batches, and encrypted cells of each batch are decrypted on the worker pool.
+ * While the rows of one batch are consumed, the next batch is already read and being decrypted, and batches are handed over in the original order.</p>
+ * 
+ * <p>Values of read ahead rows are held as objects. Once a typed, calendar or stream getter is used, no more rows are read ahead,
+ * and after the rows already read ahead are consumed, the rest rows are served by the underlying merged result.</p>
+ */
+public final class EncryptReadAheadMergedResult implements MergedResult {
+    
+    private static final int DECRYPT_CHUNK_SIZE = 128;
+    
+    private final MergedResult mergedResult;
+    
+    private final EncryptColumnDecryptor[] columnDecryptors;
+    
+    private final int batchSize;
+    
+    private final ExecutorService executorService;
+    
+    private List<Object[]> currentRows = Collections.emptyList();
+    
+    private int rowIndex;
+    
+    private Object[] currentRow;
+    
+    private RowBatch pendingBatch;
+    
+    private boolean exhausted;
+    
+    private boolean delegateRequired;
+    
+    private boolean delegating;
+    
+    private boolean wasNull;
+    
+    public EncryptReadAheadMergedResult(final MergedResult mergedResult, final EncryptColumnDecryptor[] columnDecryptors, final int batchSize, final ExecutorService executorService) {
+        this.mergedResult = mergedResult;
+        this.columnDecryptors = columnDecryptors;
+        this.batchSize = batchSize;
+        this.executorService = executorService;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (delegating) {
+            return mergedResult.next();
+        }
+        if (++rowIndex < currentRows.size()) {
+            currentRow = currentRows.get(rowIndex);
+            return true;
+        }
+        currentRow = null;
+        if (null == pendingBatch && delegateRequired && !exhausted) {
+            delegating = true;
+            return mergedResult.next();
+        }
+        RowBatch batch = null == pendingBatch ? readBatch() : pendingBatch;
+        pendingBatch = null;
+        if (null == batch) {
+            return false;
+        }
+        if (!delegateRequired) {
+            pendingBatch = readBatch();
+        }
+        currentRows = batch.await();
+        rowIndex = 0;
+        currentRow = currentRows.get(0);
+        return true;
+    }
+    
+    private RowBatch readBatch() throws SQLException {
+        if (exhausted) {
+            return null;
+        }
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        while (rows.size() < batchSize) {
+            if (!mergedResult.next()) {
+                exhausted = true;
+                break;
+            }
+            Object[] row = new Object[columnDecryptors.length];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = mergedResult.getValue(i + 1, Object.class);
+            }
+            rows.add(row);
+        }
+        return rows.isEmpty() ? null : new RowBatch(rows, submitDecryptTasks(rows));
+    }
+    
+    private Collection<Future<?>> submitDecryptTasks(final List<Object[]> rows) {
+        Collection<Future<?>> result = new LinkedList<>();
+        for (int columnIndex = 0; columnIndex < columnDecryptors.length; columnIndex++) {
+            if (null == columnDecryptors[columnIndex]) {
+                continue;
+            }
+            for (int fromIndex = 0; fromIndex < rows.size(); fromIndex += DECRYPT_CHUNK_SIZE) {
+                result.add(submitDecryptTask(rows, columnIndex, fromIndex, Math.min(fromIndex + DECRYPT_CHUNK_SIZE, rows.size())));
+            }
+        }
+        return result;
+    }
+    
+    private Future<?> submitDecryptTask(final List<Object[]> rows, final int columnIndex, final int fromIndex, final int toIndex) {
+        return executorService.submit(() -> {
+            List<Object> cipherValues = new ArrayList<>(toIndex - fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                cipherValues.add(rows.get(i)[columnIndex]);
+            }
+            List<Object> plainValues = columnDecryptors[columnIndex].decrypt(cipherValues);
+            for (int i = fromIndex; i < toIndex; i++) {
+                rows.get(i)[columnIndex] = plainValues.get(i - fromIndex);
+            }
+        });
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (delegating) {
+            EncryptColumnDecryptor columnDecryptor = columnDecryptors.length < columnIndex ? null : columnDecryptors[columnIndex - 1];
+            return null == columnDecryptor ? mergedResult.getValue(columnIndex, type) : columnDecryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
+        }
+        Object result = getReadAheadValue(columnIndex);
+        if (Object.class == type || null == result || null != columnDecryptors[columnIndex - 1]) {
+            return result;
+        }
+        delegateRequired = true;
+        if (Blob.class == type && result instanceof byte[]) {
+            return new SerialBlob((byte[]) result);
+        }
+        if (Clob.class == type && result instanceof String) {
+            return new SerialClob(((String) result).toCharArray());
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (delegating) {
+            return mergedResult.getCalendarValue(columnIndex, type, calendar);
+        }
+        delegateRequired = true;
+        return getReadAheadValue(columnIndex);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        if (delegating) {
+            return mergedResult.getInputStream(columnIndex, type);
+        }
+        delegateRequired = true;
+        Object value = getReadAheadValue(columnIndex);
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        if (value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        return new ByteArrayInputStream(getString(value).getBytes(getCharset(type)));
+    }
+    
+    private Charset getCharset(final String type) {
+        switch (type) {
+            case "Ascii":
+                return StandardCharsets.US_ASCII;
+            case "Unicode":
+                return StandardCharsets.UTF_16BE;
+            default:
+                return StandardCharsets.UTF_8;
+        }
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        if (delegating) {
+            return mergedResult.getCharacterStream(columnIndex);
+        }
+        delegateRequired = true;
+        Object value = getReadAheadValue(columnIndex);
+        if (null == value) {
+            return null;
+        }
+        return value instanceof Clob ? ((Clob) value).getCharacterStream() : new StringReader(getString(value));
+    }
+    
+    private String getString(final Object value) throws SQLException {
+        if (value instanceof Clob) {
+            return ((Clob) value).getSubString(1L, (int) ((Clob) value).length());
+        }
+        return value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : value.toString();
+    }
+    
+    private Object getReadAheadValue(final int columnIndex) throws SQLException {
+        ShardingSpherePreconditions.checkState(columnIndex <= currentRow.length, () -> new SQLFeatureNotSupportedException(String.format("Get value of derived column `%s`", columnIndex)));
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return delegating ? mergedResult.wasNull() : wasNull;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RowBatch {
+        
+        private final List<Object[]> rows;
+        
+        private final Collection<Future<?>> decryptTasks;
+        
+        List<Object[]> await() throws SQLException {
+            for (Future<?> each : decryptTasks) {
+                await(each);
+            }
+            return rows;
+        }
+        
+        private void await(final Future<?> decryptTask) throws SQLException {
+            try {
+                decryptTask.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new SQLException(ex.getCause());
+            }
+        }
+    }
+}
@@ -30,7 +30,6 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
@@ -80,19 +79,43 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<Integer> groupIndexes = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
+        List<Object> originalValues = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
-                }
+            if (!each.isEmpty() && insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                groupIndexes.add(count);
+                originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null));
             }
             count++;
         }
+        if (!groupIndexes.isEmpty()) {
+            encryptInsertValues(paramBuilder, insertStatementContext, encryptColumn, columnIndex, groupIndexes, originalValues, schemaName, tableName);
+        }
+    }
+    
+    private void encryptInsertValues(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final EncryptColumn encryptColumn, final int columnIndex,
+                                     final List<Integer> groupIndexes, final List<Object> originalValues, final String schemaName, final String tableName) {
+        String columnName = encryptColumn.getName();
+        List<Object> cipherValues = encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValues);
+        List<Object> assistedQueryValues = encryptColumn.getAssistedQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, columnName, originalValues)).orElse(null);
+        List<Object> likeQueryValues = encryptColumn.getLikeQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, columnName, originalValues)).orElse(null);
+        for (int i = 0; i < groupIndexes.size(); i++) {
+            int groupIndex = groupIndexes.get(i);
+            int paramIndex = insertStatementContext.getInsertValueContexts().get(groupIndex).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(groupIndex);
+            standardParamBuilder.addReplacedParameters(paramIndex, cipherValues.get(i));
+            Collection<Object> addedParams = new LinkedList<>();
+            if (null != assistedQueryValues) {
+                addedParams.add(assistedQueryValues.get(i));
+            }
+            if (null != likeQueryValues) {
+                addedParams.add(likeQueryValues.get(i));
+            }
+            if (!addedParams.isEmpty()) {
+                standardParamBuilder.getAddedIndexAndParameters().computeIfAbsent(paramIndex, unused -> new LinkedList<>()).addAll(addedParams);
+            }
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -105,23 +128,4 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
         return columnNames.indexOf(encryptLogicColumnName);
     }
-    
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
-                                    final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
-        String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        Collection<Object> addedParams = new LinkedList<>();
-        if (encryptColumn.getAssistedQuery().isPresent()) {
-            addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (encryptColumn.getLikeQuery().isPresent()) {
-            addedParams.add(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (!addedParams.isEmpty()) {
-            if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
-                paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
-            }
-            paramBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
-        }
-    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.route;
+
+import org.apache.shardingsphere.encrypt.constant.EncryptOrder;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.BulkLoadRouter;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Encrypt bulk load router, which rejects bulk load of encrypt tables because loaded rows are not rewritten.
+ */
+public final class EncryptBulkLoadRouter implements BulkLoadRouter<EncryptRule> {
+    
+    @Override
+    public void check(final String logicTableName, final Collection<String> assignedColumnNames, final EncryptRule rule) {
+        ShardingSpherePreconditions.checkState(!rule.findEncryptTable(logicTableName).isPresent(),
+                () -> new UnsupportedSQLOperationException(String.format("Bulk load can not run on encrypt table `%s`", logicTableName)));
+    }
+    
+    @Override
+    public Optional<BulkLoadRowRouter> createRowRouter(final String logicTableName, final List<String> fieldColumnNames,
+                                                       final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext,
+                                                       final ConfigurationProperties props, final EncryptRule rule) {
+        return Optional.empty();
+    }
+    
+    @Override
+    public int getOrder() {
+        return EncryptOrder.ORDER;
+    }
+    
+    @Override
+    public Class<EncryptRule> getTypeClass() {
+        return EncryptRule.class;
+    }
+}
@@ -23,10 +23,13 @@ import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfig
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.exception.algorithm.MismatchedEncryptAlgorithmTypeException;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptTableNotFoundException;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptParallelDecryptExecutor;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableNamesMapper;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -38,7 +41,7 @@ import java.util.Optional;
 /**
  * Encrypt rule.
  */
-public final class EncryptRule implements DatabaseRule, TableContainedRule {
+public final class EncryptRule implements DatabaseRule, TableContainedRule, ResourceHeldRule<EncryptParallelDecryptExecutor> {
     
     private final String databaseName;
     
@@ -49,6 +52,8 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     
     private final TableNamesMapper tableNamesMapper = new TableNamesMapper();
     
+    private final EncryptParallelDecryptExecutor parallelDecryptExecutor = new EncryptParallelDecryptExecutor();
+    
     public EncryptRule(final String databaseName, final EncryptRuleConfiguration ruleConfig) {
         this.databaseName = databaseName;
         configuration = ruleConfig;
@@ -56,7 +61,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
         ruleConfig.getEncryptors().forEach((key, value) -> encryptors.put(key, TypedSPILoader.getService(EncryptAlgorithm.class, value.getType(), value.getProps())));
         for (EncryptTableRuleConfiguration each : ruleConfig.getTables()) {
             each.getColumns().forEach(columnRuleConfig -> checkEncryptorType(columnRuleConfig, encryptors));
-            tables.put(each.getName().toLowerCase(), new EncryptTable(each, encryptors));
+            tables.put(each.getName().toLowerCase(), new EncryptTable(each, encryptors, ruleConfig.getEncryptors()));
             tableNamesMapper.put(each.getName());
         }
     }
@@ -114,4 +119,25 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     public TableNamesMapper getEnhancedTableMapper() {
         return getLogicTableMapper();
     }
+    
+    @Override
+    public EncryptParallelDecryptExecutor getResource() {
+        return parallelDecryptExecutor;
+    }
+    
+    @Override
+    public void addResource(final ShardingSphereDatabase database) {
+    }
+    
+    @Override
+    public void closeStaleResource(final String databaseName) {
+        if (this.databaseName.equalsIgnoreCase(databaseName)) {
+            closeStaleResource();
+        }
+    }
+    
+    @Override
+    public void closeStaleResource() {
+        parallelDecryptExecutor.close();
+    }
 }
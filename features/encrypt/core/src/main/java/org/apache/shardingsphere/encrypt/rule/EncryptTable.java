@@ -24,13 +24,17 @@ import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfigu
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptColumnNotFoundException;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptLogicColumnNotFoundException;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.cache.EncryptDerivedValueCache;
+import org.apache.shardingsphere.encrypt.rule.column.cache.EncryptDerivedValueCacheBuilder;
 import org.apache.shardingsphere.encrypt.rule.column.item.AssistedQueryColumnItem;
 import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
 import org.apache.shardingsphere.encrypt.rule.column.item.LikeQueryColumnItem;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -46,29 +50,42 @@ public final class EncryptTable {
     private final Map<String, EncryptColumn> columns;
     
     public EncryptTable(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
+        this(config, encryptors, Collections.emptyMap());
+    }
+    
+    public EncryptTable(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors, final Map<String, AlgorithmConfiguration> encryptorConfigs) {
         table = config.getName();
-        columns = createEncryptColumns(config, encryptors);
+        columns = createEncryptColumns(config, encryptors, encryptorConfigs);
     }
     
-    private Map<String, EncryptColumn> createEncryptColumns(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
+    private Map<String, EncryptColumn> createEncryptColumns(final EncryptTableRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors,
+                                                            final Map<String, AlgorithmConfiguration> encryptorConfigs) {
         Map<String, EncryptColumn> result = new CaseInsensitiveMap<>();
         for (EncryptColumnRuleConfiguration each : config.getColumns()) {
-            result.put(each.getName(), createEncryptColumn(each, encryptors));
+            result.put(each.getName(), createEncryptColumn(each, encryptors, encryptorConfigs));
         }
         return result;
     }
     
-    private EncryptColumn createEncryptColumn(final EncryptColumnRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
+    private EncryptColumn createEncryptColumn(final EncryptColumnRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors,
+                                              final Map<String, AlgorithmConfiguration> encryptorConfigs) {
         EncryptColumn result = new EncryptColumn(config.getName(), new CipherColumnItem(config.getCipher().getName(), encryptors.get(config.getCipher().getEncryptorName())));
         if (config.getAssistedQuery().isPresent()) {
-            result.setAssistedQuery(new AssistedQueryColumnItem(config.getAssistedQuery().get().getName(), encryptors.get(config.getAssistedQuery().get().getEncryptorName())));
+            String encryptorName = config.getAssistedQuery().get().getEncryptorName();
+            result.setAssistedQuery(
+                    new AssistedQueryColumnItem(config.getAssistedQuery().get().getName(), encryptors.get(encryptorName), createDerivedValueCache(encryptorConfigs.get(encryptorName))));
         }
         if (config.getLikeQuery().isPresent()) {
-            result.setLikeQuery(new LikeQueryColumnItem(config.getLikeQuery().get().getName(), encryptors.get(config.getLikeQuery().get().getEncryptorName())));
+            String encryptorName = config.getLikeQuery().get().getEncryptorName();
+            result.setLikeQuery(new LikeQueryColumnItem(config.getLikeQuery().get().getName(), encryptors.get(encryptorName), createDerivedValueCache(encryptorConfigs.get(encryptorName))));
         }
         return result;
     }
     
+    private EncryptDerivedValueCache createDerivedValueCache(final AlgorithmConfiguration encryptorConfig) {
+        return null == encryptorConfig ? null : EncryptDerivedValueCacheBuilder.build(encryptorConfig.getProps());
+    }
+    
     /**
      * Find encryptor.
      *
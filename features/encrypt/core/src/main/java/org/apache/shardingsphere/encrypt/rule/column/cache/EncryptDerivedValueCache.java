@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.column.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of derived values for deterministic encryptors.
+ * 
+ * <p>When digest key is enabled, entries are keyed by a SHA-256 digest of the plain value, so plain values are not retained in heap.</p>
+ */
+public final class EncryptDerivedValueCache {
+    
+    private final Cache<Object, Object> cache;
+    
+    private final boolean digestKey;
+    
+    public EncryptDerivedValueCache(final long maximumSize, final boolean digestKey) {
+        cache = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.digestKey = digestKey;
+    }
+    
+    /**
+     * Get derived value, derive and cache it if absent.
+     *
+     * @param plainValue plain value
+     * @param deriver deriver
+     * @return derived value
+     */
+    public Object get(final Object plainValue, final Function<Object, Object> deriver) {
+        return cache.get(digestKey ? digest(plainValue) : plainValue, unused -> deriver.apply(plainValue));
+    }
+    
+    private ByteBuffer digest(final Object plainValue) {
+        return ByteBuffer.wrap(DigestUtils.sha256((plainValue.getClass().getName() + ':' + plainValue).getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+    
+    /**
+     * Get estimated size.
+     *
+     * @return estimated size
+     */
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+}
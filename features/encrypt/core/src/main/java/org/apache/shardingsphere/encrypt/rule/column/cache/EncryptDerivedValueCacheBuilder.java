@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.column.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Properties;
+
+/**
+ * Encrypt derived value cache builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EncryptDerivedValueCacheBuilder {
+    
+    private static final String MAX_SIZE_KEY = "derived-value-cache-max-size";
+    
+    private static final String DIGEST_KEY = "derived-value-cache-digest-key";
+    
+    /**
+     * Build encrypt derived value cache.
+     *
+     * @param props encryptor properties
+     * @return built cache, null if cache is disabled
+     */
+    public static EncryptDerivedValueCache build(final Properties props) {
+        if (null == props) {
+            return null;
+        }
+        long maximumSize = Long.parseLong(props.getProperty(MAX_SIZE_KEY, "0"));
+        return maximumSize > 0L ? new EncryptDerivedValueCache(maximumSize, Boolean.parseBoolean(props.getProperty(DIGEST_KEY, Boolean.FALSE.toString()))) : null;
+    }
+}
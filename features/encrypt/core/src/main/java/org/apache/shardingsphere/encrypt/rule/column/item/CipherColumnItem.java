@@ -23,7 +23,6 @@ import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -67,11 +66,7 @@ public final class CipherColumnItem {
      */
     public List<Object> encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, context));
-        }
-        return result;
+        return encryptor.batchEncrypt(originalValues, context);
     }
     
     /**
@@ -18,18 +18,17 @@
 package org.apache.shardingsphere.encrypt.rule.column.item;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.rule.column.cache.EncryptDerivedValueCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Like query column item.
  */
-@RequiredArgsConstructor
 public final class LikeQueryColumnItem {
     
     @Getter
@@ -37,6 +36,19 @@ public final class LikeQueryColumnItem {
     
     private final EncryptAlgorithm encryptor;
     
+    @Getter
+    private final EncryptDerivedValueCache derivedValueCache;
+    
+    public LikeQueryColumnItem(final String name, final EncryptAlgorithm encryptor) {
+        this(name, encryptor, null);
+    }
+    
+    public LikeQueryColumnItem(final String name, final EncryptAlgorithm encryptor, final EncryptDerivedValueCache derivedValueCache) {
+        this.name = name;
+        this.encryptor = encryptor;
+        this.derivedValueCache = derivedValueCache;
+    }
+    
     /**
      * Get encrypt like query value.
      *
@@ -52,7 +64,7 @@ public final class LikeQueryColumnItem {
             return null;
         }
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        return encryptor.encrypt(originalValue, context);
+        return null == derivedValueCache ? encryptor.encrypt(originalValue, context) : derivedValueCache.get(originalValue, each -> encryptor.encrypt(each, context));
     }
     
     /**
@@ -67,9 +79,12 @@ public final class LikeQueryColumnItem {
      */
     public List<Object> encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        List<Object> result = new LinkedList<>();
+        if (null == derivedValueCache) {
+            return encryptor.batchEncrypt(originalValues, context);
+        }
+        List<Object> result = new ArrayList<>(originalValues.size());
         for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, context));
+            result.add(null == each ? null : derivedValueCache.get(each, plainValue -> encryptor.encrypt(plainValue, context)));
         }
         return result;
     }
@@ -17,10 +17,18 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -30,11 +38,16 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +71,28 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        ColumnProjection columnProjection = new ColumnProjection("foo_tbl", "foo_col", null, mock(DatabaseType.class));
+        columnProjection.setOriginalTable(new IdentifierValue("foo_tbl"));
+        columnProjection.setOriginalColumn(new IdentifierValue("foo_col"));
+        when(statementContext.getProjectionsContext().getExpandProjections()).thenReturn(Collections.singletonList(columnProjection));
+        when(statementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(statementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptAlgorithm encryptor = mock(EncryptAlgorithm.class);
+        when(encryptor.decrypt(eq("cipher_value"), any(EncryptContext.class))).thenReturn("plain_value");
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("foo_col")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("foo_col")).thenReturn(new EncryptColumn("foo_col", new CipherColumnItem("foo_cipher_col", encryptor)));
+        when(encryptRule.findEncryptTable("foo_tbl")).thenReturn(Optional.of(encryptTable));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher_value");
+        when(mergedResult.getValue(2, String.class)).thenReturn("other_value");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, statementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("plain_value"));
+        assertThat(actual.getValue(2, String.class), is("other_value"));
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EncryptReadAheadMergedResultTest {
+    
+    private final EncryptParallelDecryptExecutor parallelDecryptExecutor = new EncryptParallelDecryptExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        parallelDecryptExecutor.close();
+    }
+    
+    @Test
+    void assertNextAndGetValue() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 3);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("cipher_1", null, "cipher_3");
+        Collection<String> decryptThreadNames = new CopyOnWriteArrayList<>();
+        EncryptAlgorithm encryptor = mock(EncryptAlgorithm.class);
+        when(encryptor.decrypt(any(), any(EncryptContext.class))).thenAnswer(invocation -> {
+            decryptThreadNames.add(Thread.currentThread().getName());
+            return invocation.getArgument(0).toString().replace("cipher", "plain");
+        });
+        EncryptColumnDecryptor[] columnDecryptors = {null, new EncryptColumnDecryptor(encryptor, mock(EncryptContext.class))};
+        MergedResult actual = new EncryptReadAheadMergedResult(mergedResult, columnDecryptors, 2, parallelDecryptExecutor.getExecutorService(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, String.class), is("plain_1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertNull(actual.getValue(2, String.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertThat(actual.getValue(2, String.class), is("plain_3"));
+        assertFalse(actual.wasNull());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        assertThat(decryptThreadNames.size(), is(2));
+        assertTrue(decryptThreadNames.stream().allMatch(each -> each.contains("Encrypt-Decrypt-")));
+    }
+    
+    @Test
+    void assertReadNextBatchBeforeCurrentBatchIsConsumed() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 3);
+        MergedResult actual = new EncryptReadAheadMergedResult(mergedResult, new EncryptColumnDecryptor[]{null}, 1, parallelDecryptExecutor.getExecutorService(1));
+        assertTrue(actual.next());
+        verify(mergedResult, times(2)).next();
+        assertTrue(actual.next());
+        verify(mergedResult, times(3)).next();
+    }
+    
+    @Test
+    void assertFallBackToDelegateAfterTypedGetter() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 3, 4);
+        when(mergedResult.getValue(1, Integer.class)).thenReturn(5);
+        when(mergedResult.getCalendarValue(2, Timestamp.class, null)).thenReturn(new Timestamp(0L));
+        EncryptColumnDecryptor[] columnDecryptors = {null, null};
+        MergedResult actual = new EncryptReadAheadMergedResult(mergedResult, columnDecryptors, 2, parallelDecryptExecutor.getExecutorService(2));
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Integer.class), is(i));
+        }
+        verify(mergedResult, times(4)).next();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Integer.class), is(5));
+        assertThat(actual.getCalendarValue(2, Timestamp.class, null), is(new Timestamp(0L)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetStreamsOfReadAheadRow() throws SQLException, IOException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo".getBytes(StandardCharsets.UTF_8));
+        when(mergedResult.getValue(2, Object.class)).thenReturn("bar");
+        MergedResult actual = new EncryptReadAheadMergedResult(mergedResult, new EncryptColumnDecryptor[]{null, null}, 2, parallelDecryptExecutor.getExecutorService(1));
+        assertTrue(actual.next());
+        try (InputStream inputStream = actual.getInputStream(1, "Binary")) {
+            assertThat(new String(readBytes(inputStream), StandardCharsets.UTF_8), is("foo"));
+        }
+        assertThat(new String(((Blob) actual.getValue(1, Blob.class)).getBytes(1L, 3), StandardCharsets.UTF_8), is("foo"));
+        try (InputStream inputStream = actual.getInputStream(2, "Ascii")) {
+            assertThat(new String(readBytes(inputStream), StandardCharsets.US_ASCII), is("bar"));
+        }
+        try (Reader reader = actual.getCharacterStream(2)) {
+            char[] chars = new char[3];
+            assertThat(reader.read(chars), is(3));
+            assertThat(new String(chars), is("bar"));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private byte[] readBytes(final InputStream inputStream) throws IOException {
+        byte[] result = new byte[inputStream.available()];
+        assertThat(inputStream.read(result), is(result.length));
+        return result;
+    }
+    
+    @Test
+    void assertDecryptOnCallerThreadAfterExecutorClosed() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher");
+        EncryptAlgorithm encryptor = mock(EncryptAlgorithm.class);
+        when(encryptor.decrypt("cipher", null)).thenReturn("plain");
+        ExecutorService executorService = parallelDecryptExecutor.getExecutorService(1);
+        parallelDecryptExecutor.close();
+        MergedResult actual = new EncryptReadAheadMergedResult(mergedResult, new EncryptColumnDecryptor[]{new EncryptColumnDecryptor(encryptor, null)}, 2, executorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("plain"));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.route;
+
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EncryptBulkLoadRouterTest {
+    
+    @Test
+    void assertCheckEncryptTable() {
+        assertThrows(UnsupportedSQLOperationException.class, () -> new EncryptBulkLoadRouter().check("t_user", Collections.emptyList(), mockRule()));
+    }
+    
+    @Test
+    void assertCheckOtherTable() {
+        assertDoesNotThrow(() -> new EncryptBulkLoadRouter().check("t_order", Collections.emptyList(), mockRule()));
+    }
+    
+    @Test
+    void assertCreateRowRouter() {
+        assertFalse(new EncryptBulkLoadRouter().createRowRouter("t_order", Collections.singletonList("id"),
+                mock(SQLStatementContext.class), new HintValueContext(), new ConfigurationProperties(new Properties()), mockRule()).isPresent());
+    }
+    
+    private EncryptRule mockRule() {
+        EncryptRule result = mock(EncryptRule.class);
+        when(result.findEncryptTable("t_user")).thenReturn(Optional.of(mock(EncryptTable.class)));
+        return result;
+    }
+}
@@ -37,10 +37,12 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -72,6 +74,16 @@ class EncryptRuleTest {
                 is(Collections.singletonList("T_ENCRYPT")));
     }
     
+    @Test
+    void assertCloseStaleResource() {
+        EncryptRule rule = new EncryptRule("foo_db", createEncryptRuleConfiguration());
+        ExecutorService executorService = rule.getResource().getExecutorService(1);
+        rule.closeStaleResource("bar_db");
+        assertFalse(executorService.isShutdown());
+        rule.closeStaleResource("foo_db");
+        assertTrue(executorService.isShutdown());
+    }
+    
     private EncryptRuleConfiguration createEncryptRuleConfiguration() {
         EncryptColumnRuleConfiguration pwdColumnConfig = createEncryptColumnRuleConfiguration("standard_encryptor", "assisted_encryptor", "like_encryptor");
         EncryptColumnRuleConfiguration creditCardColumnConfig = new EncryptColumnRuleConfiguration("credit_card", new EncryptColumnItemRuleConfiguration("credit_card_cipher", "standard_encryptor"));
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.column.cache;
+
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EncryptDerivedValueCacheBuilderTest {
+    
+    @Test
+    void assertBuildWithoutMaxSize() {
+        assertNull(EncryptDerivedValueCacheBuilder.build(new Properties()));
+    }
+    
+    @Test
+    void assertBuildWithZeroMaxSize() {
+        assertNull(EncryptDerivedValueCacheBuilder.build(PropertiesBuilder.build(new Property("derived-value-cache-max-size", "0"))));
+    }
+    
+    @Test
+    void assertBuildWithMaxSize() {
+        assertNotNull(EncryptDerivedValueCacheBuilder.build(PropertiesBuilder.build(new Property("derived-value-cache-max-size", "1024"), new Property("derived-value-cache-digest-key", "true"))));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.column.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class EncryptDerivedValueCacheTest {
+    
+    @Test
+    void assertGetWithPlainKey() {
+        assertGet(new EncryptDerivedValueCache(16L, false));
+    }
+    
+    @Test
+    void assertGetWithDigestKey() {
+        assertGet(new EncryptDerivedValueCache(16L, true));
+    }
+    
+    private void assertGet(final EncryptDerivedValueCache cache) {
+        AtomicInteger deriveCount = new AtomicInteger();
+        assertThat(cache.get("foo", each -> "derived_" + each + deriveCount.incrementAndGet()), is("derived_foo1"));
+        assertThat(cache.get("foo", each -> "derived_" + each + deriveCount.incrementAndGet()), is("derived_foo1"));
+        assertThat(cache.get(1, each -> "derived_" + each + deriveCount.incrementAndGet()), is("derived_12"));
+        assertThat(cache.get("1", each -> "derived_" + each + deriveCount.incrementAndGet()), is("derived_13"));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(3L));
+        assertThat(cache.getHitRate(), is(0.25D));
+    }
+}
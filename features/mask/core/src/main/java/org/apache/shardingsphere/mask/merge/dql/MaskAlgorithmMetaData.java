@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatem
 import org.apache.shardingsphere.mask.rule.MaskRule;
 import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +39,8 @@ public final class MaskAlgorithmMetaData {
     
     private final SelectStatementContext selectStatementContext;
     
+    private List<Optional<MaskAlgorithm>> columnMaskAlgorithms;
+    
     /**
      * Find mask algorithm.
      *
@@ -45,19 +48,20 @@ public final class MaskAlgorithmMetaData {
      * @return maskAlgorithm
      */
     public Optional<MaskAlgorithm> findMaskAlgorithmByColumnIndex(final int columnIndex) {
-        Optional<ColumnProjection> columnProjection = findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return Optional.empty();
+        if (null == columnMaskAlgorithms) {
+            columnMaskAlgorithms = createColumnMaskAlgorithms();
         }
-        return maskRule.findMaskAlgorithm(columnProjection.get().getOriginalTable().getValue(), columnProjection.get().getName().getValue());
+        return columnMaskAlgorithms.size() < columnIndex ? Optional.empty() : columnMaskAlgorithms.get(columnIndex - 1);
     }
     
-    private Optional<ColumnProjection> findColumnProjection(final int columnIndex) {
+    private List<Optional<MaskAlgorithm>> createColumnMaskAlgorithms() {
         List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
-        if (expandProjections.size() < columnIndex) {
-            return Optional.empty();
+        List<Optional<MaskAlgorithm>> result = new ArrayList<>(expandProjections.size());
+        for (Projection each : expandProjections) {
+            result.add(each instanceof ColumnProjection
+                    ? maskRule.findMaskAlgorithm(((ColumnProjection) each).getOriginalTable().getValue(), ((ColumnProjection) each).getName().getValue())
+                    : Optional.empty());
         }
-        Projection projection = expandProjections.get(columnIndex - 1);
-        return projection instanceof ColumnProjection ? Optional.of((ColumnProjection) projection) : Optional.empty();
+        return result;
     }
 }
@@ -40,7 +40,20 @@ public final class ReadwriteSplittingDataSourceRuleConfiguration {
     
     private final String loadBalancerName;
     
+    private final long replicationLagThresholdMillis;
+    
+    private final long readYourWritesTimeoutMillis;
+    
+    private final double hedgedReadDelayPercentile;
+    
+    private final double hedgedReadBudgetPercent;
+    
     public ReadwriteSplittingDataSourceRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final String loadBalancerName) {
         this(name, writeDataSourceName, readDataSourceNames, TransactionalReadQueryStrategy.DYNAMIC, loadBalancerName);
     }
+    
+    public ReadwriteSplittingDataSourceRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames,
+                                                         final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final String loadBalancerName) {
+        this(name, writeDataSourceName, readDataSourceNames, transactionalReadQueryStrategy, loadBalancerName, 0L, 0L, 0D, 0D);
+    }
 }
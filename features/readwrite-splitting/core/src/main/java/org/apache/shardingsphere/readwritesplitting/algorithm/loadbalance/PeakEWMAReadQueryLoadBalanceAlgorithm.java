@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Setter;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Peak EWMA read query load-balance algorithm.
+ * 
+ * <p>Selects the read data source with the lowest expected completion time, which is latency EWMA multiplied by outstanding executions.
+ * Statistics are shared with the readwrite-splitting rule of the database, which feeds them from SQL executions.</p>
+ */
+public final class PeakEWMAReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private final AtomicInteger count = new AtomicInteger(0);
+    
+    @Setter
+    private Map<String, ReadDataSourceStatistics> statistics = new ConcurrentHashMap<>();
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        int size = readDataSourceNames.size();
+        int offset = Math.abs(count.getAndIncrement() % size);
+        String result = readDataSourceNames.get(offset);
+        double minCost = getStatistics(result).getCost();
+        for (int i = 1; i < size; i++) {
+            String each = readDataSourceNames.get((offset + i) % size);
+            double cost = getStatistics(each).getCost();
+            if (cost < minCost) {
+                minCost = cost;
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    private ReadDataSourceStatistics getStatistics(final String dataSourceName) {
+        ReadDataSourceStatistics result = statistics.get(dataSourceName);
+        return null == result ? statistics.computeIfAbsent(dataSourceName, key -> new ReadDataSourceStatistics()) : result;
+    }
+    
+    @Override
+    public String getType() {
+        return "PEAK_EWMA";
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram with exponential buckets.
+ * 
+ * <p>Counts are halved every {@code DECAY_SAMPLES} samples, so percentiles follow recent latency.</p>
+ */
+public final class LatencyHistogram {
+    
+    private static final long MIN_BOUND_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    
+    private static final double GROWTH_FACTOR = 1.5D;
+    
+    private static final int BUCKET_SIZE = 48;
+    
+    private static final int DECAY_SAMPLES = 1024;
+    
+    private static final int MIN_SAMPLES = 32;
+    
+    private final long[] counts = new long[BUCKET_SIZE];
+    
+    private long totalCount;
+    
+    private int samplesSinceDecay;
+    
+    /**
+     * Record latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public synchronized void record(final long latencyNanos) {
+        counts[getBucketIndex(latencyNanos)]++;
+        totalCount++;
+        if (++samplesSinceDecay >= DECAY_SAMPLES) {
+            decay();
+        }
+    }
+    
+    private int getBucketIndex(final long latencyNanos) {
+        if (latencyNanos <= MIN_BOUND_NANOS) {
+            return 0;
+        }
+        int result = (int) Math.ceil(Math.log((double) latencyNanos / MIN_BOUND_NANOS) / Math.log(GROWTH_FACTOR));
+        return Math.min(result, BUCKET_SIZE - 1);
+    }
+    
+    private void decay() {
+        totalCount = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            counts[i] >>= 1;
+            totalCount += counts[i];
+        }
+        samplesSinceDecay = 0;
+    }
+    
+    /**
+     * Get latency percentile.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return upper bound of latency percentile in nanoseconds, 0 if samples are not enough
+     */
+    public synchronized long getPercentileNanos(final double percentile) {
+        if (totalCount < MIN_SAMPLES) {
+            return 0L;
+        }
+        long target = (long) Math.ceil(totalCount * Math.min(percentile, 100D) / 100D);
+        long cumulativeCount = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= target) {
+                return getBucketBound(i);
+            }
+        }
+        return getBucketBound(BUCKET_SIZE - 1);
+    }
+    
+    private long getBucketBound(final int bucketIndex) {
+        return (long) (MIN_BOUND_NANOS * Math.pow(GROWTH_FACTOR, bucketIndex));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read data source statistics.
+ * 
+ * <p>Tracks in-flight executions and a peak-sensitive EWMA of execution latency, which rises immediately on a slower sample and decays smoothly otherwise.</p>
+ */
+public final class ReadDataSourceStatistics {
+    
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    
+    private double latencyEWMA;
+    
+    private long lastUpdateNanos = System.nanoTime();
+    
+    /**
+     * Handle when execution started.
+     */
+    public void start() {
+        inFlight.incrementAndGet();
+    }
+    
+    /**
+     * Handle when execution finished.
+     * 
+     * @param latencyNanos execution latency in nanoseconds
+     */
+    public void finish(final long latencyNanos) {
+        inFlight.decrementAndGet();
+        update(Math.max(latencyNanos, 0L));
+        latencyHistogram.record(latencyNanos);
+    }
+    
+    private synchronized void update(final long latencyNanos) {
+        long now = System.nanoTime();
+        if (latencyNanos > latencyEWMA) {
+            latencyEWMA = latencyNanos;
+        } else {
+            double weight = Math.exp(-(now - lastUpdateNanos) / DECAY_NANOS);
+            latencyEWMA = latencyEWMA * weight + latencyNanos * (1D - weight);
+        }
+        lastUpdateNanos = now;
+    }
+    
+    /**
+     * Get in-flight execution count.
+     * 
+     * @return in-flight execution count
+     */
+    public int getInFlight() {
+        return Math.max(inFlight.get(), 0);
+    }
+    
+    /**
+     * Get latency EWMA.
+     * 
+     * @return latency EWMA in nanoseconds
+     */
+    public synchronized double getLatencyEWMA() {
+        return latencyEWMA;
+    }
+    
+    /**
+     * Get latency percentile.
+     * 
+     * @param percentile percentile between 0 and 100
+     * @return latency percentile in nanoseconds, 0 if samples are not enough
+     */
+    public long getLatencyPercentileNanos(final double percentile) {
+        return latencyHistogram.getPercentileNanos(percentile);
+    }
+    
+    /**
+     * Get expected cost of sending one more execution.
+     * 
+     * @return expected cost
+     */
+    public double getCost() {
+        return (getLatencyEWMA() + 1D) * (getInFlight() + 1);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read data source statistics registry.
+ * 
+ * <p>Statistics are held by readwrite-splitting rule of each database and only registered for data sources balanced by a statistics aware load-balance algorithm or hedged read,
+ * so other executions are not tracked.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReadDataSourceStatisticsRegistry {
+    
+    private static final Map<String, Map<String, ReadDataSourceStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register statistics of database.
+     * 
+     * @param databaseName database name
+     * @param statistics statistics of database, key is data source name
+     */
+    public static void register(final String databaseName, final Map<String, ReadDataSourceStatistics> statistics) {
+        STATISTICS.put(databaseName, statistics);
+    }
+    
+    /**
+     * Unregister statistics of database.
+     * 
+     * @param databaseName database name
+     * @param statistics statistics of database to be unregistered
+     */
+    public static void unregister(final String databaseName, final Map<String, ReadDataSourceStatistics> statistics) {
+        STATISTICS.remove(databaseName, statistics);
+    }
+    
+    /**
+     * Find statistics.
+     * 
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found statistics
+     */
+    public static Optional<ReadDataSourceStatistics> find(final String databaseName, final String dataSourceName) {
+        if (STATISTICS.isEmpty() || null == databaseName) {
+            return Optional.empty();
+        }
+        Map<String, ReadDataSourceStatistics> statistics = STATISTICS.get(databaseName);
+        return null == statistics ? Optional.empty() : Optional.ofNullable(statistics.get(dataSourceName));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.readwritesplitting.consistency.detector.ReplicationPositionDetector;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replication position tracker.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ReplicationPositionTracker {
+    
+    private static final long POLL_INTERVAL_MILLIS = 10L;
+    
+    private final Map<String, DataSource> dataSources;
+    
+    private final long timeoutMillis;
+    
+    private final Map<String, ReplicationPositionDetector> detectors = new ConcurrentHashMap<>();
+    
+    /**
+     * Load current replication position of write data source.
+     *
+     * @param writeDataSourceName write data source name
+     * @return current replication position, empty if it can not be loaded
+     */
+    public Optional<String> loadPosition(final String writeDataSourceName) {
+        DataSource dataSource = dataSources.get(writeDataSourceName);
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationPositionDetector> detector = findDetector(writeDataSourceName, connection);
+            return detector.isPresent() ? Optional.of(detector.get().loadPosition(connection)) : Optional.empty();
+        } catch (final SQLException ex) {
+            log.warn("Load replication position of data source `{}` failed, reason: {}", writeDataSourceName, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Wait until read data source applied replication position, or timeout.
+     *
+     * @param readDataSourceName read data source name
+     * @param position replication position of write data source
+     * @return applied or not
+     */
+    public boolean waitApplied(final String readDataSourceName, final String position) {
+        DataSource dataSource = dataSources.get(readDataSourceName);
+        if (null == dataSource) {
+            return false;
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationPositionDetector> detector = findDetector(readDataSourceName, connection);
+            if (!detector.isPresent()) {
+                return false;
+            }
+            while (!detector.get().isApplied(connection, position)) {
+                if (System.currentTimeMillis() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            return true;
+        } catch (final SQLException ex) {
+            log.warn("Check replication position of data source `{}` failed, reason: {}", readDataSourceName, ex.getMessage());
+            return false;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private Optional<ReplicationPositionDetector> findDetector(final String dataSourceName, final Connection connection) throws SQLException {
+        ReplicationPositionDetector result = detectors.get(dataSourceName);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        Optional<ReplicationPositionDetector> detector = DatabaseTypedSPILoader.findService(ReplicationPositionDetector.class, DatabaseTypeFactory.get(connection.getMetaData().getURL()));
+        detector.ifPresent(optional -> detectors.put(dataSourceName, optional));
+        return detector;
+    }
+}
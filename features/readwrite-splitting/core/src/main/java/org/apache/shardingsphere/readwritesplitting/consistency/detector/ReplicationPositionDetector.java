@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.detector;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replication position detector.
+ */
+@SingletonSPI
+public interface ReplicationPositionDetector extends DatabaseTypedSPI {
+    
+    /**
+     * Load current replication position of primary.
+     *
+     * @param connection connection of primary
+     * @return current replication position, such as executed GTID set or WAL LSN
+     * @throws SQLException SQL exception
+     */
+    String loadPosition(Connection connection) throws SQLException;
+    
+    /**
+     * Judge whether replica has applied replication position.
+     *
+     * @param connection connection of replica
+     * @param position replication position of primary
+     * @return applied or not
+     * @throws SQLException SQL exception
+     */
+    boolean isApplied(Connection connection, String position) throws SQLException;
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.detector.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.consistency.detector.ReplicationPositionDetector;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replication position detector for PostgreSQL.
+ */
+public final class PostgreSQLReplicationPositionDetector implements ReplicationPositionDetector {
+    
+    private static final String LOAD_POSITION_SQL = "SELECT pg_current_wal_lsn()::text";
+    
+    private static final String IS_APPLIED_SQL = "SELECT pg_wal_lsn_diff(pg_last_wal_replay_lsn(), ?::pg_lsn) >= 0";
+    
+    @Override
+    public String loadPosition(final Connection connection) throws SQLException {
+        return ReplicationPositionDetectorUtils.loadPosition(connection, LOAD_POSITION_SQL);
+    }
+    
+    @Override
+    public boolean isApplied(final Connection connection, final String position) throws SQLException {
+        return ReplicationPositionDetectorUtils.isApplied(connection, IS_APPLIED_SQL, position);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
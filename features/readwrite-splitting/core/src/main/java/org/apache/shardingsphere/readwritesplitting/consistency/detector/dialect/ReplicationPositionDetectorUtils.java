@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.detector.dialect;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Replication position detector utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicationPositionDetectorUtils {
+    
+    /**
+     * Load position.
+     *
+     * @param connection connection of primary
+     * @param sql SQL which returns position in first column
+     * @return position
+     * @throws SQLException SQL exception
+     */
+    public static String loadPosition(final Connection connection, final String sql) throws SQLException {
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next() || null == resultSet.getString(1)) {
+                throw new SQLException("Can not load replication position.");
+            }
+            return resultSet.getString(1);
+        }
+    }
+    
+    /**
+     * Judge whether position is applied.
+     *
+     * @param connection connection of replica
+     * @param sql SQL with position parameter which returns applied flag in first column
+     * @param position position
+     * @return applied or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isApplied(final Connection connection, final String sql, final String position) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, position);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
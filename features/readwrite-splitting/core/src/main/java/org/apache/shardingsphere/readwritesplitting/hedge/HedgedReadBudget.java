@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+/**
+ * Hedged read budget.
+ * 
+ * <p>Every read earns a fraction of one hedge token and every hedged read spends a whole token, so hedged reads never exceed configured percent of reads.</p>
+ */
+public final class HedgedReadBudget {
+    
+    private static final double MAX_TOKENS = 10D;
+    
+    private final double tokensPerRead;
+    
+    private double tokens;
+    
+    public HedgedReadBudget(final double budgetPercent) {
+        tokensPerRead = Math.min(budgetPercent, 100D) / 100D;
+    }
+    
+    /**
+     * Earn budget for one read.
+     */
+    public synchronized void earn() {
+        tokens = Math.min(tokens + tokensPerRead, MAX_TOKENS);
+    }
+    
+    /**
+     * Try to spend budget for one hedged read.
+     *
+     * @return spent or not
+     */
+    public synchronized boolean trySpend() {
+        if (tokens < 1D) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
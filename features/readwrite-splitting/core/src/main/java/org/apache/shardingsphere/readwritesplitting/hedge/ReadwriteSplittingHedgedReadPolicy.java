@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadPolicy;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hedged read policy for readwrite-splitting.
+ * 
+ * <p>Hedge delay is configured percentile of read data source latency, and hedged read is sent to the cheapest other available read data source.</p>
+ */
+public final class ReadwriteSplittingHedgedReadPolicy implements HedgedReadPolicy {
+    
+    private static final Collection<ReadDataSourcesFilter> FILTERS = ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class);
+    
+    private final ReadwriteSplittingDataSourceRule rule;
+    
+    private final Map<String, ReadDataSourceStatistics> statistics;
+    
+    private final double delayPercentile;
+    
+    private final HedgedReadBudget budget;
+    
+    public ReadwriteSplittingHedgedReadPolicy(final ReadwriteSplittingDataSourceRule rule, final Map<String, ReadDataSourceStatistics> statistics, final double delayPercentile,
+                                              final double budgetPercent) {
+        this.rule = rule;
+        this.statistics = statistics;
+        this.delayPercentile = delayPercentile;
+        budget = new HedgedReadBudget(budgetPercent);
+        rule.getReadwriteSplittingGroup().getReadDataSources().forEach(each -> statistics.computeIfAbsent(each, key -> new ReadDataSourceStatistics()));
+    }
+    
+    @Override
+    public long getHedgeDelayNanos(final String dataSourceName) {
+        budget.earn();
+        ReadDataSourceStatistics dataSourceStatistics = statistics.get(dataSourceName);
+        return null == dataSourceStatistics ? 0L : dataSourceStatistics.getLatencyPercentileNanos(delayPercentile);
+    }
+    
+    @Override
+    public Optional<String> acquireHedgeDataSource(final String dataSourceName) {
+        String result = null;
+        double minCost = Double.MAX_VALUE;
+        for (String each : getFilteredReadDataSources()) {
+            if (each.equals(dataSourceName)) {
+                continue;
+            }
+            ReadDataSourceStatistics dataSourceStatistics = statistics.get(each);
+            double cost = null == dataSourceStatistics ? 0D : dataSourceStatistics.getCost();
+            if (cost < minCost) {
+                minCost = cost;
+                result = each;
+            }
+        }
+        return null != result && budget.trySpend() ? Optional.of(result) : Optional.empty();
+    }
+    
+    private List<String> getFilteredReadDataSources() {
+        List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
+        for (ReadDataSourcesFilter each : FILTERS) {
+            result = each.filter(rule, result);
+        }
+        return result;
+    }
+}
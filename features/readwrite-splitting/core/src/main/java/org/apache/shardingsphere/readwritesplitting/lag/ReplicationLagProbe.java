@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.readwritesplitting.lag.detector.ReplicationLagDetector;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag probe.
+ * 
+ * <p>Samples are refreshed in background once expired, so routing only reads the latest sample and never waits for a replica.
+ * Probe queries time out after stale intervals, samples older than stale intervals are unknown, and replicas whose probe hangs longer are treated as lagging.</p>
+ */
+@Slf4j
+public final class ReplicationLagProbe {
+    
+    private static final ExecutorService PROBE_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("ReadwriteSplitting-LagProbe-%d"));
+    
+    private static final long MIN_INTERVAL_MILLIS = 100L;
+    
+    private static final long MAX_INTERVAL_MILLIS = 1000L;
+    
+    private static final int STALE_INTERVALS = 3;
+    
+    private final Map<String, DataSource> dataSources;
+    
+    private final long intervalMillis;
+    
+    private final long staleMillis;
+    
+    private final int queryTimeoutSeconds;
+    
+    private final Map<String, ReplicationLagSample> samples = new ConcurrentHashMap<>();
+    
+    private final Map<String, ReplicationLagDetector> detectors = new ConcurrentHashMap<>();
+    
+    public ReplicationLagProbe(final Map<String, DataSource> dataSources, final long thresholdMillis) {
+        this.dataSources = dataSources;
+        intervalMillis = Math.max(MIN_INTERVAL_MILLIS, Math.min(MAX_INTERVAL_MILLIS, thresholdMillis / 2L));
+        staleMillis = intervalMillis * STALE_INTERVALS;
+        queryTimeoutSeconds = (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(staleMillis));
+    }
+    
+    /**
+     * Get replication lag of replica.
+     *
+     * @param dataSourceName data source name of replica
+     * @return replication lag in milliseconds, empty if unknown, {@link Long#MAX_VALUE} if probe is hanging
+     */
+    public Optional<Long> getLagMillis(final String dataSourceName) {
+        DataSource dataSource = dataSources.get(dataSourceName);
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        ReplicationLagSample sample = samples.computeIfAbsent(dataSourceName, key -> new ReplicationLagSample());
+        long currentMillis = System.currentTimeMillis();
+        if (sample.tryStartProbing(currentMillis, intervalMillis)) {
+            PROBE_EXECUTOR.execute(() -> probe(dataSourceName, dataSource, sample));
+        }
+        return sample.getLagMillis(currentMillis, staleMillis);
+    }
+    
+    private void probe(final String dataSourceName, final DataSource dataSource, final ReplicationLagSample sample) {
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationLagDetector> detector = findDetector(dataSourceName, connection);
+            if (detector.isPresent()) {
+                sample.finishProbing(detector.get().detect(connection, queryTimeoutSeconds), System.currentTimeMillis());
+            } else {
+                sample.markUnsupported();
+            }
+        } catch (final SQLException ex) {
+            log.warn("Probe replication lag of data source `{}` failed, reason: {}", dataSourceName, ex.getMessage());
+            sample.finishProbing(Optional.empty(), System.currentTimeMillis());
+        }
+    }
+    
+    private Optional<ReplicationLagDetector> findDetector(final String dataSourceName, final Connection connection) throws SQLException {
+        ReplicationLagDetector result = detectors.get(dataSourceName);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        Optional<ReplicationLagDetector> detector = DatabaseTypedSPILoader.findService(ReplicationLagDetector.class, DatabaseTypeFactory.get(connection.getMetaData().getURL()));
+        detector.ifPresent(optional -> detectors.put(dataSourceName, optional));
+        return detector;
+    }
+}
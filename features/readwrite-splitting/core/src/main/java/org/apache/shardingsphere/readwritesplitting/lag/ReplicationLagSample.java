@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replication lag sample of replica.
+ * 
+ * <p>A sample older than stale milliseconds is unknown, and a replica whose probe has been running longer than stale milliseconds is treated as lagging.</p>
+ */
+public final class ReplicationLagSample {
+    
+    private static final long UNKNOWN_LAG = -1L;
+    
+    private final AtomicBoolean probing = new AtomicBoolean();
+    
+    private volatile long lagMillis = UNKNOWN_LAG;
+    
+    private volatile long probedMillis;
+    
+    private volatile long probingStartedMillis;
+    
+    private volatile boolean unsupported;
+    
+    /**
+     * Try to start probing if the sample is expired.
+     *
+     * @param currentMillis current milliseconds
+     * @param intervalMillis probe interval milliseconds
+     * @return started probing or not
+     */
+    public boolean tryStartProbing(final long currentMillis, final long intervalMillis) {
+        if (unsupported || currentMillis - probedMillis < intervalMillis || !probing.compareAndSet(false, true)) {
+            return false;
+        }
+        probingStartedMillis = currentMillis;
+        return true;
+    }
+    
+    /**
+     * Finish probing.
+     *
+     * @param lagMillis probed replication lag in milliseconds, empty if unknown
+     * @param currentMillis current milliseconds
+     */
+    public void finishProbing(final Optional<Long> lagMillis, final long currentMillis) {
+        this.lagMillis = lagMillis.orElse(UNKNOWN_LAG);
+        probedMillis = currentMillis;
+        probing.set(false);
+    }
+    
+    /**
+     * Mark replication lag detecting unsupported.
+     */
+    public void markUnsupported() {
+        unsupported = true;
+        probing.set(false);
+    }
+    
+    /**
+     * Get replication lag.
+     *
+     * @param currentMillis current milliseconds
+     * @param staleMillis milliseconds after which sample or running probe is stale
+     * @return replication lag in milliseconds, empty if unknown, {@link Long#MAX_VALUE} if probe is hanging
+     */
+    public Optional<Long> getLagMillis(final long currentMillis, final long staleMillis) {
+        if (probing.get() && currentMillis - probingStartedMillis > staleMillis) {
+            return Optional.of(Long.MAX_VALUE);
+        }
+        long result = lagMillis;
+        return UNKNOWN_LAG == result || currentMillis - probedMillis > staleMillis ? Optional.empty() : Optional.of(result);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.detector;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Replication lag detector.
+ */
+@SingletonSPI
+public interface ReplicationLagDetector extends DatabaseTypedSPI {
+    
+    /**
+     * Detect replication lag of replica.
+     *
+     * @param connection connection of replica
+     * @param queryTimeoutSeconds query timeout in seconds
+     * @return replication lag in milliseconds, empty if the data source is not a replica or the lag is unknown
+     * @throws SQLException SQL exception
+     */
+    Optional<Long> detect(Connection connection, int queryTimeoutSeconds) throws SQLException;
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.detector.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.detector.ReplicationLagDetector;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag detector for MySQL.
+ * 
+ * <p>{@code SHOW REPLICA STATUS} is used first, and {@code SHOW SLAVE STATUS} is used for versions which do not support it.</p>
+ */
+public final class MySQLReplicationLagDetector implements ReplicationLagDetector {
+    
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    @Override
+    public Optional<Long> detect(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try {
+            return detect(connection, SHOW_REPLICA_STATUS, queryTimeoutSeconds);
+        } catch (final SQLSyntaxErrorException ex) {
+            return detect(connection, SHOW_SLAVE_STATUS, queryTimeoutSeconds);
+        }
+    }
+    
+    private Optional<Long> detect(final Connection connection, final String sql, final int queryTimeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                long secondsBehindSource = resultSet.getLong(findSecondsBehindColumnIndex(resultSet.getMetaData()));
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(secondsBehindSource * 1000L);
+            }
+        }
+    }
+    
+    private int findSecondsBehindColumnIndex(final ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String columnLabel = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Master".equalsIgnoreCase(columnLabel) || "Seconds_Behind_Source".equalsIgnoreCase(columnLabel)) {
+                return i;
+            }
+        }
+        throw new SQLException("Can not find column `Seconds_Behind_Source` or `Seconds_Behind_Master` in replica status result.");
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.detector.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.detector.ReplicationLagDetector;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Replication lag detector for PostgreSQL.
+ */
+public final class PostgreSQLReplicationLagDetector implements ReplicationLagDetector {
+    
+    private static final String REPLICATION_LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN NULL WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE FLOOR(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000) END";
+    
+    @Override
+    public Optional<Long> detect(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        return ReplicationLagDetectorUtils.detect(connection, REPLICATION_LAG_SQL, queryTimeoutSeconds);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.detector.dialect;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag detector utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicationLagDetectorUtils {
+    
+    /**
+     * Detect replication lag with SQL which returns lag milliseconds in first column.
+     *
+     * @param connection connection of replica
+     * @param sql replication lag SQL
+     * @param queryTimeoutSeconds query timeout in seconds
+     * @return replication lag in milliseconds
+     * @throws SQLException SQL exception
+     */
+    public static Optional<Long> detect(final Connection connection, final String sql, final int queryTimeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                long result = resultSet.getLong(1);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(Math.max(result, 0L));
+            }
+        }
+    }
+}
@@ -21,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
+import org.apache.shardingsphere.readwritesplitting.route.consistency.ReadYourWritesDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingPrimaryDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingTransactionalDataSourceRouter;
@@ -29,6 +31,7 @@ import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataS
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Data source router for readwrite-splitting.
@@ -36,6 +39,8 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public final class ReadwriteSplittingDataSourceRouter {
     
+    private static final StandardReadwriteSplittingDataSourceRouter STANDARD_ROUTER = new StandardReadwriteSplittingDataSourceRouter();
+    
     private final ReadwriteSplittingDataSourceRule rule;
     
     private final ConnectionContext connectionContext;
@@ -48,12 +53,19 @@ public final class ReadwriteSplittingDataSourceRouter {
      * @return data source name
      */
     public String route(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
+        Optional<ReplicationPositionTracker> replicationPositionTracker = rule.getReplicationPositionTracker();
         for (QualifiedReadwriteSplittingDataSourceRouter each : getQualifiedRouters(connectionContext)) {
             if (each.isQualified(sqlStatementContext, rule, hintValueContext)) {
-                return each.route(rule);
+                String result = each.route(rule);
+                if (replicationPositionTracker.isPresent() && result.equals(rule.getWriteDataSource())) {
+                    connectionContext.getReadConsistencyContext().markWritten(result);
+                }
+                return result;
             }
         }
-        return new StandardReadwriteSplittingDataSourceRouter().route(rule);
+        return replicationPositionTracker.isPresent()
+                ? new ReadYourWritesDataSourceRouter(connectionContext.getReadConsistencyContext(), STANDARD_ROUTER).route(rule, replicationPositionTracker.get())
+                : STANDARD_ROUTER.route(rule);
     }
     
     private Collection<QualifiedReadwriteSplittingDataSourceRouter> getQualifiedRouters(final ConnectionContext connectionContext) {
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.consistency;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReadConsistencyConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
+import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+
+import java.util.Optional;
+
+/**
+ * Read-your-writes data source router for readwrite-splitting.
+ * 
+ * <p>After a write, the replication position of primary is loaded once on the next read, then reads go to replicas which have applied it,
+ * waiting up to the configured timeout, and fall back to primary otherwise.</p>
+ */
+@RequiredArgsConstructor
+public final class ReadYourWritesDataSourceRouter {
+    
+    private final ReadConsistencyConnectionContext readConsistencyContext;
+    
+    private final StandardReadwriteSplittingDataSourceRouter standardRouter;
+    
+    /**
+     * Route to data source.
+     *
+     * @param rule readwrite-splitting data source rule
+     * @param tracker replication position tracker
+     * @return routed data source name
+     */
+    public String route(final ReadwriteSplittingDataSourceRule rule, final ReplicationPositionTracker tracker) {
+        String writeDataSourceName = rule.getWriteDataSource();
+        if (readConsistencyContext.isWritten(writeDataSourceName)) {
+            Optional<String> writePosition = tracker.loadPosition(writeDataSourceName);
+            if (!writePosition.isPresent()) {
+                return writeDataSourceName;
+            }
+            readConsistencyContext.updateWritePosition(writeDataSourceName, writePosition.get());
+        }
+        String result = standardRouter.route(rule);
+        Optional<String> writePosition = readConsistencyContext.findWritePosition(writeDataSourceName);
+        if (!writePosition.isPresent() || writeDataSourceName.equals(result) || readConsistencyContext.isApplied(writeDataSourceName, result)) {
+            return result;
+        }
+        if (tracker.waitApplied(result, writePosition.get())) {
+            readConsistencyContext.markApplied(writeDataSourceName, result);
+            return result;
+        }
+        return writeDataSourceName;
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +29,8 @@ import java.util.List;
  */
 public final class StandardReadwriteSplittingDataSourceRouter {
     
+    private static final Collection<ReadDataSourcesFilter> FILTERS = ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class);
+    
     /**
      * Route to data source.
      *
@@ -35,12 +38,13 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceRule rule) {
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), getFilteredReadDataSources(rule));
+        List<String> filteredReadDataSources = getFilteredReadDataSources(rule);
+        return filteredReadDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), filteredReadDataSources);
     }
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
-        for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
+        for (ReadDataSourcesFilter each : FILTERS) {
             result = each.filter(rule, result);
         }
         return result;
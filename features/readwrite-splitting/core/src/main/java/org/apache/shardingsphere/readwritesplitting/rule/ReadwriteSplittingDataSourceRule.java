@@ -20,12 +20,15 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 import lombok.Getter;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
 import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 
 /**
  * Readwrite-splitting data source rule.
@@ -43,12 +46,27 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final long replicationLagThresholdMillis;
+    
+    private final ReplicationLagProbe replicationLagProbe;
+    
+    private final ReplicationPositionTracker replicationPositionTracker;
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
                                             final ReadQueryLoadBalanceAlgorithm loadBalancer) {
+        this(config, transactionalReadQueryStrategy, loadBalancer, null, null);
+    }
+    
+    public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
+                                            final ReadQueryLoadBalanceAlgorithm loadBalancer, final ReplicationLagProbe replicationLagProbe,
+                                            final ReplicationPositionTracker replicationPositionTracker) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        replicationLagThresholdMillis = config.getReplicationLagThresholdMillis();
+        this.replicationLagProbe = replicationLagProbe;
+        this.replicationPositionTracker = replicationPositionTracker;
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceRuleConfiguration config) {
@@ -64,6 +82,24 @@ public final class ReadwriteSplittingDataSourceRule {
         return readwriteSplittingGroup.getWriteDataSource();
     }
     
+    /**
+     * Get replication lag probe.
+     *
+     * @return replication lag probe, empty if replication lag threshold is not configured
+     */
+    public Optional<ReplicationLagProbe> getReplicationLagProbe() {
+        return Optional.ofNullable(replicationLagProbe);
+    }
+    
+    /**
+     * Get replication position tracker.
+     *
+     * @return replication position tracker, empty if read-your-writes is not enabled
+     */
+    public Optional<ReplicationPositionTracker> getReplicationPositionTracker() {
+        return Optional.ofNullable(replicationPositionTracker);
+    }
+    
     /**
      * Enable data source.
      *
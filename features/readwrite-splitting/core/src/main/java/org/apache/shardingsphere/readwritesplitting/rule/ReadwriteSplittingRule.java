@@ -21,12 +21,16 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadPolicy;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadPolicyRegistry;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StaticDataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StorageConnectorReusableRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.exportable.ExportableRule;
@@ -36,25 +40,42 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.state.datasource.DataSourceState;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceDeletedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.PeakEWMAReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
 import org.apache.shardingsphere.readwritesplitting.exception.rule.InvalidInlineExpressionDataSourceNameException;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.hedge.ReadwriteSplittingHedgedReadPolicy;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
 import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceContainedRule, StaticDataSourceContainedRule, ExportableRule, StorageConnectorReusableRule {
+public final class ReadwriteSplittingRule
+        implements
+            DatabaseRule,
+            DataSourceContainedRule,
+            StaticDataSourceContainedRule,
+            ExportableRule,
+            StorageConnectorReusableRule,
+            ResourceHeldRule<Map<String, ReadDataSourceStatistics>> {
     
     private final String databaseName;
     
@@ -67,12 +88,29 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
     
     private final InstanceContext instanceContext;
     
+    private final Map<String, DataSource> dataSources;
+    
+    private final Map<String, ReadDataSourceStatistics> readDataSourceStatistics = new ConcurrentHashMap<>();
+    
+    private final Map<String, HedgedReadPolicy> hedgedReadPolicies = new ConcurrentHashMap<>();
+    
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final InstanceContext instanceContext) {
+        this(databaseName, ruleConfig, Collections.emptyMap(), instanceContext);
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final InstanceContext instanceContext) {
         this.databaseName = databaseName;
         this.instanceContext = instanceContext;
+        this.dataSources = dataSources;
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
         dataSourceRules = createDataSourceRules(ruleConfig);
+        if (!readDataSourceStatistics.isEmpty() || loadBalancers.values().stream().anyMatch(PeakEWMAReadQueryLoadBalanceAlgorithm.class::isInstance)) {
+            ReadDataSourceStatisticsRegistry.register(databaseName, readDataSourceStatistics);
+        }
+        if (!hedgedReadPolicies.isEmpty()) {
+            HedgedReadPolicyRegistry.register(databaseName, hedgedReadPolicies);
+        }
     }
     
     private Map<String, ReadQueryLoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
@@ -80,7 +118,11 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
                 AlgorithmConfiguration algorithmConfig = ruleConfig.getLoadBalancers().get(each.getLoadBalancerName());
-                result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
+                ReadQueryLoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps());
+                if (loadBalancer instanceof PeakEWMAReadQueryLoadBalanceAlgorithm) {
+                    ((PeakEWMAReadQueryLoadBalanceAlgorithm) loadBalancer).setStatistics(readDataSourceStatistics);
+                }
+                result.put(each.getName() + "." + each.getLoadBalancerName(), loadBalancer);
             }
         }
         return result;
@@ -114,7 +156,10 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (int i = 0; i < inlineReadwriteDataSourceNames.size(); i++) {
             ReadwriteSplittingDataSourceRuleConfiguration staticConfig = createStaticDataSourceRuleConfiguration(
                     config, i, inlineReadwriteDataSourceNames, inlineWriteDatasourceNames, inlineReadDatasourceNames);
-            result.put(inlineReadwriteDataSourceNames.get(i), new ReadwriteSplittingDataSourceRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm));
+            ReadwriteSplittingDataSourceRule dataSourceRule = new ReadwriteSplittingDataSourceRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm,
+                    createReplicationLagProbe(staticConfig), createReplicationPositionTracker(staticConfig));
+            registerHedgedReadPolicy(staticConfig, dataSourceRule);
+            result.put(inlineReadwriteDataSourceNames.get(i), dataSourceRule);
         }
         return result;
     }
@@ -123,7 +168,45 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
                                                                                                   final List<String> readwriteDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                   final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getLoadBalancerName(), config.getReplicationLagThresholdMillis(), config.getReadYourWritesTimeoutMillis(),
+                config.getHedgedReadDelayPercentile(), config.getHedgedReadBudgetPercent());
+    }
+    
+    private ReplicationLagProbe createReplicationLagProbe(final ReadwriteSplittingDataSourceRuleConfiguration config) {
+        if (config.getReplicationLagThresholdMillis() <= 0L) {
+            return null;
+        }
+        return new ReplicationLagProbe(getDataSources(config.getReadDataSourceNames()), config.getReplicationLagThresholdMillis());
+    }
+    
+    private ReplicationPositionTracker createReplicationPositionTracker(final ReadwriteSplittingDataSourceRuleConfiguration config) {
+        if (config.getReadYourWritesTimeoutMillis() <= 0L) {
+            return null;
+        }
+        Collection<String> dataSourceNames = new LinkedList<>(config.getReadDataSourceNames());
+        dataSourceNames.add(config.getWriteDataSourceName());
+        return new ReplicationPositionTracker(getDataSources(dataSourceNames), config.getReadYourWritesTimeoutMillis());
+    }
+    
+    private void registerHedgedReadPolicy(final ReadwriteSplittingDataSourceRuleConfiguration config, final ReadwriteSplittingDataSourceRule dataSourceRule) {
+        if (config.getHedgedReadDelayPercentile() <= 0D || config.getHedgedReadBudgetPercent() <= 0D) {
+            return;
+        }
+        HedgedReadPolicy policy = new ReadwriteSplittingHedgedReadPolicy(dataSourceRule, readDataSourceStatistics, config.getHedgedReadDelayPercentile(), config.getHedgedReadBudgetPercent());
+        for (String each : config.getReadDataSourceNames()) {
+            hedgedReadPolicies.put(each, policy);
+        }
+    }
+    
+    private Map<String, DataSource> getDataSources(final Collection<String> dataSourceNames) {
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceNames.size(), 1F);
+        for (String each : dataSourceNames) {
+            if (dataSources.containsKey(each)) {
+                result.put(each, dataSources.get(each));
+            }
+        }
+        return result;
     }
     
     /**
@@ -204,4 +287,26 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         }
         return result;
     }
+    
+    @Override
+    public Map<String, ReadDataSourceStatistics> getResource() {
+        return readDataSourceStatistics;
+    }
+    
+    @Override
+    public void addResource(final ShardingSphereDatabase database) {
+    }
+    
+    @Override
+    public void closeStaleResource(final String databaseName) {
+        if (this.databaseName.equalsIgnoreCase(databaseName)) {
+            closeStaleResource();
+        }
+    }
+    
+    @Override
+    public void closeStaleResource() {
+        ReadDataSourceStatisticsRegistry.unregister(databaseName, readDataSourceStatistics);
+        HedgedReadPolicyRegistry.unregister(databaseName, hedgedReadPolicies);
+    }
 }
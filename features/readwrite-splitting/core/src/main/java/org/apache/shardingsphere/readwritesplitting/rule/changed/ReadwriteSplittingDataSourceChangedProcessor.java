@@ -45,7 +45,25 @@ public final class ReadwriteSplittingDataSourceChangedProcessor implements RuleI
     public ReadwriteSplittingDataSourceRuleConfiguration swapRuleItemConfiguration(final AlterRuleItemEvent event, final String yamlContent) {
         YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig = YamlEngine.unmarshal(yamlContent, YamlReadwriteSplittingDataSourceRuleConfiguration.class);
         return new ReadwriteSplittingDataSourceRuleConfiguration(((AlterNamedRuleItemEvent) event).getItemName(), yamlDataSourceRuleConfig.getWriteDataSourceName(),
-                yamlDataSourceRuleConfig.getReadDataSourceNames(), getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName());
+                yamlDataSourceRuleConfig.getReadDataSourceNames(), getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                getReplicationLagThresholdMillis(yamlDataSourceRuleConfig), getReadYourWritesTimeoutMillis(yamlDataSourceRuleConfig),
+                getHedgedReadDelayPercentile(yamlDataSourceRuleConfig), getHedgedReadBudgetPercent(yamlDataSourceRuleConfig));
+    }
+    
+    private long getReplicationLagThresholdMillis(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getReplicationLagThresholdMillis() ? 0L : yamlDataSourceRuleConfig.getReplicationLagThresholdMillis();
+    }
+    
+    private long getReadYourWritesTimeoutMillis(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getReadYourWritesTimeoutMillis() ? 0L : yamlDataSourceRuleConfig.getReadYourWritesTimeoutMillis();
+    }
+    
+    private double getHedgedReadDelayPercentile(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getHedgedReadDelayPercentile() ? 0D : yamlDataSourceRuleConfig.getHedgedReadDelayPercentile();
+    }
+    
+    private double getHedgedReadBudgetPercent(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getHedgedReadBudgetPercent() ? 0D : yamlDataSourceRuleConfig.getHedgedReadBudgetPercent();
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
@@ -37,4 +37,12 @@ public final class YamlReadwriteSplittingDataSourceRuleConfiguration implements
     private String transactionalReadQueryStrategy;
     
     private String loadBalancerName;
+    
+    private Long replicationLagThresholdMillis;
+    
+    private Long readYourWritesTimeoutMillis;
+    
+    private Double hedgedReadDelayPercentile;
+    
+    private Double hedgedReadBudgetPercent;
 }
@@ -61,6 +61,18 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper
         result.setReadDataSourceNames(dataSourceRuleConfig.getReadDataSourceNames());
         result.setTransactionalReadQueryStrategy(dataSourceRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceRuleConfig.getLoadBalancerName());
+        if (dataSourceRuleConfig.getReplicationLagThresholdMillis() > 0L) {
+            result.setReplicationLagThresholdMillis(dataSourceRuleConfig.getReplicationLagThresholdMillis());
+        }
+        if (dataSourceRuleConfig.getReadYourWritesTimeoutMillis() > 0L) {
+            result.setReadYourWritesTimeoutMillis(dataSourceRuleConfig.getReadYourWritesTimeoutMillis());
+        }
+        if (dataSourceRuleConfig.getHedgedReadDelayPercentile() > 0D) {
+            result.setHedgedReadDelayPercentile(dataSourceRuleConfig.getHedgedReadDelayPercentile());
+        }
+        if (dataSourceRuleConfig.getHedgedReadBudgetPercent() > 0D) {
+            result.setHedgedReadBudgetPercent(dataSourceRuleConfig.getHedgedReadBudgetPercent());
+        }
         return result;
     }
     
@@ -79,7 +91,25 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper
     
     private ReadwriteSplittingDataSourceRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
         return new ReadwriteSplittingDataSourceRuleConfiguration(name, yamlDataSourceRuleConfig.getWriteDataSourceName(), yamlDataSourceRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                getReplicationLagThresholdMillis(yamlDataSourceRuleConfig), getReadYourWritesTimeoutMillis(yamlDataSourceRuleConfig),
+                getHedgedReadDelayPercentile(yamlDataSourceRuleConfig), getHedgedReadBudgetPercent(yamlDataSourceRuleConfig));
+    }
+    
+    private long getReplicationLagThresholdMillis(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getReplicationLagThresholdMillis() ? 0L : yamlDataSourceRuleConfig.getReplicationLagThresholdMillis();
+    }
+    
+    private long getReadYourWritesTimeoutMillis(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getReadYourWritesTimeoutMillis() ? 0L : yamlDataSourceRuleConfig.getReadYourWritesTimeoutMillis();
+    }
+    
+    private double getHedgedReadDelayPercentile(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getHedgedReadDelayPercentile() ? 0D : yamlDataSourceRuleConfig.getHedgedReadDelayPercentile();
+    }
+    
+    private double getHedgedReadBudgetPercent(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getHedgedReadBudgetPercent() ? 0D : yamlDataSourceRuleConfig.getHedgedReadBudgetPercent();
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PeakEWMAReadQueryLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertGetDataSourceWithoutStatistics() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "PEAK_EWMA", new Properties());
+        List<String> readDataSourceNames = Arrays.asList("peak_ewma_read_ds_0", "peak_ewma_read_ds_1");
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("peak_ewma_read_ds_0"));
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("peak_ewma_read_ds_1"));
+    }
+    
+    @Test
+    void assertGetDataSourceWithSlowReplica() {
+        ReadDataSourceStatistics slowStatistics = new ReadDataSourceStatistics();
+        slowStatistics.start();
+        slowStatistics.finish(TimeUnit.SECONDS.toNanos(1L));
+        ReadDataSourceStatistics fastStatistics = new ReadDataSourceStatistics();
+        fastStatistics.start();
+        fastStatistics.finish(TimeUnit.MILLISECONDS.toNanos(1L));
+        Map<String, ReadDataSourceStatistics> statistics = new ConcurrentHashMap<>();
+        statistics.put("slow_read_ds", slowStatistics);
+        statistics.put("fast_read_ds", fastStatistics);
+        PeakEWMAReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = new PeakEWMAReadQueryLoadBalanceAlgorithm();
+        loadBalanceAlgorithm.setStatistics(statistics);
+        List<String> readDataSourceNames = Arrays.asList("slow_read_ds", "fast_read_ds");
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("fast_read_ds"));
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("fast_read_ds"));
+    }
+}
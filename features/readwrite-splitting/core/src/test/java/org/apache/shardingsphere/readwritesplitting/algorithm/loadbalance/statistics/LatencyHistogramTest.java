@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+class LatencyHistogramTest {
+    
+    @Test
+    void assertGetPercentileNanosWithoutEnoughSamples() {
+        LatencyHistogram actual = new LatencyHistogram();
+        actual.record(TimeUnit.MILLISECONDS.toNanos(1L));
+        assertThat(actual.getPercentileNanos(99D), is(0L));
+    }
+    
+    @Test
+    void assertGetPercentileNanos() {
+        LatencyHistogram actual = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            actual.record(TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+        for (int i = 0; i < 10; i++) {
+            actual.record(TimeUnit.MILLISECONDS.toNanos(100L));
+        }
+        long p50 = actual.getPercentileNanos(50D);
+        assertThat(p50, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1L)));
+        assertThat(p50, lessThan(TimeUnit.MILLISECONDS.toNanos(2L)));
+        assertThat(actual.getPercentileNanos(99D), greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100L)));
+    }
+}
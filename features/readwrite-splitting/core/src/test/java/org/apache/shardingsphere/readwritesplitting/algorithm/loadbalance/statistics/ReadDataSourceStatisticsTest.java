@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class ReadDataSourceStatisticsTest {
+    
+    @Test
+    void assertStartAndFinish() {
+        ReadDataSourceStatistics actual = new ReadDataSourceStatistics();
+        actual.start();
+        actual.start();
+        assertThat(actual.getInFlight(), is(2));
+        actual.finish(100L);
+        assertThat(actual.getInFlight(), is(1));
+        assertThat(actual.getLatencyEWMA(), is(100D));
+    }
+    
+    @Test
+    void assertPeakLatency() {
+        ReadDataSourceStatistics actual = new ReadDataSourceStatistics();
+        actual.start();
+        actual.finish(100L);
+        actual.start();
+        actual.finish(1000L);
+        assertThat(actual.getLatencyEWMA(), is(1000D));
+        actual.start();
+        actual.finish(10L);
+        assertThat(actual.getLatencyEWMA(), lessThanOrEqualTo(1000D));
+        assertThat(actual.getLatencyEWMA(), greaterThan(10D));
+    }
+    
+    @Test
+    void assertGetCost() {
+        ReadDataSourceStatistics actual = new ReadDataSourceStatistics();
+        assertThat(actual.getCost(), is(1D));
+        actual.start();
+        assertThat(actual.getCost(), is(2D));
+    }
+}
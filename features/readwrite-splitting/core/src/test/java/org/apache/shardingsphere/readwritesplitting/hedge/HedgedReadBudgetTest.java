@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgedReadBudgetTest {
+    
+    @Test
+    void assertTrySpend() {
+        HedgedReadBudget actual = new HedgedReadBudget(25D);
+        for (int i = 0; i < 3; i++) {
+            actual.earn();
+            assertFalse(actual.trySpend());
+        }
+        actual.earn();
+        assertTrue(actual.trySpend());
+        assertFalse(actual.trySpend());
+    }
+    
+    @Test
+    void assertTrySpendWithCappedTokens() {
+        HedgedReadBudget actual = new HedgedReadBudget(100D);
+        for (int i = 0; i < 100; i++) {
+            actual.earn();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(actual.trySpend());
+        }
+        assertFalse(actual.trySpend());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicationLagSampleTest {
+    
+    @Test
+    void assertProbe() {
+        ReplicationLagSample actual = new ReplicationLagSample();
+        assertFalse(actual.getLagMillis(1000L, 300L).isPresent());
+        assertTrue(actual.tryStartProbing(1000L, 100L));
+        assertFalse(actual.tryStartProbing(1000L, 100L));
+        actual.finishProbing(Optional.of(20L), 1000L);
+        assertThat(actual.getLagMillis(1000L, 300L), is(Optional.of(20L)));
+        assertFalse(actual.tryStartProbing(1050L, 100L));
+        assertTrue(actual.tryStartProbing(1100L, 100L));
+    }
+    
+    @Test
+    void assertMarkUnsupported() {
+        ReplicationLagSample actual = new ReplicationLagSample();
+        assertTrue(actual.tryStartProbing(1000L, 100L));
+        actual.markUnsupported();
+        assertFalse(actual.tryStartProbing(2000L, 100L));
+        assertFalse(actual.getLagMillis(2000L, 300L).isPresent());
+    }
+    
+    @Test
+    void assertGetLagMillisWithStaleSample() {
+        ReplicationLagSample actual = new ReplicationLagSample();
+        assertTrue(actual.tryStartProbing(1000L, 100L));
+        actual.finishProbing(Optional.of(20L), 1000L);
+        assertFalse(actual.getLagMillis(1301L, 300L).isPresent());
+    }
+    
+    @Test
+    void assertGetLagMillisWithHangingProbe() {
+        ReplicationLagSample actual = new ReplicationLagSample();
+        assertTrue(actual.tryStartProbing(1000L, 100L));
+        actual.finishProbing(Optional.of(20L), 1000L);
+        assertTrue(actual.tryStartProbing(1100L, 100L));
+        assertThat(actual.getLagMillis(1300L, 300L), is(Optional.of(20L)));
+        assertThat(actual.getLagMillis(1401L, 300L), is(Optional.of(Long.MAX_VALUE)));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.detector.dialect;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.lag.detector.ReplicationLagDetector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLReplicationLagDetectorTest {
+    
+    private final ReplicationLagDetector detector = DatabaseTypedSPILoader.getService(ReplicationLagDetector.class, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ResultSet resultSet;
+    
+    @Test
+    void assertDetectWithReplicaStatus() throws SQLException {
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(2);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("Replica_IO_State");
+        when(resultSet.getMetaData().getColumnLabel(2)).thenReturn("Seconds_Behind_Source");
+        when(resultSet.getLong(2)).thenReturn(3L);
+        assertThat(detector.detect(connection, 1), is(Optional.of(3000L)));
+        verify(connection.createStatement(), atLeastOnce()).setQueryTimeout(1);
+    }
+    
+    @Test
+    void assertDetectWithSlaveStatus() throws SQLException {
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLSyntaxErrorException.class);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(2);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("Slave_IO_State");
+        when(resultSet.getMetaData().getColumnLabel(2)).thenReturn("Seconds_Behind_Master");
+        when(resultSet.getLong(2)).thenReturn(3L);
+        assertThat(detector.detect(connection, 1), is(Optional.of(3000L)));
+    }
+    
+    @Test
+    void assertDetectWithoutReplica() throws SQLException {
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        assertFalse(detector.detect(connection, 1).isPresent());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.consistency;
+
+import org.apache.shardingsphere.infra.session.connection.consistency.ReadConsistencyConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
+import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesDataSourceRouterTest {
+    
+    @Mock
+    private ReadwriteSplittingDataSourceRule rule;
+    
+    @Mock
+    private StandardReadwriteSplittingDataSourceRouter standardRouter;
+    
+    @Mock
+    private ReplicationPositionTracker tracker;
+    
+    private final ReadConsistencyConnectionContext readConsistencyContext = new ReadConsistencyConnectionContext();
+    
+    @BeforeEach
+    void setUp() {
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+    }
+    
+    @Test
+    void assertRouteWithoutWrite() {
+        when(standardRouter.route(rule)).thenReturn("read_ds_0");
+        assertThat(new ReadYourWritesDataSourceRouter(readConsistencyContext, standardRouter).route(rule, tracker), is("read_ds_0"));
+        verify(tracker, never()).loadPosition(anyString());
+    }
+    
+    @Test
+    void assertRouteToAppliedReplica() {
+        readConsistencyContext.markWritten("write_ds");
+        when(tracker.loadPosition("write_ds")).thenReturn(Optional.of("uuid:1-10"));
+        when(standardRouter.route(rule)).thenReturn("read_ds_0");
+        when(tracker.waitApplied("read_ds_0", "uuid:1-10")).thenReturn(true);
+        ReadYourWritesDataSourceRouter router = new ReadYourWritesDataSourceRouter(readConsistencyContext, standardRouter);
+        assertThat(router.route(rule, tracker), is("read_ds_0"));
+        assertThat(router.route(rule, tracker), is("read_ds_0"));
+        verify(tracker, times(1)).loadPosition("write_ds");
+        verify(tracker, times(1)).waitApplied("read_ds_0", "uuid:1-10");
+    }
+    
+    @Test
+    void assertRouteToPrimaryWhenReplicaNotApplied() {
+        readConsistencyContext.markWritten("write_ds");
+        when(tracker.loadPosition("write_ds")).thenReturn(Optional.of("0/3000060"));
+        when(standardRouter.route(rule)).thenReturn("read_ds_0");
+        when(tracker.waitApplied("read_ds_0", "0/3000060")).thenReturn(false);
+        assertThat(new ReadYourWritesDataSourceRouter(readConsistencyContext, standardRouter).route(rule, tracker), is("write_ds"));
+    }
+    
+    @Test
+    void assertRouteToPrimaryWhenPositionNotLoaded() {
+        readConsistencyContext.markWritten("write_ds");
+        when(tracker.loadPosition("write_ds")).thenReturn(Optional.empty());
+        assertThat(new ReadYourWritesDataSourceRouter(readConsistencyContext, standardRouter).route(rule, tracker), is("write_ds"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RandomReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    @Test
+    void assertFilterWithoutReplicationLagProbe() {
+        ReadwriteSplittingDataSourceRule rule = new ReadwriteSplittingDataSourceRule(
+                new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomReadQueryLoadBalanceAlgorithm());
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithReplicationLagProbe() {
+        ReplicationLagProbe replicationLagProbe = mock(ReplicationLagProbe.class);
+        when(replicationLagProbe.getLagMillis("read_ds_0")).thenReturn(Optional.of(5000L));
+        when(replicationLagProbe.getLagMillis("read_ds_1")).thenReturn(Optional.of(100L));
+        when(replicationLagProbe.getLagMillis("read_ds_2")).thenReturn(Optional.empty());
+        ReadwriteSplittingDataSourceRule rule = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration(
+                "test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L, 0L, 0D, 0D),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomReadQueryLoadBalanceAlgorithm(), replicationLagProbe, null);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2")), is(Arrays.asList("read_ds_1", "read_ds_2")));
+    }
+    
+    @Test
+    void assertFilterWithAllReplicasLagged() {
+        ReplicationLagProbe replicationLagProbe = mock(ReplicationLagProbe.class);
+        when(replicationLagProbe.getLagMillis("read_ds_0")).thenReturn(Optional.of(5000L));
+        ReadwriteSplittingDataSourceRule rule = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration(
+                "test_pr", "write_ds", Collections.singletonList("read_ds_0"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L, 0L, 0D, 0D),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomReadQueryLoadBalanceAlgorithm(), replicationLagProbe, null);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Collections.singletonList("read_ds_0")), is(Collections.emptyList()));
+    }
+}
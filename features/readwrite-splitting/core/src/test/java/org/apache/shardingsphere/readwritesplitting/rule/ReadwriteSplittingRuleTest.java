@@ -18,14 +18,17 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadPolicyRegistry;
 import org.apache.shardingsphere.infra.state.datasource.DataSourceState;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -37,6 +40,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -68,6 +72,35 @@ class ReadwriteSplittingRuleTest {
         assertThat(actual.getLoadBalancer().getType(), is("RANDOM"));
     }
     
+    @Test
+    void assertCloseStaleResourceWithReadDataSourceStatistics() {
+        ReadwriteSplittingDataSourceRuleConfiguration config =
+                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "peak_ewma");
+        ReadwriteSplittingRule readwriteSplittingRule = new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("peak_ewma", new AlgorithmConfiguration("PEAK_EWMA", new Properties()))), mock(InstanceContext.class));
+        readwriteSplittingRule.getSingleDataSourceRule().getLoadBalancer().getDataSource("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"));
+        assertTrue(ReadDataSourceStatisticsRegistry.find("foo_db", "read_ds_0").isPresent());
+        assertFalse(ReadDataSourceStatisticsRegistry.find("bar_db", "read_ds_0").isPresent());
+        readwriteSplittingRule.closeStaleResource("bar_db");
+        assertTrue(ReadDataSourceStatisticsRegistry.find("foo_db", "read_ds_0").isPresent());
+        readwriteSplittingRule.closeStaleResource("foo_db");
+        assertFalse(ReadDataSourceStatisticsRegistry.find("foo_db", "read_ds_0").isPresent());
+    }
+    
+    @Test
+    void assertCloseStaleResourceWithHedgedReadPolicies() {
+        ReadwriteSplittingDataSourceRuleConfiguration config = new ReadwriteSplittingDataSourceRuleConfiguration(
+                "readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, "random", 0L, 0L, 95D, 10D);
+        ReadwriteSplittingRule readwriteSplittingRule = new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(InstanceContext.class));
+        assertTrue(HedgedReadPolicyRegistry.find("foo_db", "read_ds_0").isPresent());
+        assertFalse(HedgedReadPolicyRegistry.find("bar_db", "read_ds_0").isPresent());
+        readwriteSplittingRule.closeStaleResource("bar_db");
+        assertTrue(HedgedReadPolicyRegistry.find("foo_db", "read_ds_1").isPresent());
+        readwriteSplittingRule.closeStaleResource("foo_db");
+        assertFalse(HedgedReadPolicyRegistry.find("foo_db", "read_ds_0").isPresent());
+    }
+    
     @Test
     void assertUpdateRuleStatusWithNotExistDataSource() {
         ReadwriteSplittingRule readwriteSplittingRule = createReadwriteSplittingRule();
@@ -34,4 +34,6 @@ public final class ShadowDataSourceConfiguration {
     private final String productionDataSourceName;
     
     private final String shadowDataSourceName;
+    
+    private boolean mirrored;
 }
@@ -30,23 +30,30 @@ public final class ColumnRegexMatchedShadowAlgorithm extends AbstractColumnMatch
     
     private static final String REGEX_PROPS_KEY = "regex";
     
+    private static final Pattern META_CHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    
     private Pattern regex;
     
+    private String literal;
+    
     @Override
     public void init(final Properties props) {
         super.init(props);
-        regex = getRegex(props);
+        String regexValue = getRegexValue(props);
+        regex = Pattern.compile(regexValue);
+        literal = META_CHARACTERS.matcher(regexValue).find() ? null : regexValue;
     }
     
-    private Pattern getRegex(final Properties props) {
-        String regex = props.getProperty(REGEX_PROPS_KEY);
-        ShardingSpherePreconditions.checkNotNull(regex, () -> new ShadowAlgorithmInitializationException(getType(), "Column regex match shadow algorithm regex cannot be null."));
-        return Pattern.compile(regex);
+    private String getRegexValue(final Properties props) {
+        String result = props.getProperty(REGEX_PROPS_KEY);
+        ShardingSpherePreconditions.checkNotNull(result, () -> new ShadowAlgorithmInitializationException(getType(), "Column regex match shadow algorithm regex cannot be null."));
+        return result;
     }
     
     @Override
     protected boolean matchesShadowValue(final Comparable<?> value) {
-        return regex.matcher(String.valueOf(value)).matches();
+        String text = String.valueOf(value);
+        return null == literal ? regex.matcher(text).matches() : literal.equals(text);
     }
     
     @Override
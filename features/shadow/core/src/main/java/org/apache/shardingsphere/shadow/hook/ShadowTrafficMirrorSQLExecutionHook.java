@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.hook;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirror;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirrorContext;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shadow traffic mirror SQL execution hook.
+ */
+public final class ShadowTrafficMirrorSQLExecutionHook implements SQLExecutionHook {
+    
+    private ShadowTrafficMirror mirror;
+    
+    private DataSource mirrorDataSource;
+    
+    private String mirrorSQL;
+    
+    private List<Object> mirrorParams;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        Optional<ShadowTrafficMirror> mirror = ShadowTrafficMirrorContext.find();
+        mirrorDataSource = mirror.flatMap(optional -> optional.acquire(dataSourceName)).orElse(null);
+        if (null != mirrorDataSource) {
+            this.mirror = mirror.get();
+            mirrorSQL = sql;
+            mirrorParams = new ArrayList<>(params);
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != mirrorDataSource) {
+            mirror.add(mirrorDataSource, mirrorSQL, mirrorParams);
+            mirrorDataSource = null;
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        mirrorDataSource = null;
+    }
+}
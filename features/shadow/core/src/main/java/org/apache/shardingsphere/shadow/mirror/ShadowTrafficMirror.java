@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.mirror;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shadow traffic mirror of one SQL.
+ * 
+ * <p>Successfully executed production SQL is kept pending, and submitted to shadow after SQL execution completed or transaction committed.</p>
+ */
+public final class ShadowTrafficMirror {
+    
+    private final Map<String, DataSource> mirrorDataSources;
+    
+    private final AtomicInteger remainingCount;
+    
+    private final Queue<Runnable> pendingMirrors = new ConcurrentLinkedQueue<>();
+    
+    public ShadowTrafficMirror(final Map<String, DataSource> mirrorDataSources, final int mirroredRouteUnitCount) {
+        this.mirrorDataSources = mirrorDataSources;
+        remainingCount = new AtomicInteger(mirroredRouteUnitCount);
+    }
+    
+    /**
+     * Acquire mirror data source for production execution.
+     * 
+     * <p>Every mirrored route unit can be acquired only once, so the mirror will not be reused by later SQL which does not pass through shadow routing.</p>
+     *
+     * @param productionDataSourceName production data source name
+     * @return mirror data source
+     */
+    public Optional<DataSource> acquire(final String productionDataSourceName) {
+        DataSource result = mirrorDataSources.get(productionDataSourceName);
+        if (null == result || remainingCount.getAndDecrement() <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Add mirrored SQL to be submitted.
+     *
+     * @param dataSource mirror data source
+     * @param sql SQL
+     * @param params SQL parameters
+     */
+    public void add(final DataSource dataSource, final String sql, final List<Object> params) {
+        pendingMirrors.add(() -> ShadowTrafficMirrorExecutor.submit(dataSource, sql, params));
+    }
+    
+    /**
+     * Submit pending mirrored SQL.
+     */
+    public void submit() {
+        Runnable each;
+        while (null != (each = pendingMirrors.poll())) {
+            each.run();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.mirror;
+
+import com.alibaba.ttl.TransmittableThreadLocal;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Shadow traffic mirror context.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShadowTrafficMirrorContext {
+    
+    private static final TransmittableThreadLocal<ShadowTrafficMirror> MIRROR = new TransmittableThreadLocal<>();
+    
+    /**
+     * Find shadow traffic mirror.
+     *
+     * @return shadow traffic mirror
+     */
+    public static Optional<ShadowTrafficMirror> find() {
+        return Optional.ofNullable(MIRROR.get());
+    }
+    
+    /**
+     * Set shadow traffic mirror.
+     *
+     * @param mirror shadow traffic mirror
+     */
+    public static void set(final ShadowTrafficMirror mirror) {
+        MIRROR.set(mirror);
+    }
+    
+    /**
+     * Remove shadow traffic mirror.
+     */
+    public static void remove() {
+        MIRROR.remove();
+    }
+}
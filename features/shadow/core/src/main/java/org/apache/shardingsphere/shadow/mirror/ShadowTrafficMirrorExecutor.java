@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.mirror;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shadow traffic mirror executor.
+ * 
+ * <p>Mirrored SQL is executed in order by a single background thread. When the bounded queue is full, mirrored SQL is dropped, so shadow traffic never blocks production.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ShadowTrafficMirrorExecutor {
+    
+    private static final int QUEUE_CAPACITY = 1024;
+    
+    private static final AtomicLong DROPPED_COUNT = new AtomicLong();
+    
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), ExecutorThreadFactoryBuilder.build("Shadow-Mirror-%d"), (runnable, executor) -> DROPPED_COUNT.incrementAndGet());
+    
+    /**
+     * Submit mirrored SQL.
+     *
+     * @param dataSource mirror data source
+     * @param sql SQL
+     * @param params SQL parameters
+     */
+    public static void submit(final DataSource dataSource, final String sql, final List<Object> params) {
+        EXECUTOR.execute(() -> execute(dataSource, sql, params));
+    }
+    
+    private static void execute(final DataSource dataSource, final String sql, final List<Object> params) {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) {
+                preparedStatement.setObject(i + 1, params.get(i));
+            }
+            preparedStatement.execute();
+        } catch (final SQLException ex) {
+            log.warn("Execute mirrored SQL `{}` on shadow data source failed.", sql, ex);
+        }
+    }
+    
+    /**
+     * Get dropped count of mirrored SQL.
+     *
+     * @return dropped count
+     */
+    public static long getDroppedCount() {
+        return DROPPED_COUNT.get();
+    }
+}
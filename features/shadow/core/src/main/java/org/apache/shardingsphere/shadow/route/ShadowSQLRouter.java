@@ -24,7 +24,10 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.shadow.constant.ShadowOrder;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirror;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirrorContext;
 import org.apache.shardingsphere.shadow.route.engine.ShadowRouteEngineFactory;
 import org.apache.shardingsphere.shadow.rule.ShadowRule;
 
@@ -37,6 +40,7 @@ public final class ShadowSQLRouter implements SQLRouter<ShadowRule> {
     public RouteContext createRouteContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ShardingSphereDatabase database,
                                            final ShadowRule rule, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         // TODO
+        ShadowTrafficMirrorContext.remove();
         return new RouteContext();
     }
     
@@ -44,6 +48,16 @@ public final class ShadowSQLRouter implements SQLRouter<ShadowRule> {
     public void decorateRouteContext(final RouteContext routeContext, final QueryContext queryContext, final ShardingSphereDatabase database,
                                      final ShadowRule rule, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         ShadowRouteEngineFactory.newInstance(queryContext).route(routeContext, rule);
+        ShadowTrafficMirrorContext.find().ifPresent(optional -> connectionContext.addExecutionCompletedAction(() -> completeMirror(optional, connectionContext.getTransactionContext())));
+    }
+    
+    private void completeMirror(final ShadowTrafficMirror mirror, final TransactionConnectionContext transactionContext) {
+        ShadowTrafficMirrorContext.remove();
+        if (transactionContext.isInTransaction()) {
+            transactionContext.addCommittedAction(mirror::submit);
+        } else {
+            mirror.submit();
+        }
     }
     
     @Override
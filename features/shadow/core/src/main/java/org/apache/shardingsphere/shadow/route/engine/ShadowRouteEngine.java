@@ -20,9 +20,13 @@ package org.apache.shardingsphere.shadow.route.engine;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirror;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirrorContext;
 import org.apache.shardingsphere.shadow.rule.ShadowRule;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
@@ -42,27 +46,43 @@ public interface ShadowRouteEngine {
     
     /**
      * Decorate route context.
+     * 
+     * <p>Route units of mirrored shadow data sources keep routing to production.
+     * Only insert, update and delete are mirrored to shadow asynchronously, after production execution succeeds and its transaction commits.</p>
      *
      * @param routeContext route context to be decorated
      * @param rule shadow rule
      * @param shadowDataSourceMappings shadow data source mappings
+     * @param mirrorable whether SQL can be mirrored
      */
-    default void decorateRouteContext(final RouteContext routeContext, final ShadowRule rule, final Map<String, String> shadowDataSourceMappings) {
+    default void decorateRouteContext(final RouteContext routeContext, final ShadowRule rule, final Map<String, String> shadowDataSourceMappings, final boolean mirrorable) {
         Collection<RouteUnit> toBeRemovedRouteUnit = new LinkedList<>();
         Collection<RouteUnit> toBeAddedRouteUnit = new LinkedList<>();
+        Map<String, DataSource> mirrorDataSources = new LinkedHashMap<>();
+        int mirroredRouteUnitCount = 0;
         for (RouteUnit each : routeContext.getRouteUnits()) {
             String logicName = each.getDataSourceMapper().getLogicName();
             String actualName = each.getDataSourceMapper().getActualName();
             Optional<String> sourceDataSourceName = rule.getSourceDataSourceName(actualName);
             if (sourceDataSourceName.isPresent()) {
                 String shadowDataSourceName = shadowDataSourceMappings.get(sourceDataSourceName.get());
+                Optional<DataSource> mirrorDataSource = null == shadowDataSourceName ? Optional.empty() : rule.findMirrorDataSource(actualName);
+                if (mirrorable && mirrorDataSource.isPresent()) {
+                    mirrorDataSources.put(sourceDataSourceName.get(), mirrorDataSource.get());
+                    mirroredRouteUnitCount++;
+                }
                 toBeRemovedRouteUnit.add(each);
-                toBeAddedRouteUnit.add(null == shadowDataSourceName
+                toBeAddedRouteUnit.add(null == shadowDataSourceName || mirrorDataSource.isPresent()
                         ? new RouteUnit(new RouteMapper(logicName, sourceDataSourceName.get()), each.getTableMappers())
                         : new RouteUnit(new RouteMapper(logicName, shadowDataSourceName), each.getTableMappers()));
             }
         }
         routeContext.getRouteUnits().removeAll(toBeRemovedRouteUnit);
         routeContext.getRouteUnits().addAll(toBeAddedRouteUnit);
+        if (mirrorDataSources.isEmpty()) {
+            ShadowTrafficMirrorContext.remove();
+        } else {
+            ShadowTrafficMirrorContext.set(new ShadowTrafficMirror(mirrorDataSources, mirroredRouteUnitCount));
+        }
     }
 }
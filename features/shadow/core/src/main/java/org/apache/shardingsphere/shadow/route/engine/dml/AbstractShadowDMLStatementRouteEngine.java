@@ -61,7 +61,7 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
     @Override
     public final void route(final RouteContext routeContext, final ShadowRule rule) {
         tableAliasNameMappings.putAll(getTableAliasNameMappings(((TableAvailable) sqlStatementContext).getAllTables()));
-        decorateRouteContext(routeContext, rule, findShadowDataSourceMappings(rule));
+        decorateRouteContext(routeContext, rule, findShadowDataSourceMappings(rule), ShadowOperationType.SELECT != operationType);
     }
     
     private Map<String, String> getTableAliasNameMappings(final Collection<SimpleTableSegment> tableSegments) {
@@ -45,7 +45,7 @@ public final class ShadowNonDMLStatementRoutingEngine implements ShadowRouteEngi
     
     @Override
     public void route(final RouteContext routeContext, final ShadowRule rule) {
-        decorateRouteContext(routeContext, rule, findShadowDataSourceMappings(rule));
+        decorateRouteContext(routeContext, rule, findShadowDataSourceMappings(rule), false);
     }
     
     private Map<String, String> findShadowDataSourceMappings(final ShadowRule rule) {
@@ -30,7 +30,9 @@ import org.apache.shardingsphere.shadow.api.shadow.column.ColumnShadowAlgorithm;
 import org.apache.shardingsphere.shadow.api.shadow.hint.HintShadowAlgorithm;
 import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -49,6 +51,8 @@ public final class ShadowRule implements DatabaseRule, DataSourceContainedRule {
     
     private final Map<String, ShadowDataSourceRule> shadowDataSourceMappings = new LinkedHashMap<>();
     
+    private final Map<String, DataSource> mirrorDataSources = new LinkedHashMap<>();
+    
     private final Map<String, ShadowAlgorithm> shadowAlgorithms = new LinkedHashMap<>();
     
     private final Map<String, ShadowTableRule> shadowTableRules = new LinkedHashMap<>();
@@ -56,8 +60,13 @@ public final class ShadowRule implements DatabaseRule, DataSourceContainedRule {
     private final ShadowAlgorithm defaultShadowAlgorithm;
     
     public ShadowRule(final ShadowRuleConfiguration ruleConfig) {
+        this(ruleConfig, Collections.emptyMap());
+    }
+    
+    public ShadowRule(final ShadowRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources) {
         configuration = ruleConfig;
         initShadowDataSourceMappings(ruleConfig.getDataSources());
+        initMirrorDataSources(ruleConfig.getDataSources(), dataSources);
         initShadowAlgorithmConfigurations(ruleConfig.getShadowAlgorithms());
         defaultShadowAlgorithm = shadowAlgorithms.get(ruleConfig.getDefaultShadowAlgorithmName());
         if (defaultShadowAlgorithm instanceof HintShadowAlgorithm<?>) {
@@ -70,6 +79,14 @@ public final class ShadowRule implements DatabaseRule, DataSourceContainedRule {
         dataSources.forEach(each -> shadowDataSourceMappings.put(each.getName(), new ShadowDataSourceRule(each.getProductionDataSourceName(), each.getShadowDataSourceName())));
     }
     
+    private void initMirrorDataSources(final Collection<ShadowDataSourceConfiguration> dataSourceConfigs, final Map<String, DataSource> dataSources) {
+        for (ShadowDataSourceConfiguration each : dataSourceConfigs) {
+            if (each.isMirrored() && dataSources.containsKey(each.getShadowDataSourceName())) {
+                mirrorDataSources.put(each.getName(), dataSources.get(each.getShadowDataSourceName()));
+            }
+        }
+    }
+    
     private void initShadowAlgorithmConfigurations(final Map<String, AlgorithmConfiguration> shadowAlgorithmConfigs) {
         shadowAlgorithmConfigs.forEach((key, value) -> {
             ShadowAlgorithm algorithm = TypedSPILoader.getService(ShadowAlgorithm.class, value.getType(), value.getProps());
@@ -233,6 +250,16 @@ public final class ShadowRule implements DatabaseRule, DataSourceContainedRule {
         return null == shadowDataSourceRule ? Optional.empty() : Optional.of(shadowDataSourceRule.getProductionDataSource());
     }
     
+    /**
+     * Find mirror data source, which receives mirrored traffic asynchronously instead of being routed to.
+     *
+     * @param actualDataSourceName actual data source name
+     * @return mirror data source
+     */
+    public Optional<DataSource> findMirrorDataSource(final String actualDataSourceName) {
+        return Optional.ofNullable(mirrorDataSources.get(actualDataSourceName));
+    }
+    
     @Override
     public Map<String, Collection<String>> getDataSourceMapper() {
         Map<String, Collection<String>> result = new LinkedHashMap<>();
@@ -37,7 +37,7 @@ public final class ShadowRuleBuilder implements DatabaseRuleBuilder<ShadowRuleCo
     @Override
     public ShadowRule build(final ShadowRuleConfiguration config, final String databaseName, final DatabaseType protocolType,
                             final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules, final InstanceContext instanceContext) {
-        return new ShadowRule(config);
+        return new ShadowRule(config, dataSources);
     }
     
     @Override
@@ -38,7 +38,10 @@ public final class ShadowDataSourceChangedProcessor implements RuleItemConfigura
     @Override
     public ShadowDataSourceConfiguration swapRuleItemConfiguration(final AlterRuleItemEvent event, final String yamlContent) {
         YamlShadowDataSourceConfiguration yamlConfig = YamlEngine.unmarshal(yamlContent, YamlShadowDataSourceConfiguration.class);
-        return new ShadowDataSourceConfiguration(((AlterNamedRuleItemEvent) event).getItemName(), yamlConfig.getProductionDataSourceName(), yamlConfig.getShadowDataSourceName());
+        ShadowDataSourceConfiguration result = new ShadowDataSourceConfiguration(((AlterNamedRuleItemEvent) event).getItemName(), yamlConfig.getProductionDataSourceName(),
+                yamlConfig.getShadowDataSourceName());
+        result.setMirrored(Boolean.TRUE.equals(yamlConfig.getMirrored()));
+        return result;
     }
     
     @Override
@@ -31,4 +31,6 @@ public final class YamlShadowDataSourceConfiguration implements YamlConfiguratio
     private String productionDataSourceName;
     
     private String shadowDataSourceName;
+    
+    private Boolean mirrored;
 }
@@ -78,6 +78,9 @@ public final class NewYamlShadowRuleConfigurationSwapper implements NewYamlRuleC
         YamlShadowDataSourceConfiguration result = new YamlShadowDataSourceConfiguration();
         result.setProductionDataSourceName(data.getProductionDataSourceName());
         result.setShadowDataSourceName(data.getShadowDataSourceName());
+        if (data.isMirrored()) {
+            result.setMirrored(true);
+        }
         return result;
     }
     
@@ -103,7 +106,9 @@ public final class NewYamlShadowRuleConfigurationSwapper implements NewYamlRuleC
     }
     
     private ShadowDataSourceConfiguration swapDataSource(final String name, final YamlShadowDataSourceConfiguration yamlConfig) {
-        return new ShadowDataSourceConfiguration(name, yamlConfig.getProductionDataSourceName(), yamlConfig.getShadowDataSourceName());
+        ShadowDataSourceConfiguration result = new ShadowDataSourceConfiguration(name, yamlConfig.getProductionDataSourceName(), yamlConfig.getShadowDataSourceName());
+        result.setMirrored(Boolean.TRUE.equals(yamlConfig.getMirrored()));
+        return result;
     }
     
     @Override
@@ -53,6 +53,9 @@ public final class YamlShadowRuleConfigurationSwapper implements YamlRuleConfigu
         YamlShadowDataSourceConfiguration result = new YamlShadowDataSourceConfiguration();
         result.setProductionDataSourceName(data.getProductionDataSourceName());
         result.setShadowDataSourceName(data.getShadowDataSourceName());
+        if (data.isMirrored()) {
+            result.setMirrored(true);
+        }
         return result;
     }
     
@@ -87,7 +90,9 @@ public final class YamlShadowRuleConfigurationSwapper implements YamlRuleConfigu
     }
     
     private ShadowDataSourceConfiguration swapToDataSourceObject(final String name, final YamlShadowDataSourceConfiguration yamlConfig) {
-        return new ShadowDataSourceConfiguration(name, yamlConfig.getProductionDataSourceName(), yamlConfig.getShadowDataSourceName());
+        ShadowDataSourceConfiguration result = new ShadowDataSourceConfiguration(name, yamlConfig.getProductionDataSourceName(), yamlConfig.getShadowDataSourceName());
+        result.setMirrored(Boolean.TRUE.equals(yamlConfig.getMirrored()));
+        return result;
     }
     
     @Override
@@ -17,16 +17,46 @@
 
 package org.apache.shardingsphere.shadow.route;
 
-import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
-import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.shadow.api.config.ShadowRuleConfiguration;
+import org.apache.shardingsphere.shadow.api.config.datasource.ShadowDataSourceConfiguration;
+import org.apache.shardingsphere.shadow.api.config.table.ShadowTableConfiguration;
+import org.apache.shardingsphere.shadow.hook.ShadowTrafficMirrorSQLExecutionHook;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirrorContext;
 import org.apache.shardingsphere.shadow.rule.ShadowRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.CommentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ShadowSQLRouterTest {
     
@@ -35,4 +65,51 @@ class ShadowSQLRouterTest {
         assertNotNull(new ShadowSQLRouter().createRouteContext(mock(QueryContext.class),
                 mock(RuleMetaData.class), mock(ShardingSphereDatabase.class), mock(ShadowRule.class), mock(ConfigurationProperties.class), new ConnectionContext()));
     }
+    
+    @Test
+    void assertDecorateRouteContextWithMirrorInTransaction() throws SQLException {
+        DataSource shadowDataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        RouteContext routeContext = createRouteContext();
+        ConnectionContext connectionContext = new ConnectionContext();
+        connectionContext.getTransactionContext().setInTransaction(true);
+        new ShadowSQLRouter().decorateRouteContext(routeContext, createQueryContext(), mock(ShardingSphereDatabase.class),
+                new ShadowRule(createShadowRuleConfiguration(), Collections.singletonMap("ds_shadow", shadowDataSource)), mock(ConfigurationProperties.class), connectionContext);
+        assertThat(routeContext.getRouteUnits().iterator().next().getDataSourceMapper().getActualName(), is("ds"));
+        assertTrue(ShadowTrafficMirrorContext.find().isPresent());
+        ShadowTrafficMirrorSQLExecutionHook hook = new ShadowTrafficMirrorSQLExecutionHook();
+        hook.start("ds", "INSERT INTO t_order VALUES (1)", Collections.emptyList(), null, true);
+        hook.finishSuccess();
+        connectionContext.completeExecution();
+        assertFalse(ShadowTrafficMirrorContext.find().isPresent());
+        verify(shadowDataSource, after(100L).never()).getConnection();
+        connectionContext.getTransactionContext().runCommittedActions();
+        verify(shadowDataSource, timeout(1000L)).getConnection();
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("logic_db", "shadow-data-source"), Collections.singleton(new RouteMapper("t_order", "t_order"))));
+        return result;
+    }
+    
+    private QueryContext createQueryContext() {
+        MySQLInsertStatement sqlStatement = new MySQLInsertStatement();
+        sqlStatement.getCommentSegments().add(new CommentSegment("/* SHARDINGSPHERE_HINT: SHADOW=true */", 0, 20));
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(sqlStatement);
+        when(sqlStatementContext.getAllTables()).thenReturn(Collections.singleton(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order")))));
+        QueryContext result = mock(QueryContext.class);
+        when(result.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        return result;
+    }
+    
+    private ShadowRuleConfiguration createShadowRuleConfiguration() {
+        ShadowRuleConfiguration result = new ShadowRuleConfiguration();
+        ShadowDataSourceConfiguration dataSourceConfig = new ShadowDataSourceConfiguration("shadow-data-source", "ds", "ds_shadow");
+        dataSourceConfig.setMirrored(true);
+        result.getDataSources().add(dataSourceConfig);
+        result.setTables(Collections.singletonMap("t_order", new ShadowTableConfiguration(Collections.singleton("shadow-data-source"), Collections.singleton("sql-hint-algorithm"))));
+        result.setShadowAlgorithms(Collections.singletonMap("sql-hint-algorithm", new AlgorithmConfiguration("SQL_HINT", PropertiesBuilder.build(new Property("shadow", Boolean.TRUE.toString())))));
+        return result;
+    }
 }
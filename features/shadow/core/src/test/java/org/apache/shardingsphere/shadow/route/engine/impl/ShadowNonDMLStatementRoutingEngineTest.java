@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.shadow.api.config.ShadowRuleConfiguration;
 import org.apache.shardingsphere.shadow.api.config.datasource.ShadowDataSourceConfiguration;
 import org.apache.shardingsphere.shadow.api.config.table.ShadowTableConfiguration;
+import org.apache.shardingsphere.shadow.mirror.ShadowTrafficMirrorContext;
 import org.apache.shardingsphere.shadow.rule.ShadowRule;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.CommentSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLCreateTableStatement;
@@ -34,12 +35,14 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -70,6 +73,19 @@ class ShadowNonDMLStatementRoutingEngineTest {
         assertThat(dataSourceMapper.getActualName(), is("ds_shadow"));
     }
     
+    @Test
+    void assertRouteWithoutMirror() {
+        RouteContext routeContext = createRouteContext();
+        ShadowRuleConfiguration ruleConfig = createShadowRuleConfiguration();
+        ruleConfig.getDataSources().iterator().next().setMirrored(true);
+        DataSource shadowDataSource = mock(DataSource.class);
+        shadowRouteEngine.route(routeContext, new ShadowRule(ruleConfig, Collections.singletonMap("ds_shadow", shadowDataSource)));
+        RouteMapper dataSourceMapper = routeContext.getRouteUnits().iterator().next().getDataSourceMapper();
+        assertThat(dataSourceMapper.getLogicName(), is("logic_db"));
+        assertThat(dataSourceMapper.getActualName(), is("ds"));
+        assertFalse(ShadowTrafficMirrorContext.find().isPresent());
+    }
+    
     private RouteContext createRouteContext() {
         RouteContext result = new RouteContext();
         Collection<RouteUnit> routeUnits = result.getRouteUnits();
@@ -83,7 +99,7 @@ class ShadowNonDMLStatementRoutingEngineTest {
     
     private ShadowRuleConfiguration createShadowRuleConfiguration() {
         ShadowRuleConfiguration result = new ShadowRuleConfiguration();
-        result.setDataSources(Collections.singleton(new ShadowDataSourceConfiguration("shadow-data-source", "ds", "ds_shadow")));
+        result.getDataSources().add(new ShadowDataSourceConfiguration("shadow-data-source", "ds", "ds_shadow"));
         result.setTables(Collections.singletonMap("t_order", new ShadowTableConfiguration(Collections.singleton("shadow-data-source"), Collections.singleton("sql-hint-algorithm"))));
         result.setShadowAlgorithms(createShadowAlgorithms());
         return result;
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.bulk;
+
+import com.google.common.base.Splitter;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.BulkLoadRouter;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.exception.syntax.UnsupportedShardingOperationException;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding bulk load router.
+ */
+public final class ShardingBulkLoadRouter implements BulkLoadRouter<ShardingRule> {
+    
+    @Override
+    public void check(final String logicTableName, final Collection<String> assignedColumnNames, final ShardingRule rule) {
+        for (String each : assignedColumnNames) {
+            ShardingSpherePreconditions.checkState(!rule.findShardingColumn(each, logicTableName).isPresent(),
+                    () -> new UnsupportedShardingOperationException(String.format("Bulk load assigning sharding column `%s` by expression", each), logicTableName));
+        }
+    }
+    
+    @Override
+    public Optional<BulkLoadRowRouter> createRowRouter(final String logicTableName, final List<String> fieldColumnNames,
+                                                       final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext,
+                                                       final ConfigurationProperties props, final ShardingRule rule) {
+        if (!rule.isShardingTable(logicTableName)) {
+            return Optional.empty();
+        }
+        Map<Integer, String> shardingColumns = new LinkedHashMap<>();
+        for (int i = 0; i < fieldColumnNames.size(); i++) {
+            Optional<String> shardingColumn = null == fieldColumnNames.get(i) ? Optional.empty() : rule.findShardingColumn(fieldColumnNames.get(i), logicTableName);
+            if (shardingColumn.isPresent()) {
+                shardingColumns.put(i, shardingColumn.get());
+            }
+        }
+        for (String each : getShardingColumns(rule, rule.getTableRule(logicTableName))) {
+            ShardingSpherePreconditions.checkState(shardingColumns.values().stream().anyMatch(each::equalsIgnoreCase),
+                    () -> new UnsupportedShardingOperationException(String.format("Bulk load without sharding column `%s` in field list", each), logicTableName));
+        }
+        return Optional.of(new ShardingBulkLoadRowRouter(rule, logicTableName, shardingColumns, sqlStatementContext, hintValueContext, props));
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingRule rule, final TableRule tableRule) {
+        Collection<String> result = new LinkedHashSet<>();
+        result.addAll(getShardingColumns(rule, rule.getDatabaseShardingStrategyConfiguration(tableRule)));
+        result.addAll(getShardingColumns(rule, rule.getTableShardingStrategyConfiguration(tableRule)));
+        return result;
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingRule rule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        Collection<String> result = new LinkedHashSet<>();
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            result.add(null == shardingColumn ? rule.getDefaultShardingColumn() : shardingColumn);
+        } else if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            result.addAll(Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()));
+        }
+        return result;
+    }
+    
+    @Override
+    public int getOrder() {
+        return ShardingOrder.ORDER;
+    }
+    
+    @Override
+    public Class<ShardingRule> getTypeClass() {
+        return ShardingRule.class;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.bulk;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.exception.connection.EmptyShardingRouteResultException;
+import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
+import org.apache.shardingsphere.sharding.exception.syntax.UnsupportedShardingOperationException;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding bulk load row router, which routes every row by the standard sharding routing engine.
+ */
+@RequiredArgsConstructor
+public final class ShardingBulkLoadRowRouter implements BulkLoadRowRouter {
+    
+    private final ShardingRule rule;
+    
+    private final String logicTableName;
+    
+    private final Map<Integer, String> shardingColumns;
+    
+    private final SQLStatementContext sqlStatementContext;
+    
+    private final HintValueContext hintValueContext;
+    
+    private final ConfigurationProperties props;
+    
+    @Override
+    public Collection<Integer> getRoutingFieldIndexes() {
+        return shardingColumns.keySet();
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public DataNode route(final List<Comparable<?>> routingValues) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        Iterator<Comparable<?>> values = routingValues.iterator();
+        for (String each : shardingColumns.values()) {
+            Comparable<?> value = values.next();
+            if (null == value) {
+                throw new NullShardingValueException();
+            }
+            shardingCondition.getValues().add(new ListShardingConditionValue<>(each, logicTableName, Collections.singletonList((Comparable) value)));
+        }
+        ShardingConditions shardingConditions = new ShardingConditions(Collections.singletonList(shardingCondition), sqlStatementContext, rule);
+        RouteContext routeContext = new ShardingStandardRoutingEngine(logicTableName, shardingConditions, sqlStatementContext, hintValueContext, props).route(rule);
+        if (routeContext.getRouteUnits().isEmpty()) {
+            throw new EmptyShardingRouteResultException();
+        }
+        if (routeContext.getRouteUnits().size() > 1) {
+            throw new UnsupportedShardingOperationException("Bulk load rows routed to multiple data nodes", logicTableName);
+        }
+        RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+        return new DataNode(routeUnit.getDataSourceMapper().getActualName(), routeUnit.getTableMappers().iterator().next().getActualName());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.bulk;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
+import org.apache.shardingsphere.sharding.exception.syntax.UnsupportedShardingOperationException;
+import org.apache.shardingsphere.sharding.route.engine.fixture.ShardingRoutingEngineFixtureBuilder;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ShardingBulkLoadRouterTest {
+    
+    private final ShardingRule rule = ShardingRoutingEngineFixtureBuilder.createBasedShardingRule();
+    
+    @Test
+    void assertCheck() {
+        assertDoesNotThrow(() -> new ShardingBulkLoadRouter().check("t_order", Collections.singleton("status"), rule));
+    }
+    
+    @Test
+    void assertCheckWithAssignedShardingColumn() {
+        assertThrows(UnsupportedShardingOperationException.class, () -> new ShardingBulkLoadRouter().check("t_order", Collections.singleton("order_id"), rule));
+    }
+    
+    @Test
+    void assertCreateRowRouterWithoutShardingTable() {
+        assertFalse(createRowRouter("t_user", Collections.singletonList("user_id")).isPresent());
+    }
+    
+    @Test
+    void assertCreateRowRouterWithoutShardingColumn() {
+        assertThrows(UnsupportedShardingOperationException.class, () -> createRowRouter("t_order", Arrays.asList("user_id", "status")));
+    }
+    
+    @Test
+    void assertRoute() {
+        Optional<BulkLoadRowRouter> actual = createRowRouter("t_order", Arrays.asList("status", "order_id", null, "user_id"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRoutingFieldIndexes(), is(new LinkedHashSet<>(Arrays.asList(1, 3))));
+        assertThat(actual.get().route(Arrays.asList(2, 1)), is(new DataNode("ds_1", "t_order_0")));
+    }
+    
+    @Test
+    void assertRouteWithNullValue() {
+        Optional<BulkLoadRowRouter> actual = createRowRouter("t_order", Arrays.asList("order_id", "user_id"));
+        assertTrue(actual.isPresent());
+        assertThrows(NullShardingValueException.class, () -> actual.get().route(Arrays.asList(2, null)));
+    }
+    
+    private Optional<BulkLoadRowRouter> createRowRouter(final String logicTableName, final List<String> fieldColumnNames) {
+        return new ShardingBulkLoadRouter().createRowRouter(logicTableName, fieldColumnNames,
+                mock(SQLStatementContext.class), new HintValueContext(), new ConfigurationProperties(new Properties()), rule);
+    }
+}
@@ -90,6 +90,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Proxy frontend command lane size. The default value is 0, which means 8 lanes per available processor.
+     */
+    PROXY_FRONTEND_COMMAND_LANE_SIZE("proxy-frontend-command-lane-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Max pending commands of proxy frontend, less than or equal to 0 means no limitation.
+     */
+    PROXY_FRONTEND_COMMAND_MAX_PENDING("proxy-frontend-command-max-pending", String.valueOf(10000), int.class, true),
+    
     /**
      * Proxy default start port.
      */
@@ -120,10 +130,25 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_SSL_CIPHER("proxy-frontend-ssl-cipher", "", String.class, true),
     
+    /**
+     * Whether backend connection pools are dedicated to proxy sessions, so released connections keep their session variables and only changed ones are replayed on next use.
+     */
+    PROXY_BACKEND_CONNECTION_POOL_DEDICATED("proxy-backend-connection-pool-dedicated", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Agent plugins enabled.
      */
-    AGENT_PLUGINS_ENABLED("agent-plugins-enabled", String.valueOf(Boolean.TRUE), boolean.class, false);
+    AGENT_PLUGINS_ENABLED("agent-plugins-enabled", String.valueOf(Boolean.TRUE), boolean.class, false),
+    
+    /**
+     * Rows read ahead and decrypted in parallel for encrypted query results, 0 means disabled.
+     */
+    ENCRYPT_PARALLEL_DECRYPT_BATCH_SIZE("encrypt-parallel-decrypt-batch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * The max thread size of worker group of each database to decrypt encrypted query results in parallel, 0 means available processors.
+     */
+    ENCRYPT_PARALLEL_DECRYPT_EXECUTOR_SIZE("encrypt-parallel-decrypt-executor-size", String.valueOf(0), int.class, true);
     
     private final String key;
     
@@ -40,6 +40,8 @@ public enum PostgreSQLState implements SQLState {
     
     UNDEFINED_COLUMN("42703"),
     
+    QUERY_CANCELED("57014"),
+    
     SYSTEM_ERROR("58000"),
     
     UNEXPECTED_ERROR("99999");
@@ -68,6 +68,8 @@ public final class JDBCExecutor {
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            connectionContext.completeExecution();
         }
     }
 }
@@ -24,12 +24,20 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadExecutor;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadPolicy;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadPolicyRegistry;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadTask;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
@@ -46,6 +54,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final DatabaseType protocolType;
     
+    private final String databaseName;
+    
     private final ResourceMetaData resourceMetaData;
     
     private final SQLStatement sqlStatement;
@@ -79,8 +89,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
-            sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
-            T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            sqlExecutionHook.start(databaseName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            T result = executeSQLWithHedgedRead(jdbcExecutionUnit, storageType);
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution();
             return result;
@@ -97,7 +107,40 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private T executeSQLWithHedgedRead(final JDBCExecutionUnit jdbcExecutionUnit, final DatabaseType storageType) throws SQLException {
+        String dataSourceName = jdbcExecutionUnit.getExecutionUnit().getDataSourceName();
+        Optional<HedgedReadPolicy> hedgedReadPolicy = isHedgedReadSupported() && isHedgeableStatement() ? HedgedReadPolicyRegistry.find(databaseName, dataSourceName) : Optional.empty();
+        long hedgeDelayNanos = hedgedReadPolicy.map(optional -> optional.getHedgeDelayNanos(dataSourceName)).orElse(0L);
+        if (hedgeDelayNanos <= 0L) {
+            return executeSQL(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+        }
+        return HedgedReadExecutor.execute(new JDBCPrimaryHedgedReadTask<>(this, jdbcExecutionUnit, storageType),
+                () -> hedgedReadPolicy.get().acquireHedgeDataSource(dataSourceName).flatMap(optional -> createSecondaryHedgedReadTask(jdbcExecutionUnit, optional)), hedgeDelayNanos);
+    }
+    
+    private boolean isHedgeableStatement() {
+        return sqlStatement instanceof SelectStatement && !SelectStatementHandler.getLockSegment((SelectStatement) sqlStatement).isPresent();
+    }
+    
+    private Optional<HedgedReadTask<T>> createSecondaryHedgedReadTask(final JDBCExecutionUnit jdbcExecutionUnit, final String hedgeDataSourceName) {
+        StorageUnit storageUnit = resourceMetaData.getStorageUnits().get(hedgeDataSourceName);
+        if (null == storageUnit) {
+            return Optional.empty();
+        }
+        return Optional.of(new JDBCSecondaryHedgedReadTask<>(this, storageUnit.getDataSource(), jdbcExecutionUnit.getExecutionUnit().getSqlUnit(),
+                jdbcExecutionUnit.getStorageResource() instanceof PreparedStatement, storageUnit.getStorageType()));
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
+    
+    /**
+     * Whether to support hedged read, which requires execute SQL to be free of side effects on shared state.
+     *
+     * @return support hedged read or not
+     */
+    protected boolean isHedgedReadSupported() {
+        return false;
+    }
 }
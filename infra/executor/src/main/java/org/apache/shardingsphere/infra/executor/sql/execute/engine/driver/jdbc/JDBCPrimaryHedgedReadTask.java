@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadTask;
+
+import java.sql.SQLException;
+
+/**
+ * JDBC primary hedged read task, which executes on statement of execution unit.
+ *
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+public final class JDBCPrimaryHedgedReadTask<T> implements HedgedReadTask<T> {
+    
+    private final JDBCExecutorCallback<T> callback;
+    
+    private final JDBCExecutionUnit executionUnit;
+    
+    private final DatabaseType storageType;
+    
+    @Override
+    public T execute() throws SQLException {
+        return callback.executeSQL(executionUnit.getExecutionUnit().getSqlUnit().getSql(), executionUnit.getStorageResource(), executionUnit.getConnectionMode(), storageType);
+    }
+    
+    @Override
+    public void cancel() {
+        try {
+            executionUnit.getStorageResource().cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+}
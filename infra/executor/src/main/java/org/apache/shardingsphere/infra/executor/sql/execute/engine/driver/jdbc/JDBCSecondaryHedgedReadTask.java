@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.hedge.HedgedReadTask;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC secondary hedged read task, which executes on a new connection of hedge data source and loads result into memory.
+ *
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+public final class JDBCSecondaryHedgedReadTask<T> implements HedgedReadTask<T> {
+    
+    private final JDBCExecutorCallback<T> callback;
+    
+    private final DataSource dataSource;
+    
+    private final SQLUnit sqlUnit;
+    
+    private final boolean isPrepared;
+    
+    private final DatabaseType storageType;
+    
+    private volatile Statement statement;
+    
+    private volatile boolean cancelled;
+    
+    @Override
+    public T execute() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement hedgeStatement = createStatement(connection)) {
+            statement = hedgeStatement;
+            if (cancelled) {
+                throw new SQLException("Hedged read has been cancelled.");
+            }
+            return callback.executeSQL(sqlUnit.getSql(), hedgeStatement, ConnectionMode.CONNECTION_STRICTLY, storageType);
+        }
+    }
+    
+    private Statement createStatement(final Connection connection) throws SQLException {
+        if (!isPrepared) {
+            return connection.createStatement();
+        }
+        PreparedStatement result = connection.prepareStatement(sqlUnit.getSql());
+        int index = 1;
+        for (Object each : sqlUnit.getParameters()) {
+            result.setObject(index++, each);
+        }
+        return result;
+    }
+    
+    @Override
+    public void cancel() {
+        cancelled = true;
+        Statement currentStatement = statement;
+        if (null == currentStatement) {
+            return;
+        }
+        try {
+            currentStatement.cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+}
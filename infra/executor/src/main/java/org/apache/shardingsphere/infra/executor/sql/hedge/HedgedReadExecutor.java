@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hedge;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hedged read executor.
+ * 
+ * <p>Primary read is executed in caller thread, so its connection is never shared between threads.
+ * If it does not finish within hedge delay, hedged read is sent from another thread, the first finished read wins and the other one is cancelled.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HedgedReadExecutor {
+    
+    private static final ScheduledExecutorService HEDGE_TIMER = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Hedged-Read-Timer-%d"));
+    
+    private static final ExecutorService HEDGE_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("Hedged-Read-%d"));
+    
+    private static final int RUNNING = 0;
+    
+    private static final int PRIMARY_WON = 1;
+    
+    private static final int HEDGE_WON = 2;
+    
+    /**
+     * Execute read with hedging.
+     *
+     * @param primaryTask primary read task
+     * @param hedgeTaskSupplier hedged read task supplier, which is called when hedge delay elapsed
+     * @param hedgeDelayNanos hedge delay in nanoseconds
+     * @param <T> type of result
+     * @return result of the first finished read
+     * @throws SQLException SQL exception
+     */
+    public static <T> T execute(final HedgedReadTask<T> primaryTask, final Supplier<Optional<HedgedReadTask<T>>> hedgeTaskSupplier, final long hedgeDelayNanos) throws SQLException {
+        HedgedRead<T> hedgedRead = new HedgedRead<>(primaryTask);
+        ScheduledFuture<?> hedgeTimer = HEDGE_TIMER.schedule(() -> hedgedRead.startHedge(hedgeTaskSupplier), hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        T primaryResult;
+        try {
+            primaryResult = primaryTask.execute();
+        } catch (final SQLException ex) {
+            hedgeTimer.cancel(false);
+            return hedgedRead.completePrimary(null, ex);
+        }
+        hedgeTimer.cancel(false);
+        return hedgedRead.completePrimary(primaryResult, null);
+    }
+    
+    private static final class HedgedRead<T> {
+        
+        private final HedgedReadTask<T> primaryTask;
+        
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        
+        private volatile HedgedReadTask<T> hedgeTask;
+        
+        private volatile T hedgeResult;
+        
+        HedgedRead(final HedgedReadTask<T> primaryTask) {
+            this.primaryTask = primaryTask;
+        }
+        
+        void startHedge(final Supplier<Optional<HedgedReadTask<T>>> hedgeTaskSupplier) {
+            if (RUNNING != state.get()) {
+                return;
+            }
+            Optional<HedgedReadTask<T>> task = hedgeTaskSupplier.get();
+            if (task.isPresent()) {
+                hedgeTask = task.get();
+                HEDGE_EXECUTOR.execute(() -> executeHedge(task.get()));
+            }
+        }
+        
+        private void executeHedge(final HedgedReadTask<T> task) {
+            try {
+                hedgeResult = task.execute();
+            } catch (final SQLException ignored) {
+                return;
+            }
+            if (state.compareAndSet(RUNNING, HEDGE_WON)) {
+                primaryTask.cancel();
+            }
+        }
+        
+        T completePrimary(final T primaryResult, final SQLException primaryException) throws SQLException {
+            if (state.compareAndSet(RUNNING, PRIMARY_WON)) {
+                HedgedReadTask<T> task = hedgeTask;
+                if (null != task) {
+                    task.cancel();
+                }
+                if (null != primaryException) {
+                    throw primaryException;
+                }
+                return primaryResult;
+            }
+            return hedgeResult;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hedge;
+
+import java.util.Optional;
+
+/**
+ * Hedged read policy.
+ */
+public interface HedgedReadPolicy {
+    
+    /**
+     * Get hedge delay, which is called once for every hedgeable read.
+     *
+     * @param dataSourceName data source name of read
+     * @return delay in nanoseconds before sending hedged read, not greater than 0 means not to hedge
+     */
+    long getHedgeDelayNanos(String dataSourceName);
+    
+    /**
+     * Acquire data source to send hedged read, which consumes hedge budget.
+     *
+     * @param dataSourceName data source name of read
+     * @return data source name for hedged read, empty if budget is exhausted or there is no other data source
+     */
+    Optional<String> acquireHedgeDataSource(String dataSourceName);
+}
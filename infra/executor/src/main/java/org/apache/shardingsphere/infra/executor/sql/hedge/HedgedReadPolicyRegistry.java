@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hedge;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hedged read policy registry.
+ * 
+ * <p>Policies are held by rule of each database, and registered or unregistered with the rule.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HedgedReadPolicyRegistry {
+    
+    private static final Map<String, Map<String, HedgedReadPolicy>> POLICIES = new ConcurrentHashMap<>();
+    
+    /**
+     * Register hedged read policies of database.
+     *
+     * @param databaseName database name
+     * @param policies hedged read policies of database, key is data source name
+     */
+    public static void register(final String databaseName, final Map<String, HedgedReadPolicy> policies) {
+        POLICIES.put(databaseName, policies);
+    }
+    
+    /**
+     * Unregister hedged read policies of database.
+     *
+     * @param databaseName database name
+     * @param policies hedged read policies of database to be unregistered
+     */
+    public static void unregister(final String databaseName, final Map<String, HedgedReadPolicy> policies) {
+        POLICIES.remove(databaseName, policies);
+    }
+    
+    /**
+     * Find hedged read policy.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found hedged read policy
+     */
+    public static Optional<HedgedReadPolicy> find(final String databaseName, final String dataSourceName) {
+        if (POLICIES.isEmpty() || null == databaseName) {
+            return Optional.empty();
+        }
+        Map<String, HedgedReadPolicy> policies = POLICIES.get(databaseName);
+        return null == policies ? Optional.empty() : Optional.ofNullable(policies.get(dataSourceName));
+    }
+}
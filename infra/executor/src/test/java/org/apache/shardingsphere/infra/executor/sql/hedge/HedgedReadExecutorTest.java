@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.hedge;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HedgedReadExecutorTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertExecuteWithoutHedge() throws SQLException {
+        HedgedReadTask<String> primaryTask = mock(HedgedReadTask.class);
+        when(primaryTask.execute()).thenReturn("primary");
+        Supplier<Optional<HedgedReadTask<String>>> hedgeTaskSupplier = mock(Supplier.class);
+        assertThat(HedgedReadExecutor.execute(primaryTask, hedgeTaskSupplier, TimeUnit.SECONDS.toNanos(10L)), is("primary"));
+        verify(hedgeTaskSupplier, never()).get();
+        verify(primaryTask, never()).cancel();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertExecuteWithHedgeWon() throws SQLException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        HedgedReadTask<String> primaryTask = mock(HedgedReadTask.class);
+        when(primaryTask.execute()).thenAnswer(invocation -> {
+            cancelled.await();
+            throw new SQLException("Statement cancelled.");
+        });
+        doAnswer(invocation -> {
+            cancelled.countDown();
+            return null;
+        }).when(primaryTask).cancel();
+        HedgedReadTask<String> hedgeTask = mock(HedgedReadTask.class);
+        when(hedgeTask.execute()).thenReturn("hedge");
+        assertThat(HedgedReadExecutor.execute(primaryTask, () -> Optional.of(hedgeTask), TimeUnit.MILLISECONDS.toNanos(1L)), is("hedge"));
+        verify(primaryTask).cancel();
+        verify(hedgeTask, never()).cancel();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertExecuteWithPrimaryFailed() throws SQLException {
+        HedgedReadTask<String> primaryTask = mock(HedgedReadTask.class);
+        when(primaryTask.execute()).thenThrow(SQLException.class);
+        assertThrows(SQLException.class, () -> HedgedReadExecutor.execute(primaryTask, Optional::empty, TimeUnit.SECONDS.toNanos(10L)));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.template.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -34,6 +35,11 @@ public final class RouteSQLBuilder extends AbstractSQLBuilder {
         this.routeUnit = routeUnit;
     }
     
+    public RouteSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit, final SQLRewriteTemplate template) {
+        super(context, routeUnit, template);
+        this.routeUnit = routeUnit;
+    }
+    
     @Override
     protected String getSQLTokenText(final SQLToken sqlToken) {
         if (sqlToken instanceof RouteUnitAware) {
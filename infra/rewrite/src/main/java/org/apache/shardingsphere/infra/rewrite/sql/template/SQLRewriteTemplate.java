@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>Literal fragments of the logic SQL are precomputed once, each route unit only needs to fill the substitution slots.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SQLRewriteTemplate {
+    
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final List<SQLToken> sqlTokens;
+    
+    private final String[] literals;
+    
+    private final int estimatedLength;
+    
+    /**
+     * Render SQL.
+     * 
+     * @param slotRenderer slot renderer
+     * @return rendered SQL
+     */
+    public String render(final Function<SQLToken, String> slotRenderer) {
+        if (sqlTokens.isEmpty()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(estimatedLength);
+        result.append(literals[0]);
+        int index = 1;
+        for (SQLToken each : sqlTokens) {
+            result.append(slotRenderer.apply(each));
+            result.append(literals[index++]);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Get conjunction text after SQL token.
+     * 
+     * @param sqlToken SQL token
+     * @return conjunction text
+     */
+    public String getConjunctionText(final SQLToken sqlToken) {
+        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
+        if (currentSQLTokenIndex >= 0) {
+            return literals[currentSQLTokenIndex + 1];
+        }
+        int startIndex = Math.min(sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex(), sql.length());
+        return sql.substring(startIndex, sqlTokens.isEmpty() ? sql.length() : sqlTokens.get(0).getStartIndex());
+    }
+}
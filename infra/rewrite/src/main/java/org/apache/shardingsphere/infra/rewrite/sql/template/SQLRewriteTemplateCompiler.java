@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL rewrite template compiler.
+ */
+public final class SQLRewriteTemplateCompiler {
+    
+    private static final int SLOT_CAPACITY_HINT = 16;
+    
+    /**
+     * Compile SQL rewrite template.
+     * 
+     * @param sql logic SQL
+     * @param sqlTokens SQL tokens
+     * @return compiled SQL rewrite template
+     */
+    public SQLRewriteTemplate compile(final String sql, final Collection<SQLToken> sqlTokens) {
+        List<SQLToken> sortedSQLTokens = new ArrayList<>(sqlTokens);
+        Collections.sort(sortedSQLTokens);
+        String[] literals = new String[sortedSQLTokens.size() + 1];
+        literals[0] = sql.substring(0, sortedSQLTokens.isEmpty() ? sql.length() : sortedSQLTokens.get(0).getStartIndex());
+        for (int i = 0; i < sortedSQLTokens.size(); i++) {
+            int stopIndex = sortedSQLTokens.size() - 1 == i ? sql.length() : sortedSQLTokens.get(i + 1).getStartIndex();
+            literals[i + 1] = sql.substring(getStartIndex(sql, sortedSQLTokens.get(i)), stopIndex);
+        }
+        return new SQLRewriteTemplate(sql, Collections.unmodifiableList(sortedSQLTokens), literals, sql.length() + sortedSQLTokens.size() * SLOT_CAPACITY_HINT);
+    }
+    
+    private int getStartIndex(final String sql, final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+}
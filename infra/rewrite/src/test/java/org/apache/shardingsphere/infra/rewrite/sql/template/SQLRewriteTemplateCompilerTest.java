@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.template;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLRewriteTemplateCompilerTest {
+    
+    @Test
+    void assertRenderWithoutSQLToken() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplateCompiler().compile("SELECT * FROM tbl WHERE id=?", Collections.emptyList());
+        assertThat(actual.render(SQLToken::toString), is("SELECT * FROM tbl WHERE id=?"));
+    }
+    
+    @Test
+    void assertRenderWithUnsortedSQLTokens() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplateCompiler().compile("SELECT * FROM tbl WHERE tbl.id=?", Arrays.asList(new SQLTokenFixture(24, 26), new SQLTokenFixture(14, 16)));
+        assertThat(actual.getSqlTokens().get(0).getStartIndex(), is(14));
+        assertThat(actual.render(SQLToken::toString), is("SELECT * FROM XXX WHERE XXX.id=?"));
+    }
+    
+    @Test
+    void assertRenderTwiceWithSameTemplate() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplateCompiler().compile("SELECT * FROM tbl", Collections.singletonList(new SQLTokenFixture(14, 16)));
+        assertThat(actual.render(each -> "tbl_0"), is("SELECT * FROM tbl_0"));
+        assertThat(actual.render(each -> "tbl_1"), is("SELECT * FROM tbl_1"));
+    }
+}
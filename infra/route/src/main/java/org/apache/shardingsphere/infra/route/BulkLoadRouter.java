@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPI;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bulk load router, which checks and routes rows streamed by bulk load statements such as {@code COPY} and {@code LOAD DATA} without SQL rewriting.
+ * 
+ * @param <T> type of rule
+ */
+@SingletonSPI
+public interface BulkLoadRouter<T extends ShardingSphereRule> extends OrderedSPI<T> {
+    
+    /**
+     * Check whether rows of logic table can be bulk loaded.
+     *
+     * @param logicTableName logic table name
+     * @param assignedColumnNames names of columns assigned by expressions instead of loaded fields
+     * @param rule rule
+     */
+    void check(String logicTableName, Collection<String> assignedColumnNames, T rule);
+    
+    /**
+     * Create row router.
+     *
+     * @param logicTableName logic table name
+     * @param fieldColumnNames column names of loaded fields, null for the field not loaded into column
+     * @param sqlStatementContext SQL statement context
+     * @param hintValueContext hint value context
+     * @param props configuration properties
+     * @param rule rule
+     * @return created row router, empty if rows of logic table are not routed by the rule
+     */
+    Optional<BulkLoadRowRouter> createRowRouter(String logicTableName, List<String> fieldColumnNames,
+                                                SQLStatementContext sqlStatementContext, HintValueContext hintValueContext, ConfigurationProperties props, T rule);
+}
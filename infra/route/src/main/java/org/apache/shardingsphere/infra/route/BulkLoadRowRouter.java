@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bulk load row router, which routes every loaded row to data node by values of routing fields.
+ */
+public interface BulkLoadRowRouter {
+    
+    /**
+     * Get indexes of routing fields.
+     *
+     * @return indexes of routing fields in order of routing values
+     */
+    Collection<Integer> getRoutingFieldIndexes();
+    
+    /**
+     * Route row.
+     *
+     * @param routingValues values of routing fields, null for SQL NULL
+     * @return routed data node
+     */
+    DataNode route(List<Comparable<?>> routingValues);
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.BulkLoadRouter;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Bulk load route engine.
+ */
+@RequiredArgsConstructor
+public final class BulkLoadRouteEngine {
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Check whether rows of logic table can be bulk loaded.
+     *
+     * @param logicTableName logic table name
+     * @param assignedColumnNames names of columns assigned by expressions instead of loaded fields
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void check(final String logicTableName, final Collection<String> assignedColumnNames) {
+        for (Entry<ShardingSphereRule, BulkLoadRouter> entry : getRouters().entrySet()) {
+            entry.getValue().check(logicTableName, assignedColumnNames, entry.getKey());
+        }
+    }
+    
+    /**
+     * Route bulk load of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param fieldColumnNames column names of loaded fields, null for the field not loaded into column
+     * @param sqlStatementContext SQL statement context
+     * @param hintValueContext hint value context
+     * @return row router, empty if every row is loaded into all data nodes of logic table
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<BulkLoadRowRouter> route(final String logicTableName, final List<String> fieldColumnNames, final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
+        for (Entry<ShardingSphereRule, BulkLoadRouter> entry : getRouters().entrySet()) {
+            Optional<BulkLoadRowRouter> result = entry.getValue().createRowRouter(logicTableName, fieldColumnNames, sqlStatementContext, hintValueContext, props, entry.getKey());
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Map<ShardingSphereRule, BulkLoadRouter> getRouters() {
+        return OrderedSPILoader.getServices(BulkLoadRouter.class, rules);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.engine;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.infra.route.fixture.rule.RouteFailureRuleFixture;
+import org.apache.shardingsphere.infra.route.fixture.rule.RouteRuleFixture;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class BulkLoadRouteEngineTest {
+    
+    @Test
+    void assertRoute() {
+        Optional<BulkLoadRowRouter> actual = new BulkLoadRouteEngine(Collections.singleton(new RouteRuleFixture()), new ConfigurationProperties(new Properties()))
+                .route("t_order", Arrays.asList("name", "id"), mock(SQLStatementContext.class), new HintValueContext());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRoutingFieldIndexes(), is(Collections.singleton(1)));
+        assertThat(actual.get().route(Collections.singletonList(1)), is(new DataNode("ds_0", "t_order_1")));
+    }
+    
+    @Test
+    void assertRouteWithoutRowRouter() {
+        assertFalse(new BulkLoadRouteEngine(Collections.emptyList(), new ConfigurationProperties(new Properties()))
+                .route("t_order", Collections.singletonList("id"), mock(SQLStatementContext.class), new HintValueContext()).isPresent());
+    }
+    
+    @Test
+    void assertCheckFailure() {
+        assertThrows(UnsupportedOperationException.class, () -> new BulkLoadRouteEngine(Collections.singleton(new RouteFailureRuleFixture()), new ConfigurationProperties(new Properties()))
+                .check("t_order", Collections.emptyList()));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.fixture.router;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.BulkLoadRouter;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.infra.route.fixture.rule.RouteRuleFixture;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public final class BulkLoadRouterFixture implements BulkLoadRouter<RouteRuleFixture> {
+    
+    @Override
+    public void check(final String logicTableName, final Collection<String> assignedColumnNames, final RouteRuleFixture rule) {
+    }
+    
+    @Override
+    public Optional<BulkLoadRowRouter> createRowRouter(final String logicTableName, final List<String> fieldColumnNames,
+                                                       final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext,
+                                                       final ConfigurationProperties props, final RouteRuleFixture rule) {
+        return Optional.of(new BulkLoadRowRouter() {
+            
+            @Override
+            public Collection<Integer> getRoutingFieldIndexes() {
+                return Collections.singleton(fieldColumnNames.indexOf("id"));
+            }
+            
+            @Override
+            public DataNode route(final List<Comparable<?>> routingValues) {
+                return new DataNode("ds_0", logicTableName + "_" + routingValues.get(0));
+            }
+        });
+    }
+    
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+    
+    @Override
+    public Class<RouteRuleFixture> getTypeClass() {
+        return RouteRuleFixture.class;
+    }
+}
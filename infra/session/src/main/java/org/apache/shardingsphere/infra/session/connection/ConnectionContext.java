@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReadConsistencyConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.datasource.UsedDataSourceProvider;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
@@ -29,6 +30,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Connection context.
@@ -41,9 +44,14 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionContext = new TransactionConnectionContext();
     
+    private final ReadConsistencyConnectionContext readConsistencyContext = new ReadConsistencyConnectionContext();
+    
     @Getter(AccessLevel.NONE)
     private final UsedDataSourceProvider usedDataSourceProvider;
     
+    @Getter(AccessLevel.NONE)
+    private final Queue<Runnable> executionCompletedActions = new ConcurrentLinkedQueue<>();
+    
     private String databaseName;
     
     @Setter
@@ -75,6 +83,25 @@ public final class ConnectionContext implements AutoCloseable {
         return Optional.ofNullable(trafficInstanceId);
     }
     
+    /**
+     * Add action to be run when current SQL execution completed.
+     *
+     * @param action action
+     */
+    public void addExecutionCompletedAction(final Runnable action) {
+        executionCompletedActions.add(action);
+    }
+    
+    /**
+     * Complete current SQL execution and run actions added for it.
+     */
+    public void completeExecution() {
+        Runnable action;
+        while (null != (action = executionCompletedActions.poll())) {
+            action.run();
+        }
+    }
+    
     /**
      * Clear cursor connection context.
      */
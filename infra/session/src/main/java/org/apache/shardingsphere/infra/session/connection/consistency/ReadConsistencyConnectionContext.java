@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.consistency;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read consistency connection context.
+ * 
+ * <p>Keeps the replication position of the last write per primary data source, so later reads can be routed to replicas which have applied it.
+ * It is not cleared on transaction end, because reads after commit still need to see the committed writes.</p>
+ */
+public final class ReadConsistencyConnectionContext {
+    
+    private final Collection<String> writtenDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, String> writePositions = new ConcurrentHashMap<>();
+    
+    private final Map<String, Collection<String>> appliedReadDataSourceNames = new ConcurrentHashMap<>();
+    
+    /**
+     * Mark data source written, its replication position is loaded on next read.
+     *
+     * @param writeDataSourceName write data source name
+     */
+    public void markWritten(final String writeDataSourceName) {
+        writtenDataSourceNames.add(writeDataSourceName);
+    }
+    
+    /**
+     * Judge whether data source is written since its replication position was loaded.
+     *
+     * @param writeDataSourceName write data source name
+     * @return is written or not
+     */
+    public boolean isWritten(final String writeDataSourceName) {
+        return !writtenDataSourceNames.isEmpty() && writtenDataSourceNames.contains(writeDataSourceName);
+    }
+    
+    /**
+     * Update write position.
+     *
+     * @param writeDataSourceName write data source name
+     * @param writePosition replication position of write data source
+     */
+    public void updateWritePosition(final String writeDataSourceName, final String writePosition) {
+        writePositions.put(writeDataSourceName, writePosition);
+        appliedReadDataSourceNames.remove(writeDataSourceName);
+        writtenDataSourceNames.remove(writeDataSourceName);
+    }
+    
+    /**
+     * Find write position.
+     *
+     * @param writeDataSourceName write data source name
+     * @return replication position of write data source
+     */
+    public Optional<String> findWritePosition(final String writeDataSourceName) {
+        return writePositions.isEmpty() ? Optional.empty() : Optional.ofNullable(writePositions.get(writeDataSourceName));
+    }
+    
+    /**
+     * Mark read data source applied write position.
+     *
+     * @param writeDataSourceName write data source name
+     * @param readDataSourceName read data source name
+     */
+    public void markApplied(final String writeDataSourceName, final String readDataSourceName) {
+        appliedReadDataSourceNames.computeIfAbsent(writeDataSourceName, key -> ConcurrentHashMap.newKeySet()).add(readDataSourceName);
+    }
+    
+    /**
+     * Judge whether read data source applied write position.
+     *
+     * @param writeDataSourceName write data source name
+     * @param readDataSourceName read data source name
+     * @return applied or not
+     */
+    public boolean isApplied(final String writeDataSourceName, final String readDataSourceName) {
+        Collection<String> readDataSourceNames = appliedReadDataSourceNames.get(writeDataSourceName);
+        return null != readDataSourceNames && readDataSourceNames.contains(readDataSourceName);
+    }
+}
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.infra.session.connection.transaction;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * Transaction connection context.
  */
@@ -33,10 +37,34 @@ public final class TransactionConnectionContext implements AutoCloseable {
     
     private volatile String readWriteSplitReplicaRoute;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Queue<Runnable> committedActions = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Add action to be run after transaction committed, which is discarded if transaction rolled back.
+     *
+     * @param action action
+     */
+    public void addCommittedAction(final Runnable action) {
+        committedActions.add(action);
+    }
+    
+    /**
+     * Run actions added for committed transaction.
+     */
+    public void runCommittedActions() {
+        Runnable action;
+        while (null != (action = committedActions.poll())) {
+            action.run();
+        }
+    }
+    
     @Override
     public void close() {
         inTransaction = false;
         beginMills = 0L;
         readWriteSplitReplicaRoute = null;
+        committedActions.clear();
     }
 }
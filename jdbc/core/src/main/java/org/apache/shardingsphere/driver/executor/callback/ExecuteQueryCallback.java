@@ -36,8 +36,9 @@ import java.util.Optional;
  */
 public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryResult> {
     
-    protected ExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    protected ExecuteQueryCallback(final DatabaseType protocolType, final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
+                                   final boolean isExceptionThrown) {
+        super(protocolType, databaseName, resourceMetaData, sqlStatement, isExceptionThrown);
     }
     
     @Override
@@ -51,5 +52,10 @@ public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryRes
         return Optional.empty();
     }
     
+    @Override
+    protected final boolean isHedgedReadSupported() {
+        return true;
+    }
+    
     protected abstract ResultSet executeQuery(String sql, Statement statement) throws SQLException;
 }
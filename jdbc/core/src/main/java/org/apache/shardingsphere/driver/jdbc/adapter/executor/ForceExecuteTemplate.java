@@ -47,7 +47,13 @@ public final class ForceExecuteTemplate<T> {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
-    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
+    /**
+     * Throw SQL exception if necessary.
+     *
+     * @param exceptions SQL exceptions collected from targets
+     * @throws SQLException SQL exception chaining all collected exceptions
+     */
+    public void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
         }
@@ -25,7 +25,6 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
-import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -41,6 +40,7 @@ import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
+import org.apache.shardingsphere.transaction.LocalTransactionParallelExecutor;
 import org.apache.shardingsphere.transaction.ConnectionTransaction;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 
@@ -119,7 +119,7 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
         DataSourcePoolProperties propsSample = propsMap.values().iterator().next();
         Collection<ShardingSphereUser> users = persistService.getGlobalRuleService().loadUsers();
         Collection<InstanceMetaData> instances = contextManager.getInstanceContext().getAllClusterInstances(InstanceType.PROXY, rule.getLabels());
-        return DataSourcePoolCreator.create(createDataSourcePoolPropertiesMap(instances, users, propsSample, actualDatabaseName), true);
+        return TrafficDataSourceCache.getOrCreate(databaseName, createDataSourcePoolPropertiesMap(instances, users, propsSample, actualDatabaseName));
     }
     
     private Map<String, DataSourcePoolProperties> createDataSourcePoolPropertiesMap(final Collection<InstanceMetaData> instances, final Collection<ShardingSphereUser> users,
@@ -172,9 +172,9 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
     public void commit() throws SQLException {
         try {
             if (connectionTransaction.isLocalTransaction() && connectionTransaction.isRollbackOnly()) {
-                forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+                forceExecuteTemplate.throwSQLExceptionIfNecessary(LocalTransactionParallelExecutor.execute(cachedConnections.values(), Connection::rollback));
             } else if (connectionTransaction.isLocalTransaction()) {
-                forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+                forceExecuteTemplate.throwSQLExceptionIfNecessary(LocalTransactionParallelExecutor.execute(cachedConnections.values(), Connection::commit));
             } else {
                 connectionTransaction.commit();
             }
@@ -193,7 +193,7 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
     public void rollback() throws SQLException {
         try {
             if (connectionTransaction.isLocalTransaction()) {
-                forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+                forceExecuteTemplate.throwSQLExceptionIfNecessary(LocalTransactionParallelExecutor.execute(cachedConnections.values(), Connection::rollback));
             } else {
                 connectionTransaction.rollback();
             }
@@ -202,6 +202,9 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     public void commit() throws SQLException {
         try {
             databaseConnectionManager.commit();
+            if (!databaseConnectionManager.getConnectionTransaction().isRollbackOnly()) {
+                getConnectionContext().getTransactionContext().runCommittedActions();
+            }
         } finally {
             databaseConnectionManager.getConnectionTransaction().setRollbackOnly(false);
             getConnectionContext().close();
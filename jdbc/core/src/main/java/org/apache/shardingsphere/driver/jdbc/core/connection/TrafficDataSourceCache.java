@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.connection;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyer;
+import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Traffic data source cache.
+ * 
+ * <p>Connection pools of proxy instances are shared by all connections, so forwarding traffic reuses established connections,
+ * and pool size of each proxy instance limits in-flight forwarded statements.
+ * Pools of proxy instances which are gone or whose properties changed are closed and evicted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TrafficDataSourceCache {
+    
+    private static final Map<String, TrafficDataSources> CACHED_DATA_SOURCES = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or create traffic data sources.
+     *
+     * @param databaseName database name
+     * @param propsMap data source pool properties map, key is instance ID of proxy
+     * @return traffic data sources, key is instance ID of proxy
+     */
+    public static Map<String, DataSource> getOrCreate(final String databaseName, final Map<String, DataSourcePoolProperties> propsMap) {
+        return CACHED_DATA_SOURCES.compute(databaseName, (key, value) -> null != value && value.getPropsMap().equals(propsMap) ? value : refresh(value, propsMap)).getDataSources();
+    }
+    
+    private static TrafficDataSources refresh(final TrafficDataSources cached, final Map<String, DataSourcePoolProperties> propsMap) {
+        Map<String, DataSource> cachedDataSources = null == cached ? Collections.emptyMap() : cached.getDataSources();
+        Map<String, DataSourcePoolProperties> cachedPropsMap = null == cached ? Collections.emptyMap() : cached.getPropsMap();
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(propsMap.size(), 1F);
+        Map<String, DataSourcePoolProperties> toBeCreatedPropsMap = new LinkedHashMap<>(propsMap.size(), 1F);
+        for (Entry<String, DataSourcePoolProperties> entry : propsMap.entrySet()) {
+            if (entry.getValue().equals(cachedPropsMap.get(entry.getKey())) && cachedDataSources.containsKey(entry.getKey())) {
+                dataSources.put(entry.getKey(), cachedDataSources.get(entry.getKey()));
+            } else {
+                toBeCreatedPropsMap.put(entry.getKey(), entry.getValue());
+            }
+        }
+        dataSources.putAll(DataSourcePoolCreator.create(toBeCreatedPropsMap, true));
+        for (Entry<String, DataSource> entry : cachedDataSources.entrySet()) {
+            if (entry.getValue() != dataSources.get(entry.getKey())) {
+                new DataSourcePoolDestroyer(entry.getValue()).asyncDestroy();
+            }
+        }
+        return new TrafficDataSources(new LinkedHashMap<>(propsMap), Collections.unmodifiableMap(dataSources));
+    }
+    
+    /**
+     * Close and evict traffic data sources of database.
+     *
+     * @param databaseName database name
+     */
+    public static void close(final String databaseName) {
+        TrafficDataSources removed = CACHED_DATA_SOURCES.remove(databaseName);
+        if (null != removed) {
+            removed.getDataSources().values().forEach(each -> new DataSourcePoolDestroyer(each).asyncDestroy());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TrafficDataSources {
+        
+        private final Map<String, DataSourcePoolProperties> propsMap;
+        
+        private final Map<String, DataSource> dataSources;
+    }
+}
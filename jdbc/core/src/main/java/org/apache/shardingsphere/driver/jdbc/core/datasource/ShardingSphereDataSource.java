@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.jdbc.core.datasource;
 
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractDataSourceAdapter;
+import org.apache.shardingsphere.driver.jdbc.core.connection.TrafficDataSourceCache;
 import org.apache.shardingsphere.driver.state.DriverStateContext;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
@@ -102,6 +103,7 @@ public final class ShardingSphereDataSource extends AbstractDataSourceAdapter im
     @Override
     public void close() throws SQLException {
         contextManagerDestroyedCallback(databaseName);
+        TrafficDataSourceCache.close(databaseName);
         for (StorageUnit each : contextManager.getStorageUnits(databaseName).values()) {
             close(each.getDataSource());
         }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.connection;
+
+import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.DataSourcePoolDestroyer;
+import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedConstruction;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(DataSourcePoolCreator.class)
+class TrafficDataSourceCacheTest {
+    
+    private final DataSource fooDataSource = new MockedDataSource();
+    
+    private final DataSource barDataSource = new MockedDataSource();
+    
+    @AfterEach
+    void tearDown() {
+        TrafficDataSourceCache.close("foo_db");
+    }
+    
+    @Test
+    void assertGetOrCreateWithSameProperties() {
+        Map<String, DataSourcePoolProperties> propsMap = Collections.singletonMap("foo_instance", createProperties("foo_host"));
+        when(DataSourcePoolCreator.create(propsMap, true)).thenReturn(Collections.singletonMap("foo_instance", fooDataSource));
+        assertThat(TrafficDataSourceCache.getOrCreate("foo_db", propsMap).get("foo_instance"), sameInstance(fooDataSource));
+        assertThat(TrafficDataSourceCache.getOrCreate("foo_db", new HashMap<>(propsMap)).get("foo_instance"), sameInstance(fooDataSource));
+        verify(DataSourcePoolCreator.class, times(1));
+        DataSourcePoolCreator.create(propsMap, true);
+    }
+    
+    @Test
+    void assertGetOrCreateWithChangedInstances() {
+        Map<String, DataSourcePoolProperties> propsMap = new LinkedHashMap<>(2, 1F);
+        propsMap.put("foo_instance", createProperties("foo_host"));
+        propsMap.put("bar_instance", createProperties("bar_host"));
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(2, 1F);
+        dataSources.put("foo_instance", fooDataSource);
+        dataSources.put("bar_instance", barDataSource);
+        when(DataSourcePoolCreator.create(propsMap, true)).thenReturn(dataSources);
+        TrafficDataSourceCache.getOrCreate("foo_db", propsMap);
+        when(DataSourcePoolCreator.create(eq(Collections.emptyMap()), eq(true))).thenReturn(Collections.emptyMap());
+        try (MockedConstruction<DataSourcePoolDestroyer> mockedConstruction = mockConstruction(DataSourcePoolDestroyer.class)) {
+            Map<String, DataSource> actual = TrafficDataSourceCache.getOrCreate("foo_db", Collections.singletonMap("foo_instance", createProperties("foo_host")));
+            assertThat(actual, is(Collections.singletonMap("foo_instance", fooDataSource)));
+            assertThat(mockedConstruction.constructed().size(), is(1));
+            verify(mockedConstruction.constructed().get(0)).asyncDestroy();
+        }
+    }
+    
+    @Test
+    void assertClose() {
+        Map<String, DataSourcePoolProperties> propsMap = Collections.singletonMap("foo_instance", createProperties("foo_host"));
+        when(DataSourcePoolCreator.create(propsMap, true)).thenReturn(Collections.singletonMap("foo_instance", fooDataSource));
+        TrafficDataSourceCache.getOrCreate("foo_db", propsMap);
+        try (MockedConstruction<DataSourcePoolDestroyer> mockedConstruction = mockConstruction(DataSourcePoolDestroyer.class)) {
+            TrafficDataSourceCache.close("foo_db");
+            assertThat(mockedConstruction.constructed().size(), is(1));
+            verify(mockedConstruction.constructed().get(0)).asyncDestroy();
+        }
+    }
+    
+    private DataSourcePoolProperties createProperties(final String host) {
+        return new DataSourcePoolProperties(MockedDataSource.class.getName(), Collections.singletonMap("url", "jdbc:mock://" + host + "/foo_db"));
+    }
+}
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
@@ -36,21 +35,15 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Pipeline CDC socket sink.
  */
 public final class PipelineCDCSocketSink implements PipelineSink {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 100L;
-    
-    private final Lock lock = new ReentrantLock();
-    
-    private final Condition condition = lock.newCondition();
+    private final Collection<Thread> waitingThreads = new ConcurrentLinkedQueue<>();
     
     @Getter
     private final Channel channel;
@@ -74,7 +67,7 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         if (records.isEmpty()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
-        while (!channel.isWritable() && channel.isActive()) {
+        if (!channel.isWritable() && channel.isActive()) {
             doAwait();
         }
         if (!channel.isActive()) {
@@ -86,19 +79,27 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         return new PipelineJobProgressUpdatedParameter(resultRecords.size());
     }
     
-    @SneakyThrows(InterruptedException.class)
     private void doAwait() {
-        lock.lock();
-        long startMillis = System.currentTimeMillis();
-        long endMillis = startMillis;
-        boolean awaitResult;
+        Thread currentThread = Thread.currentThread();
+        waitingThreads.add(currentThread);
         try {
-            do {
-                awaitResult = condition.await(DEFAULT_TIMEOUT_MILLISECONDS - (endMillis - startMillis), TimeUnit.MILLISECONDS);
-                endMillis = System.currentTimeMillis();
-            } while (!awaitResult && DEFAULT_TIMEOUT_MILLISECONDS > endMillis - startMillis);
+            while (!channel.isWritable() && channel.isActive()) {
+                LockSupport.park(this);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
         } finally {
-            lock.unlock();
+            waitingThreads.remove(currentThread);
+        }
+    }
+    
+    /**
+     * Notify writers waiting for channel to be writable or inactive.
+     */
+    public void doNotify() {
+        for (Thread each : waitingThreads) {
+            LockSupport.unpark(each);
         }
     }
     
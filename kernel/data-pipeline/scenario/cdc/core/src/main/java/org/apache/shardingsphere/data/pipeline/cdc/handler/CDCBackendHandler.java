@@ -156,13 +156,35 @@ public final class CDCBackendHandler {
         if (null == job) {
             return;
         }
-        if (((PipelineCDCSocketSink) job.getSink()).getChannel().id().equals(channelId)) {
+        PipelineCDCSocketSink sink = (PipelineCDCSocketSink) job.getSink();
+        if (sink.getChannel().id().equals(channelId)) {
             log.info("close CDC job, channel id: {}", channelId);
+            sink.doNotify();
             PipelineJobRegistry.stop(jobId);
             jobAPI.disable(jobId);
         }
     }
     
+    /**
+     * Notify streaming writable.
+     *
+     * @param jobId job ID
+     * @param channelId channel ID
+     */
+    public void notifyStreamingWritable(final String jobId, final ChannelId channelId) {
+        if (Strings.isNullOrEmpty(jobId)) {
+            return;
+        }
+        CDCJob job = (CDCJob) PipelineJobRegistry.get(jobId);
+        if (null == job) {
+            return;
+        }
+        PipelineCDCSocketSink sink = (PipelineCDCSocketSink) job.getSink();
+        if (sink.getChannel().id().equals(channelId)) {
+            sink.doNotify();
+        }
+    }
+    
     /**
      * Drop streaming.
      *
@@ -35,16 +35,18 @@ public interface GlobalClockTransactionExecutor extends DatabaseTypedSPI {
      *
      * @param connections connections
      * @param globalTimestamp global timestamp
+     * @return max timestamp acknowledged by storage units
      * @throws SQLException SQL exception
      */
-    void sendSnapshotTimestamp(Collection<Connection> connections, long globalTimestamp) throws SQLException;
+    long sendSnapshotTimestamp(Collection<Connection> connections, long globalTimestamp) throws SQLException;
     
     /**
      * Send commit timestamp.
      *
      * @param connections connections
      * @param globalTimestamp global timestamp
+     * @return max timestamp acknowledged by storage units
      * @throws SQLException SQL exception
      */
-    void sendCommitTimestamp(Collection<Connection> connections, long globalTimestamp) throws SQLException;
+    long sendCommitTimestamp(Collection<Connection> connections, long globalTimestamp) throws SQLException;
 }
@@ -62,8 +62,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         }
         enabled = true;
         this.globalClockTransactionExecutor = globalClockTransactionExecutor.get();
-        globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")));
-        
+        globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")), props);
     }
     
     @Override
@@ -79,7 +78,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
-        globalClockTransactionExecutor.sendSnapshotTimestamp(connections, transactionContext.getBeginMills());
+        globalClockProvider.observeTimestamp(globalClockTransactionExecutor.sendSnapshotTimestamp(connections, transactionContext.getBeginMills()));
     }
     
     @Override
@@ -88,7 +87,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
             return;
         }
         if (null == isolationLevel || TransactionIsolationLevel.READ_COMMITTED == isolationLevel) {
-            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+            globalClockProvider.observeTimestamp(globalClockTransactionExecutor.sendSnapshotTimestamp(connections, globalClockProvider.getCurrentTimestamp()));
         }
     }
     
@@ -99,7 +98,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
             return;
         }
         if (lockContext.tryLock(lockDefinition, 200L)) {
-            globalClockTransactionExecutor.sendCommitTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+            globalClockProvider.observeTimestamp(globalClockTransactionExecutor.sendCommitTimestamp(connections, globalClockProvider.getCurrentTimestamp()));
         }
     }
     
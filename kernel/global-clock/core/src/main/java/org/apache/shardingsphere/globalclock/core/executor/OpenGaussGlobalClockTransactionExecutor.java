@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.globalclock.core.executor;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
@@ -28,23 +29,27 @@ import java.util.Collection;
 public final class OpenGaussGlobalClockTransactionExecutor implements GlobalClockTransactionExecutor {
     
     @Override
-    public void sendSnapshotTimestamp(final Collection<Connection> connections, final long globalTimestamp) throws SQLException {
-        String setSnapshotTimestampSQL = String.format("SELECT %d AS SETSNAPSHOTCSN", globalTimestamp);
-        for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                statement.execute(setSnapshotTimestampSQL);
-            }
-        }
+    public long sendSnapshotTimestamp(final Collection<Connection> connections, final long globalTimestamp) throws SQLException {
+        return sendTimestamp(connections, String.format("SELECT %d AS SETSNAPSHOTCSN", globalTimestamp), globalTimestamp);
     }
     
     @Override
-    public void sendCommitTimestamp(final Collection<Connection> connections, final long globalTimestamp) throws SQLException {
-        String setCommitTimestampSQL = String.format("SELECT %d AS SETCOMMITCSN", globalTimestamp);
+    public long sendCommitTimestamp(final Collection<Connection> connections, final long globalTimestamp) throws SQLException {
+        return sendTimestamp(connections, String.format("SELECT %d AS SETCOMMITCSN", globalTimestamp), globalTimestamp);
+    }
+    
+    private long sendTimestamp(final Collection<Connection> connections, final String sql, final long globalTimestamp) throws SQLException {
+        long result = globalTimestamp;
         for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                statement.execute(setCommitTimestampSQL);
+            try (
+                    Statement statement = each.createStatement();
+                    ResultSet resultSet = statement.executeQuery(sql)) {
+                if (resultSet.next()) {
+                    result = Math.max(result, resultSet.getLong(1));
+                }
             }
         }
+        return result;
     }
     
     @Override
@@ -39,4 +39,16 @@ public interface GlobalClockProvider extends TypedSPI {
      * @return next timestamp
      */
     long getNextTimestamp();
+    
+    /**
+     * Observe timestamp from storage units or other compute nodes.
+     * 
+     * <p>Providers issuing timestamps from central service do not need to merge observed timestamps.</p>
+     *
+     * @param timestamp observed timestamp
+     * @return merged timestamp
+     */
+    default long observeTimestamp(final long timestamp) {
+        return timestamp;
+    }
 }
@@ -51,6 +51,7 @@ public final class GlobalClockRule implements GlobalRule {
     
     private Properties createProperties(final Map<String, ShardingSphereDatabase> databases) {
         Properties result = new Properties();
+        result.putAll(configuration.getProps());
         DatabaseType storageType = findStorageType(databases.values()).orElseGet(DatabaseTypeEngine::getDefaultStorageType);
         result.setProperty("trunkType", storageType.getTrunkDatabaseType().orElse(storageType).getType());
         result.setProperty("enabled", String.valueOf(configuration.isEnabled()));
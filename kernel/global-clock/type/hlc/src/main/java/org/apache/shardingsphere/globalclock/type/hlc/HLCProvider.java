@@ -23,4 +23,13 @@ import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
  * Hybrid logical clock provider.
  */
 public interface HLCProvider extends GlobalClockProvider {
+    
+    /**
+     * Observe timestamp from storage units or other compute nodes, and merge it into local clock.
+     *
+     * @param timestamp observed timestamp
+     * @return merged timestamp, which is greater than both observed timestamp and previous timestamps
+     */
+    @Override
+    long observeTimestamp(long timestamp);
 }
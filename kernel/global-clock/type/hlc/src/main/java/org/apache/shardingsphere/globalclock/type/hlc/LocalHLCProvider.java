@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.apache.shardingsphere.globalclock.type.hlc.exception.ClockOffsetExceededException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.time.Clock;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local hybrid logical clock provider.
+ * 
+ * <p>Timestamps are issued on local compute node without central service.
+ * The high 48 bits of timestamp is physical time in milliseconds, and the low 16 bits is logical counter.
+ * Logical counter overflowing moves physical part forward, so timestamps are always strictly increasing.</p>
+ */
+public final class LocalHLCProvider implements HLCProvider {
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private final Clock clock;
+    
+    private final AtomicLong lastTimestamp = new AtomicLong();
+    
+    private long maxClockOffsetMillis = Long.parseLong(HLCPropertyKey.MAX_CLOCK_OFFSET_MILLIS.getDefaultValue());
+    
+    public LocalHLCProvider() {
+        this(Clock.systemUTC());
+    }
+    
+    LocalHLCProvider(final Clock clock) {
+        this.clock = clock;
+    }
+    
+    @Override
+    public void init(final Properties props) {
+        maxClockOffsetMillis = Long.parseLong(props.getProperty(HLCPropertyKey.MAX_CLOCK_OFFSET_MILLIS.getKey(), HLCPropertyKey.MAX_CLOCK_OFFSET_MILLIS.getDefaultValue()));
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        long physicalTimestamp = getPhysicalTimestamp();
+        return lastTimestamp.updateAndGet(each -> Math.max(each, physicalTimestamp));
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        long physicalTimestamp = getPhysicalTimestamp();
+        return lastTimestamp.updateAndGet(each -> Math.max(each + 1L, physicalTimestamp));
+    }
+    
+    @Override
+    public long observeTimestamp(final long timestamp) {
+        long physicalTimestamp = getPhysicalTimestamp();
+        long clockOffsetMillis = (timestamp >>> LOGICAL_BITS) - (physicalTimestamp >>> LOGICAL_BITS);
+        ShardingSpherePreconditions.checkState(clockOffsetMillis <= maxClockOffsetMillis, () -> new ClockOffsetExceededException(clockOffsetMillis, maxClockOffsetMillis));
+        return lastTimestamp.updateAndGet(each -> Math.max(Math.max(each, timestamp) + 1L, physicalTimestamp));
+    }
+    
+    private long getPhysicalTimestamp() {
+        return clock.millis() << LOGICAL_BITS;
+    }
+    
+    @Override
+    public String getType() {
+        return "HLC.local";
+    }
+}
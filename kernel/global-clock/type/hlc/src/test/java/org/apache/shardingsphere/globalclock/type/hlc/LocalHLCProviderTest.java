@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.apache.shardingsphere.globalclock.core.executor.GlobalClockTransactionHook;
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+import org.apache.shardingsphere.globalclock.type.hlc.exception.ClockOffsetExceededException;
+import org.apache.shardingsphere.globalclock.type.hlc.fixture.StorageUnitGlobalClockTransactionExecutorFixture;
+import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalHLCProviderTest {
+    
+    private final Clock clock = mock(Clock.class);
+    
+    private final LocalHLCProvider provider = new LocalHLCProvider(clock);
+    
+    @BeforeEach
+    void setUp() {
+        provider.init(PropertiesBuilder.build(new Property("maxClockOffsetMillis", "100")));
+    }
+    
+    @Test
+    void assertGetServiceByType() {
+        assertThat(TypedSPILoader.getService(GlobalClockProvider.class, "HLC.local"), instanceOf(LocalHLCProvider.class));
+    }
+    
+    @Test
+    void assertGetTimestampWithPhysicalClockForward() {
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(provider.getCurrentTimestamp(), is(1000L << 16));
+        assertThat(provider.getNextTimestamp(), is((1000L << 16) + 1L));
+        assertThat(provider.getCurrentTimestamp(), is((1000L << 16) + 1L));
+        when(clock.millis()).thenReturn(1001L);
+        assertThat(provider.getCurrentTimestamp(), is(1001L << 16));
+        assertThat(provider.getNextTimestamp(), is((1001L << 16) + 1L));
+    }
+    
+    @Test
+    void assertGetTimestampWithPhysicalClockBackward() {
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(provider.getNextTimestamp(), is(1000L << 16));
+        when(clock.millis()).thenReturn(900L);
+        assertThat(provider.getCurrentTimestamp(), is(1000L << 16));
+        assertThat(provider.getNextTimestamp(), is((1000L << 16) + 1L));
+    }
+    
+    @Test
+    void assertObserveTimestampAhead() {
+        when(clock.millis()).thenReturn(1000L);
+        long observedTimestamp = (1050L << 16) + 5L;
+        assertThat(provider.observeTimestamp(observedTimestamp), is(observedTimestamp + 1L));
+        assertThat(provider.getNextTimestamp(), is(observedTimestamp + 2L));
+    }
+    
+    @Test
+    void assertObserveTimestampBehind() {
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(provider.observeTimestamp(900L << 16), is(1000L << 16));
+    }
+    
+    @Test
+    void assertObserveTimestampExceededMaxClockOffset() {
+        when(clock.millis()).thenReturn(1000L);
+        assertThrows(ClockOffsetExceededException.class, () -> provider.observeTimestamp(1101L << 16));
+        assertThat(provider.getCurrentTimestamp(), is(1000L << 16));
+    }
+    
+    @Test
+    void assertConvergeTimestampsOfComputeNodesThroughStorageUnit() throws ReflectiveOperationException, SQLException {
+        when(clock.millis()).thenReturn(1000L);
+        Clock laggingClock = mock(Clock.class);
+        when(laggingClock.millis()).thenReturn(950L);
+        LocalHLCProvider laggingProvider = new LocalHLCProvider(laggingClock);
+        laggingProvider.init(PropertiesBuilder.build(new Property("maxClockOffsetMillis", "100")));
+        StorageUnitGlobalClockTransactionExecutorFixture storageUnit = new StorageUnitGlobalClockTransactionExecutorFixture();
+        GlobalClockTransactionHook hook = createTransactionHook(provider, storageUnit);
+        LockContext<?> lockContext = mock(LockContext.class);
+        when(lockContext.tryLock(any(), anyLong())).thenReturn(true);
+        Collection<Connection> connections = Collections.singleton(mock(Connection.class));
+        hook.beforeCommit(connections, new TransactionConnectionContext(), lockContext);
+        hook.afterCommit(connections, new TransactionConnectionContext(), lockContext);
+        long commitTimestamp = storageUnit.getLatestCommitTimestamp();
+        GlobalClockTransactionHook laggingHook = createTransactionHook(laggingProvider, storageUnit);
+        TransactionConnectionContext laggingTransactionContext = new TransactionConnectionContext();
+        laggingHook.afterBegin(laggingTransactionContext);
+        assertTrue(laggingTransactionContext.getBeginMills() < commitTimestamp);
+        laggingHook.afterCreateConnections(connections, laggingTransactionContext);
+        assertTrue(laggingProvider.getCurrentTimestamp() > commitTimestamp);
+        laggingHook.beforeCommit(connections, laggingTransactionContext, lockContext);
+        assertTrue(storageUnit.getLatestCommitTimestamp() > commitTimestamp);
+    }
+    
+    private GlobalClockTransactionHook createTransactionHook(final LocalHLCProvider provider, final StorageUnitGlobalClockTransactionExecutorFixture storageUnit) throws ReflectiveOperationException {
+        GlobalClockTransactionHook result = new GlobalClockTransactionHook();
+        Plugins.getMemberAccessor().set(GlobalClockTransactionHook.class.getDeclaredField("enabled"), result, true);
+        Plugins.getMemberAccessor().set(GlobalClockTransactionHook.class.getDeclaredField("globalClockTransactionExecutor"), result, storageUnit);
+        Plugins.getMemberAccessor().set(GlobalClockTransactionHook.class.getDeclaredField("globalClockProvider"), result, provider);
+        return result;
+    }
+}
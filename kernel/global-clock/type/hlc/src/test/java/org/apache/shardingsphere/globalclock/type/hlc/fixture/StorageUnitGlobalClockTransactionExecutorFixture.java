@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.globalclock.core.executor.GlobalClockTransactionExecutor;
+
+import java.sql.Connection;
+import java.util.Collection;
+
+/**
+ * Global clock transaction executor which simulates storage unit shared by compute nodes.
+ */
+@Getter
+public final class StorageUnitGlobalClockTransactionExecutorFixture implements GlobalClockTransactionExecutor {
+    
+    private long latestCommitTimestamp;
+    
+    @Override
+    public long sendSnapshotTimestamp(final Collection<Connection> connections, final long globalTimestamp) {
+        return Math.max(latestCommitTimestamp, globalTimestamp);
+    }
+    
+    @Override
+    public long sendCommitTimestamp(final Collection<Connection> connections, final long globalTimestamp) {
+        latestCommitTimestamp = Math.max(latestCommitTimestamp, globalTimestamp);
+        return latestCommitTimestamp;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "FIXTURE";
+    }
+}
@@ -49,6 +49,9 @@ public final class TrafficExecutor implements AutoCloseable {
     }
     
     private void cacheStatement(final List<Object> params, final Statement statement) throws SQLException {
+        if (null != this.statement && this.statement != statement) {
+            this.statement.close();
+        }
         this.statement = statement;
         setParameters(statement, params);
     }
@@ -46,4 +46,24 @@ class TrafficExecutorTest {
         verify(statement).close();
         verify(statement, times(0)).getConnection();
     }
+    
+    @Test
+    void assertExecuteWithReplacedStatement() throws SQLException {
+        Statement previousStatement = mock(Statement.class);
+        Statement statement = mock(Statement.class);
+        try (TrafficExecutor trafficExecutor = new TrafficExecutor()) {
+            trafficExecutor.execute(mockExecutionUnit(previousStatement), Statement::executeQuery);
+            trafficExecutor.execute(mockExecutionUnit(statement), Statement::executeQuery);
+            verify(previousStatement).close();
+            verify(statement, times(0)).close();
+        }
+        verify(statement).close();
+    }
+    
+    private JDBCExecutionUnit mockExecutionUnit(final Statement statement) {
+        JDBCExecutionUnit result = mock(JDBCExecutionUnit.class);
+        when(result.getExecutionUnit()).thenReturn(new ExecutionUnit("oltp_proxy_instance_id", new SQLUnit("SELECT 1", Collections.emptyList())));
+        when(result.getStorageResource()).thenReturn(statement);
+        return result;
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execute local transaction operations, such as commit and rollback, on multiple backend connections in parallel.
+ * 
+ * <p>The first connection is executed on the caller thread and the others on a shared bounded executor.
+ * When the queue of executor is full, the operation runs on the caller thread.
+ * Runtime exceptions are wrapped into SQL exceptions wherever the operation runs, so all operations are awaited before returning.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LocalTransactionParallelExecutor {
+    
+    private static final int THREAD_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final int QUEUE_SIZE_PER_THREAD = 16;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(THREAD_SIZE, THREAD_SIZE, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(THREAD_SIZE * QUEUE_SIZE_PER_THREAD), ExecutorThreadFactoryBuilder.build("Local-Transaction-%d"), new CallerRunsPolicy());
+    
+    /**
+     * Execute local transaction operation on connections.
+     *
+     * @param connections connections
+     * @param callback local transaction callback
+     * @return SQL exceptions thrown by connections, in the order of connections
+     */
+    public static Collection<SQLException> execute(final Collection<Connection> connections, final LocalTransactionCallback callback) {
+        Collection<SQLException> result = new LinkedList<>();
+        if (connections.isEmpty()) {
+            return result;
+        }
+        Iterator<Connection> iterator = connections.iterator();
+        Connection firstConnection = iterator.next();
+        Collection<Future<Optional<SQLException>>> futures = new LinkedList<>();
+        while (iterator.hasNext()) {
+            Connection each = iterator.next();
+            futures.add(EXECUTOR_SERVICE.submit(() -> execute(each, callback)));
+        }
+        execute(firstConnection, callback).ifPresent(result::add);
+        for (Future<Optional<SQLException>> each : futures) {
+            getResult(each).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private static Optional<SQLException> execute(final Connection connection, final LocalTransactionCallback callback) {
+        try {
+            callback.execute(connection);
+            return Optional.empty();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            return Optional.of(new SQLException(ex));
+        }
+    }
+    
+    private static Optional<SQLException> getResult(final Future<Optional<SQLException>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.of(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            return Optional.of(new SQLException(ex.getCause()));
+        }
+    }
+}
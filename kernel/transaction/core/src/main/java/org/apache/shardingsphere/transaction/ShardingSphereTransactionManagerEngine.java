@@ -26,6 +26,7 @@ import org.apache.shardingsphere.transaction.spi.ShardingSphereTransactionManage
 
 import javax.sql.DataSource;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * ShardingSphere transaction manager engine.
@@ -36,9 +37,9 @@ public final class ShardingSphereTransactionManagerEngine {
     
     private final ShardingSphereTransactionManager transactionManager;
     
-    public ShardingSphereTransactionManagerEngine(final TransactionType transactionType) {
+    public ShardingSphereTransactionManagerEngine(final TransactionType transactionType, final Properties props) {
         this.transactionType = transactionType;
-        transactionManager = TransactionType.LOCAL == transactionType ? null : TypedSPILoader.getService(ShardingSphereTransactionManager.class, transactionType.name());
+        transactionManager = TransactionType.LOCAL == transactionType ? null : TypedSPILoader.getService(ShardingSphereTransactionManager.class, transactionType.name(), props);
     }
     
     /**
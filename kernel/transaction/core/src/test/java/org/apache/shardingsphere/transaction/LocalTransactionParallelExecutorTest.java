@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LocalTransactionParallelExecutorTest {
+    
+    @Test
+    void assertExecuteWithEmptyConnections() {
+        assertTrue(LocalTransactionParallelExecutor.execute(Collections.emptyList(), Connection::commit).isEmpty());
+    }
+    
+    @Test
+    void assertExecuteAll() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Connection connection3 = mock(Connection.class);
+        assertTrue(LocalTransactionParallelExecutor.execute(Arrays.asList(connection1, connection2, connection3), Connection::commit).isEmpty());
+        verify(connection1).commit();
+        verify(connection2).commit();
+        verify(connection3).commit();
+    }
+    
+    @Test
+    void assertExecuteAndCollectExceptionsInOrder() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Connection connection3 = mock(Connection.class);
+        SQLException exception1 = new SQLException("foo");
+        SQLException exception3 = new SQLException("bar");
+        doThrow(exception1).when(connection1).rollback();
+        doThrow(exception3).when(connection3).rollback();
+        Collection<SQLException> actual = LocalTransactionParallelExecutor.execute(Arrays.asList(connection1, connection2, connection3), Connection::rollback);
+        assertThat(actual, is(Arrays.asList(exception1, exception3)));
+        verify(connection2).rollback();
+    }
+    
+    @Test
+    void assertExecuteWithRuntimeExceptionOnCallerThread() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        RuntimeException exception1 = new IllegalStateException("foo");
+        doThrow(exception1).when(connection1).commit();
+        Collection<SQLException> actual = LocalTransactionParallelExecutor.execute(Arrays.asList(connection1, connection2), Connection::commit);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getCause(), is(exception1));
+        verify(connection2).commit();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.transaction.core.fixture.ShardingSphereTransact
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -32,7 +33,7 @@ import static org.mockito.Mockito.verify;
 
 class ShardingSphereTransactionManagerEngineTest {
     
-    private final ShardingSphereTransactionManagerEngine transactionManagerEngine = new ShardingSphereTransactionManagerEngine(TransactionType.XA);
+    private final ShardingSphereTransactionManagerEngine transactionManagerEngine = new ShardingSphereTransactionManagerEngine(TransactionType.XA, new Properties());
     
     @Test
     void assertGetEngine() {
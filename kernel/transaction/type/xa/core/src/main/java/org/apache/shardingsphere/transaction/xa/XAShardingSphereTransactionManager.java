@@ -54,14 +54,21 @@ public final class XAShardingSphereTransactionManager implements ShardingSphereT
     
     private final Map<String, XATransactionDataSource> cachedDataSources = new CaseInsensitiveMap<>();
     
+    private Properties props = new Properties();
+    
     private XATransactionManagerProvider xaTransactionManagerProvider;
     
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+    }
+    
     @Override
     public void init(final Map<String, DatabaseType> databaseTypes, final Map<String, DataSource> dataSources, final String providerType) {
         for (Entry<String, DataSource> entry : dataSources.entrySet()) {
             DatabaseTypedSPILoader.findService(XATransactionPrivilegeChecker.class, databaseTypes.get(entry.getKey())).ifPresent(optional -> optional.check(entry.getValue()));
         }
-        xaTransactionManagerProvider = TypedSPILoader.getService(XATransactionManagerProvider.class, providerType);
+        xaTransactionManagerProvider = TypedSPILoader.getService(XATransactionManagerProvider.class, providerType, props);
         xaTransactionManagerProvider.init();
         Map<String, ResourceDataSource> resourceDataSources = getResourceDataSources(dataSources);
         resourceDataSources.forEach((key, value) -> cachedDataSources.put(value.getOriginalName(), newXATransactionDataSource(databaseTypes.get(key), value)));
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.objectstore.StoreManager;
 import com.arjuna.ats.internal.arjuna.recovery.AtomicActionRecoveryModule;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.XARecoveryModule;
@@ -35,6 +36,7 @@ import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -42,6 +44,8 @@ import java.util.concurrent.ConcurrentMap;
  */
 public final class NarayanaXATransactionManagerProvider implements XATransactionManagerProvider {
     
+    private static final String ASYNC_PREPARE_KEY = "asyncPrepare";
+    
     @Getter
     private TransactionManager transactionManager;
     
@@ -49,8 +53,18 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
     
     private RecoveryManagerService recoveryManagerService;
     
+    private boolean asyncPrepare;
+    
+    @Override
+    public void init(final Properties props) {
+        asyncPrepare = Boolean.parseBoolean(props.getProperty(ASYNC_PREPARE_KEY, Boolean.FALSE.toString()));
+    }
+    
     @Override
     public void init() {
+        if (asyncPrepare) {
+            arjPropertyManager.getCoordinatorEnvironmentBean().setAsyncPrepare(true);
+        }
         transactionManager = jtaPropertyManager.getJTAEnvironmentBean().getTransactionManager();
         xaRecoveryModule = XARecoveryModule.getRegisteredXARecoveryModule();
         recoveryManagerService = new RecoveryManagerService();
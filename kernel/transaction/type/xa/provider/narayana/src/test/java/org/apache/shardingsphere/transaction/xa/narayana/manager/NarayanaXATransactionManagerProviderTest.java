@@ -17,13 +17,20 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.XARecoveryModule;
 import com.arjuna.ats.jbossatx.jta.RecoveryManagerService;
+import com.arjuna.common.internal.util.propertyservice.BeanPopulator;
+import com.arjuna.common.util.propertyservice.PropertiesFactory;
+import org.apache.shardingsphere.infra.util.reflection.ReflectionUtils;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -32,11 +39,17 @@ import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,11 +72,21 @@ class NarayanaXATransactionManagerProviderTest {
     
     @BeforeEach
     void setUp() throws ReflectiveOperationException {
+        cleanBeanInstances();
         Plugins.getMemberAccessor().set(NarayanaXATransactionManagerProvider.class.getDeclaredField("xaRecoveryModule"), transactionManagerProvider, xaRecoveryModule);
         Plugins.getMemberAccessor().set(NarayanaXATransactionManagerProvider.class.getDeclaredField("transactionManager"), transactionManagerProvider, transactionManager);
         Plugins.getMemberAccessor().set(NarayanaXATransactionManagerProvider.class.getDeclaredField("recoveryManagerService"), transactionManagerProvider, recoveryManagerService);
     }
     
+    @AfterEach
+    void tearDown() {
+        cleanBeanInstances();
+    }
+    
+    private void cleanBeanInstances() {
+        ReflectionUtils.<ConcurrentMap<String, Object>>getStaticFieldValue(BeanPopulator.class, "beanInstances").clear();
+    }
+    
     @Test
     void assertRegisterRecoveryResource() {
         transactionManagerProvider.registerRecoveryResource("ds1", xaDataSource);
@@ -96,4 +119,32 @@ class NarayanaXATransactionManagerProviderTest {
         verify(recoveryManagerService).stop();
         verify(recoveryManagerService).destroy();
     }
+    
+    @Test
+    void assertInitWithoutAsyncPrepare() {
+        assertFalse(isAsyncPrepareAfterInit(new Properties()));
+    }
+    
+    @Test
+    void assertInitWithAsyncPrepare() {
+        Properties props = new Properties();
+        props.setProperty("asyncPrepare", Boolean.TRUE.toString());
+        assertTrue(isAsyncPrepareAfterInit(props));
+    }
+    
+    private boolean isAsyncPrepareAfterInit(final Properties props) {
+        try (
+                MockedStatic<PropertiesFactory> propertiesFactory = mockStatic(PropertiesFactory.class);
+                MockedConstruction<RecoveryManagerService> ignored = mockConstruction(RecoveryManagerService.class)) {
+            propertiesFactory.when(PropertiesFactory::getDefaultProperties).thenReturn(new Properties());
+            NarayanaXATransactionManagerProvider provider = new NarayanaXATransactionManagerProvider();
+            provider.init(props);
+            provider.init();
+            try {
+                return arjPropertyManager.getCoordinatorEnvironmentBean().isAsyncPrepare();
+            } finally {
+                provider.close();
+            }
+        }
+    }
 }
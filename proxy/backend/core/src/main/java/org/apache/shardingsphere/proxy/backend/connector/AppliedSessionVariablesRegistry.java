@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Registry of session variables applied to pooled backend connections.
+ * 
+ * <p>Variables are registered by physical connection, so that connections released to pool keep their session variables,
+ * and the next session borrowing the connection only replays different variables.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AppliedSessionVariablesRegistry {
+    
+    private static final AppliedSessionVariablesRegistry INSTANCE = new AppliedSessionVariablesRegistry();
+    
+    private final Map<Connection, Map<String, String>> appliedVariables = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    /**
+     * Get instance of applied session variables registry.
+     *
+     * @return instance of applied session variables registry
+     */
+    public static AppliedSessionVariablesRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Judge whether any session variable is applied to connections.
+     *
+     * @param connections connections
+     * @return any session variable is applied or not
+     * @throws SQLException SQL exception
+     */
+    public boolean isApplied(final Collection<Connection> connections) throws SQLException {
+        if (appliedVariables.isEmpty()) {
+            return false;
+        }
+        for (Connection each : connections) {
+            if (appliedVariables.containsKey(getPhysicalConnection(each))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get session variables applied to connection.
+     *
+     * @param connection connection
+     * @return applied session variables, null value means the applied value is unknown
+     * @throws SQLException SQL exception
+     */
+    public Map<String, String> get(final Connection connection) throws SQLException {
+        return appliedVariables.getOrDefault(getPhysicalConnection(connection), Collections.emptyMap());
+    }
+    
+    /**
+     * Register session variables applied to connection.
+     *
+     * @param connection connection
+     * @param variables applied session variables
+     * @throws SQLException SQL exception
+     */
+    public void put(final Connection connection, final Map<String, String> variables) throws SQLException {
+        Connection physicalConnection = getPhysicalConnection(connection);
+        if (variables.isEmpty()) {
+            appliedVariables.remove(physicalConnection);
+        } else {
+            appliedVariables.put(physicalConnection, variables);
+        }
+    }
+    
+    /**
+     * Remove session variables of connection, which means the connection carries default values only.
+     *
+     * @param connection connection
+     * @throws SQLException SQL exception
+     */
+    public void remove(final Connection connection) throws SQLException {
+        appliedVariables.remove(getPhysicalConnection(connection));
+    }
+    
+    /**
+     * Register session variables whose applied values are unknown, they will be replayed by next session borrowing the connection.
+     *
+     * @param connection connection
+     * @param variableNames variable names
+     * @throws SQLException SQL exception
+     */
+    public void putUnknown(final Connection connection, final Collection<String> variableNames) throws SQLException {
+        Map<String, String> variables = new HashMap<>(variableNames.size(), 1F);
+        for (String each : variableNames) {
+            variables.put(each, null);
+        }
+        put(connection, variables);
+    }
+    
+    private Connection getPhysicalConnection(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+    }
+}
@@ -22,6 +22,7 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -41,8 +42,10 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -123,19 +126,60 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     }
     
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
-        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
+        boolean sessionVariablesApplied = AppliedSessionVariablesRegistry.getInstance().isApplied(connections);
+        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() && !sessionVariablesApplied || connections.isEmpty()) {
             return;
         }
         String databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
-        List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
         try {
-            executeSetSessionVariables(connections, setSQLs);
+            if (sessionVariablesApplied || isConnectionPoolDedicated()) {
+                replaySessionVariables(connections, databaseType);
+            } else {
+                setSessionVariables(connections, databaseType);
+            }
         } catch (final SQLException ex) {
             releaseConnection(connections, ex);
             throw ex;
         }
     }
     
+    private boolean isConnectionPoolDedicated() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_POOL_DEDICATED);
+    }
+    
+    private void replaySessionVariables(final List<Connection> connections, final String databaseType) throws SQLException {
+        AppliedSessionVariablesRegistry registry = AppliedSessionVariablesRegistry.getInstance();
+        Map<String, String> variables = connectionSession.getRequiredSessionVariableRecorder().getVariablesWithoutDefaultValue();
+        for (Connection each : connections) {
+            Map<String, String> appliedVariables = registry.get(each);
+            List<String> replaySQLs = connectionSession.getRequiredSessionVariableRecorder().toReplaySQLs(databaseType, appliedVariables);
+            if (replaySQLs.isEmpty()) {
+                continue;
+            }
+            try {
+                executeSetSessionVariables(Collections.singletonList(each), replaySQLs);
+            } catch (final SQLException ex) {
+                Collection<String> unknownVariableNames = new HashSet<>(appliedVariables.keySet());
+                unknownVariableNames.addAll(variables.keySet());
+                registry.putUnknown(each, unknownVariableNames);
+                throw ex;
+            }
+            registry.put(each, variables);
+        }
+    }
+    
+    private void setSessionVariables(final List<Connection> connections, final String databaseType) throws SQLException {
+        List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
+        if (setSQLs.isEmpty()) {
+            return;
+        }
+        executeSetSessionVariables(connections, setSQLs);
+        Map<String, String> variables = connectionSession.getRequiredSessionVariableRecorder().getVariablesWithoutDefaultValue();
+        for (Connection each : connections) {
+            AppliedSessionVariablesRegistry.getInstance().put(each, variables);
+        }
+    }
+    
     private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
         for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
@@ -329,6 +373,10 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
         }
+        if (isConnectionPoolDedicated()) {
+            connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
+            return;
+        }
         String databaseType;
         try {
             databaseType = values.iterator().next().getMetaData().getDatabaseProductName();
@@ -338,14 +386,25 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         }
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
         for (Connection each : values) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachResetSQL : resetSQLs) {
-                    statement.execute(eachResetSQL);
-                }
+            try {
+                resetSessionVariables(each, resetSQLs);
             } catch (final SQLException ex) {
                 exceptions.add(ex);
             }
         }
         connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
     }
+    
+    private void resetSessionVariables(final Connection connection, final List<String> resetSQLs) throws SQLException {
+        AppliedSessionVariablesRegistry registry = AppliedSessionVariablesRegistry.getInstance();
+        try (Statement statement = connection.createStatement()) {
+            for (String each : resetSQLs) {
+                statement.execute(each);
+            }
+        } catch (final SQLException ex) {
+            registry.putUnknown(connection, connectionSession.getRequiredSessionVariableRecorder().getVariablesWithoutDefaultValue().keySet());
+            throw ex;
+        }
+        registry.remove(connection);
+    }
 }
@@ -17,41 +17,44 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import lombok.SneakyThrows;
 
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Resource lock.
+ * 
+ * <p>Writers park only while channel is unwritable, and are woken up by writability changed or inactive events of channel instead of polling.</p>
  */
 public final class ResourceLock {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
-    
-    private final Lock lock = new ReentrantLock();
-    
-    private final Condition condition = lock.newCondition();
+    private final Collection<Thread> waitingThreads = new ConcurrentLinkedQueue<>();
     
     /**
      * Await.
      *
      * @param context channel handler context
      */
-    @SuppressWarnings("ResultOfMethodCallIgnored")
-    @SneakyThrows(InterruptedException.class)
     public void doAwait(final ChannelHandlerContext context) {
-        while (!context.channel().isWritable() && context.channel().isActive()) {
-            context.flush();
-            lock.lock();
-            try {
-                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
-            } finally {
-                lock.unlock();
+        Channel channel = context.channel();
+        if (channel.isWritable() || !channel.isActive()) {
+            return;
+        }
+        context.flush();
+        Thread currentThread = Thread.currentThread();
+        waitingThreads.add(currentThread);
+        try {
+            while (!channel.isWritable() && channel.isActive()) {
+                LockSupport.park(this);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
             }
+        } finally {
+            waitingThreads.remove(currentThread);
         }
     }
     
@@ -59,11 +62,8 @@ public final class ResourceLock {
      * Notify.
      */
     public void doNotify() {
-        lock.lock();
-        try {
-            condition.signalAll();
-        } finally {
-            lock.unlock();
+        for (Thread each : waitingThreads) {
+            LockSupport.unpark(each);
         }
     }
 }
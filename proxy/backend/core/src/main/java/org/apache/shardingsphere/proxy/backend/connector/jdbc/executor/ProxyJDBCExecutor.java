@@ -71,10 +71,12 @@ public final class ProxyJDBCExecutor {
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
             return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getName(), database.getResourceMetaData(), context.getSqlStatement(), databaseConnector,
+                            isReturnGeneratedKeys,
                             isExceptionThrown,
                             true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getName(), database.getResourceMetaData(), context.getSqlStatement(), databaseConnector,
+                            isReturnGeneratedKeys,
                             isExceptionThrown,
                             false));
         } finally {
@@ -93,6 +93,9 @@ public final class BackendTransactionManager implements TransactionManager {
                 } else {
                     shardingSphereTransactionManager.commit(connection.getConnectionSession().getTransactionStatus().isExceptionOccur());
                 }
+                if (!connection.getConnectionSession().getTransactionStatus().isExceptionOccur()) {
+                    getTransactionContext().runCommittedActions();
+                }
             } finally {
                 for (TransactionHook each : transactionHooks) {
                     each.afterCommit(connection.getCachedConnections().values(), getTransactionContext(), ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext());
@@ -20,8 +20,8 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
+import org.apache.shardingsphere.transaction.LocalTransactionParallelExecutor;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Iterator;
@@ -58,17 +58,13 @@ public final class LocalTransactionManager {
     }
     
     private Collection<SQLException> commitConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
+        return LocalTransactionParallelExecutor.execute(databaseConnectionManager.getCachedConnections().values(), each -> {
             try {
                 each.commit();
-            } catch (final SQLException ex) {
-                result.add(ex);
             } finally {
                 ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
-        }
-        return result;
+        });
     }
     
     /**
@@ -84,17 +80,13 @@ public final class LocalTransactionManager {
     }
     
     private Collection<SQLException> rollbackConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
+        return LocalTransactionParallelExecutor.execute(databaseConnectionManager.getCachedConnections().values(), each -> {
             try {
                 each.rollback();
-            } catch (final SQLException ex) {
-                result.add(ex);
             } finally {
                 ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
-        }
-        return result;
+        });
     }
     
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -125,6 +127,78 @@ public final class RequiredSessionVariableRecorder {
         return result.toString();
     }
     
+    /**
+     * Get variables which are not set to default value.
+     *
+     * @return variables which are not set to default value
+     */
+    public Map<String, String> getVariablesWithoutDefaultValue() {
+        Map<String, String> result = new HashMap<>(sessionVariables.size(), 1F);
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            if (!DEFAULT.equalsIgnoreCase(entry.getValue())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get replay SQLs for database, which only set variables whose values are different from variables applied to backend connection,
+     * and reset applied variables which are not set in current session.
+     *
+     * @param databaseType database type
+     * @param appliedVariables variables applied to backend connection, null value means the applied value is unknown
+     * @return replay SQLs
+     */
+    public List<String> toReplaySQLs(final String databaseType, final Map<String, String> appliedVariables) {
+        Map<String, String> variables = getVariablesWithoutDefaultValue();
+        Map<String, String> changedVariables = new LinkedHashMap<>(variables.size() + appliedVariables.size(), 1F);
+        for (Entry<String, String> entry : variables.entrySet()) {
+            if (!entry.getValue().equals(appliedVariables.get(entry.getKey()))) {
+                changedVariables.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String each : appliedVariables.keySet()) {
+            if (!variables.containsKey(each)) {
+                changedVariables.put(each, null);
+            }
+        }
+        if (changedVariables.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // TODO Refactor the following switch by SPI if we support more database in future
+        switch (databaseType) {
+            case "MySQL":
+                return Collections.singletonList(aggregateToMySQLReplaySQL(changedVariables));
+            case "PostgreSQL":
+                return convertToPostgreSQLReplaySQLs(changedVariables);
+            default:
+                return Collections.emptyList();
+        }
+    }
+    
+    private String aggregateToMySQLReplaySQL(final Map<String, String> changedVariables) {
+        StringJoiner result = new StringJoiner(",", "SET ", "");
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
+            if (null != entry.getValue()) {
+                result.add(entry.getKey() + "=" + entry.getValue());
+            } else if (entry.getKey().startsWith("@")) {
+                result.add(entry.getKey() + "=" + NULL);
+            } else {
+                result.add(entry.getKey() + "=" + DEFAULT);
+            }
+        }
+        return result.toString();
+    }
+    
+    private List<String> convertToPostgreSQLReplaySQLs(final Map<String, String> changedVariables) {
+        List<String> result = new ArrayList<>(changedVariables.size());
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
+            result.add(null == entry.getValue() ? "RESET " + entry.getKey() : "SET " + entry.getKey() + "=" + entry.getValue());
+        }
+        return result;
+    }
+    
     /**
      * Remove variables with default value.
      */
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AppliedSessionVariablesRegistryTest {
+    
+    @Test
+    void assertPutAndGet() throws SQLException {
+        Connection connection = mock(Connection.class);
+        AppliedSessionVariablesRegistry registry = AppliedSessionVariablesRegistry.getInstance();
+        assertFalse(registry.isApplied(Collections.singletonList(connection)));
+        assertTrue(registry.get(connection).isEmpty());
+        registry.put(connection, Collections.singletonMap("key", "value"));
+        assertTrue(registry.isApplied(Arrays.asList(mock(Connection.class), connection)));
+        assertThat(registry.get(connection), is(Collections.singletonMap("key", "value")));
+        registry.put(connection, Collections.emptyMap());
+        assertFalse(registry.isApplied(Collections.singletonList(connection)));
+    }
+    
+    @Test
+    void assertPutByPhysicalConnection() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        Connection pooledConnection = mock(Connection.class);
+        when(pooledConnection.isWrapperFor(Connection.class)).thenReturn(true);
+        when(pooledConnection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        AppliedSessionVariablesRegistry registry = AppliedSessionVariablesRegistry.getInstance();
+        registry.put(pooledConnection, Collections.singletonMap("key", "value"));
+        assertThat(registry.get(physicalConnection), is(Collections.singletonMap("key", "value")));
+        registry.put(physicalConnection, Collections.emptyMap());
+    }
+    
+    @Test
+    void assertPutUnknown() throws SQLException {
+        Connection connection = mock(Connection.class);
+        AppliedSessionVariablesRegistry registry = AppliedSessionVariablesRegistry.getInstance();
+        registry.putUnknown(connection, Collections.singletonList("key"));
+        Map<String, String> expected = new HashMap<>(1, 1F);
+        expected.put("key", null);
+        assertThat(registry.get(connection), is(expected));
+        assertThat(registry.get(connection).get("key"), is(nullValue()));
+        registry.put(connection, Collections.emptyMap());
+    }
+}
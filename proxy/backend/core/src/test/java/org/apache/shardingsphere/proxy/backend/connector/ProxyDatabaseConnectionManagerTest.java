@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.connector;
 
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource.JDBCBackendDataSource;
@@ -59,6 +60,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -99,6 +101,11 @@ class ProxyDatabaseConnectionManagerTest {
         JDBCBackendStatement backendStatement = new JDBCBackendStatement();
         when(connectionSession.getStatementManager()).thenReturn(backendStatement);
         when(connectionSession.getRequiredSessionVariableRecorder()).thenReturn(new RequiredSessionVariableRecorder());
+        mockConnectionPoolDedicated(ProxyContext.getInstance(), false);
+    }
+    
+    private void mockConnectionPoolDedicated(final ProxyContext proxyContext, final boolean dedicated) {
+        when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_CONNECTION_POOL_DEDICATED)).thenReturn(dedicated);
     }
     
     @AfterEach
@@ -218,6 +225,7 @@ class ProxyDatabaseConnectionManagerTest {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
         ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
         when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        mockConnectionPoolDedicated(proxyContext, false);
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
         when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
@@ -226,6 +234,77 @@ class ProxyDatabaseConnectionManagerTest {
         verify(actualConnection.createStatement()).execute("SET key=value");
     }
     
+    @Test
+    void assertGetConnectionsAndReplayChangedSessionVariablesOnly() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("other_key", "other_value");
+        ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        mockConnectionPoolDedicated(proxyContext, true);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement()).execute("SET key=value");
+        verify(connection.createStatement()).execute("SET other_key=other_value");
+        databaseConnectionManager.closeConnections(false);
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "changed_value");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("other_key", "default");
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement()).execute("SET key=changed_value");
+        verify(connection.createStatement()).execute("RESET other_key");
+        verify(connection.createStatement(), never()).execute("RESET ALL");
+        databaseConnectionManager.closeConnections(false);
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement(), times(4)).execute(anyString());
+        AppliedSessionVariablesRegistry.getInstance().put(connection, Collections.emptyMap());
+    }
+    
+    @Test
+    void assertGetConnectionsAfterConnectionPoolNotDedicated() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        mockConnectionPoolDedicated(proxyContext, true);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        databaseConnectionManager.closeConnections(false);
+        mockConnectionPoolDedicated(proxyContext, false);
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        databaseConnectionManager.closeConnections(false);
+        verify(connection.createStatement()).execute("RESET ALL");
+        assertTrue(AppliedSessionVariablesRegistry.getInstance().get(connection).isEmpty());
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement(), times(2)).execute("SET key=value");
+        databaseConnectionManager.closeConnections(false);
+    }
+    
+    @Test
+    void assertCloseConnectionsAndResetSessionVariablesWhenConnectionPoolNotDedicated() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        assertTrue(AppliedSessionVariablesRegistry.getInstance().isApplied(Collections.singletonList(connection)));
+        databaseConnectionManager.closeConnections(false);
+        verify(connection.createStatement()).execute("RESET ALL");
+        assertFalse(AppliedSessionVariablesRegistry.getInstance().isApplied(Collections.singletonList(connection)));
+    }
+    
+    @Test
+    void assertGetConnectionsWithUnsupportedDatabaseTypeAndNotRegisterSessionVariables() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("Oracle");
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement(), never()).execute(anyString());
+        assertFalse(AppliedSessionVariablesRegistry.getInstance().isApplied(Collections.singletonList(connection)));
+    }
+    
     @Test
     void assertGetConnectionsAndFailedToReplaySessionVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
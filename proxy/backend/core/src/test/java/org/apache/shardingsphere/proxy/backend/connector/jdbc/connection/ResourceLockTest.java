@@ -24,17 +24,14 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.times;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,33 +45,25 @@ class ResourceLockTest {
     @Mock
     private Channel channel;
     
-    @Mock
-    private ResourceLock resourceLock;
-    
     @Test
-    void assertDoAwait() throws NoSuchFieldException, IllegalAccessException {
-        when(channel.isWritable()).thenReturn(false);
-        when(channel.isActive()).thenReturn(true);
+    void assertDoAwaitWhenChannelWritable() {
+        when(channel.isWritable()).thenReturn(true);
         when(channelHandlerContext.channel()).thenReturn(channel);
-        ExecutorService executorService = Executors.newFixedThreadPool(1);
-        executorService.submit(() -> resourceLock.doAwait(channelHandlerContext));
-        Awaitility.await().pollDelay(200L, TimeUnit.MILLISECONDS).until(() -> true);
-        Plugins.getMemberAccessor().set(ResourceLock.class.getDeclaredField("condition"), resourceLock, new ReentrantLock().newCondition());
-        verify(resourceLock, times(1)).doAwait(channelHandlerContext);
+        new ResourceLock().doAwait(channelHandlerContext);
+        verify(channelHandlerContext, never()).flush();
     }
     
     @Test
     void assertDoNotify() {
-        when(channel.isWritable()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(false);
         when(channel.isActive()).thenReturn(true);
         when(channelHandlerContext.channel()).thenReturn(channel);
-        long startTime = System.currentTimeMillis();
-        ExecutorService executorService = Executors.newFixedThreadPool(1);
-        executorService.submit(() -> {
-            Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
-            resourceLock.doNotify();
-        });
-        resourceLock.doAwait(channelHandlerContext);
-        assertTrue(System.currentTimeMillis() >= startTime);
+        ResourceLock resourceLock = new ResourceLock();
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> resourceLock.doAwait(channelHandlerContext));
+        Awaitility.await().atMost(1L, TimeUnit.SECONDS).untilAsserted(() -> verify(channelHandlerContext).flush());
+        assertFalse(future.isDone());
+        when(channel.isWritable()).thenReturn(true);
+        resourceLock.doNotify();
+        Awaitility.await().atMost(1L, TimeUnit.SECONDS).until(future::isDone);
     }
 }
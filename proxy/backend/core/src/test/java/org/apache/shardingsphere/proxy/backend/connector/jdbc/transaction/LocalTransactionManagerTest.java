@@ -35,6 +35,11 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -92,4 +97,16 @@ class LocalTransactionManagerTest {
         verify(transactionStatus).isInTransaction();
         verify(connection).rollback();
     }
+    
+    @Test
+    void assertCommitMultipleConnectionsWithFailure() throws SQLException {
+        Connection otherConnection = mock(Connection.class);
+        databaseConnectionManager.getCachedConnections().put("ds2", otherConnection);
+        SQLException expected = new SQLException("");
+        doThrow(expected).when(otherConnection).commit();
+        SQLException actual = assertThrows(SQLException.class, () -> localTransactionManager.commit());
+        assertThat(actual, is(expected));
+        verify(connection).commit();
+        verify(otherConnection).commit();
+    }
 }
@@ -21,7 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -67,6 +70,31 @@ class RequiredSessionVariableRecorderTest {
         assertThat(recorder.toResetSQLs(databaseType), is(Collections.singletonList("RESET ALL")));
     }
     
+    @Test
+    void assertToMySQLReplaySQLs() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("sql_mode", "default");
+        recorder.setVariable("max_sort_length", "1024");
+        Map<String, String> appliedVariables = new LinkedHashMap<>(2, 1F);
+        appliedVariables.put("sql_mode", "ANSI");
+        appliedVariables.put("@variable_name", "'variable_value'");
+        assertThat(recorder.toReplaySQLs("MySQL", appliedVariables), is(Collections.singletonList("SET max_sort_length=1024,sql_mode=DEFAULT,@variable_name=NULL")));
+        assertTrue(recorder.toReplaySQLs("MySQL", Collections.singletonMap("max_sort_length", "1024")).isEmpty());
+    }
+    
+    @Test
+    void assertToPostgreSQLReplaySQLs() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("client_encoding", "utf8");
+        recorder.setVariable("datestyle", "iso");
+        Map<String, String> appliedVariables = new HashMap<>(2, 1F);
+        appliedVariables.put("client_encoding", "utf8");
+        appliedVariables.put("search_path", "public");
+        assertThat(recorder.toReplaySQLs("PostgreSQL", appliedVariables), is(Arrays.asList("SET datestyle=iso", "RESET search_path")));
+        appliedVariables.put("client_encoding", null);
+        assertThat(new HashSet<>(recorder.toReplaySQLs("PostgreSQL", appliedVariables)), is(new HashSet<>(Arrays.asList("SET client_encoding=utf8", "SET datestyle=iso", "RESET search_path"))));
+    }
+    
     @Test
     void assertRecordUnsupportedDatabaseType() {
         RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Query data flush policy.
+ * 
+ * <p>Flushes by bytes encoded since last flush rather than by row count only. Flush rows threshold still applies once a minimum of bytes is pending,
+ * so tiny rows are not flushed one small batch at a time. The flush bytes threshold grows while client drains everything flushed before,
+ * shrinks while flushed bytes pile up in outbound buffer, and flush happens at once when outbound buffer is approaching its high water mark.</p>
+ * 
+ * <p>Packets written from command executor thread are encoded later in event loop, so encoded bytes are measured and flush is decided in event loop,
+ * by a check which is scheduled after the writes and coalesced while it is pending.</p>
+ */
+public final class QueryDataFlushPolicy {
+    
+    private static final long MIN_FLUSH_BYTES = 8L * 1024L;
+    
+    private static final long INITIAL_FLUSH_BYTES = 64L * 1024L;
+    
+    private static final long MAX_FLUSH_BYTES = 2L * 1024L * 1024L;
+    
+    private final ChannelHandlerContext context;
+    
+    private final int flushRowsThreshold;
+    
+    private final PacketCodec packetCodec;
+    
+    private final long writeBufferHighWaterMark;
+    
+    private final long maxFlushBytes;
+    
+    private final AtomicInteger unflushedRows = new AtomicInteger();
+    
+    private final AtomicBoolean flushCheckScheduled = new AtomicBoolean();
+    
+    private long flushBytesThreshold;
+    
+    private long lastFlushEncodedBytes;
+    
+    public QueryDataFlushPolicy(final ChannelHandlerContext context, final int flushRowsThreshold) {
+        this.context = context;
+        this.flushRowsThreshold = flushRowsThreshold;
+        packetCodec = context.pipeline().get(PacketCodec.class);
+        writeBufferHighWaterMark = context.channel().config().getWriteBufferHighWaterMark();
+        maxFlushBytes = Math.max(MIN_FLUSH_BYTES, Math.min(MAX_FLUSH_BYTES, writeBufferHighWaterMark / 2L));
+        flushBytesThreshold = Math.min(INITIAL_FLUSH_BYTES, maxFlushBytes);
+        executeInEventLoop(() -> lastFlushEncodedBytes = packetCodec.getEncodedBytes());
+    }
+    
+    /**
+     * Write packet and flush if necessary.
+     *
+     * @param packet packet to be written
+     */
+    public void write(final DatabasePacket packet) {
+        context.write(packet);
+        unflushedRows.incrementAndGet();
+        if (flushCheckScheduled.compareAndSet(false, true)) {
+            executeInEventLoop(this::flushIfNecessary);
+        }
+    }
+    
+    private void executeInEventLoop(final Runnable task) {
+        if (context.executor().inEventLoop()) {
+            task.run();
+        } else {
+            context.executor().execute(task);
+        }
+    }
+    
+    private void flushIfNecessary() {
+        flushCheckScheduled.set(false);
+        long unflushedBytes = packetCodec.getEncodedBytes() - lastFlushEncodedBytes;
+        long bytesBeforeUnwritable = context.channel().bytesBeforeUnwritable();
+        if (isFlushRequired(unflushedBytes, bytesBeforeUnwritable)) {
+            adjustFlushBytesThreshold(writeBufferHighWaterMark - bytesBeforeUnwritable - unflushedBytes);
+            flush(unflushedBytes);
+        }
+    }
+    
+    private boolean isFlushRequired(final long unflushedBytes, final long bytesBeforeUnwritable) {
+        if (unflushedBytes >= flushBytesThreshold) {
+            return true;
+        }
+        if (unflushedRows.get() >= flushRowsThreshold && unflushedBytes >= MIN_FLUSH_BYTES) {
+            return true;
+        }
+        return unflushedBytes > 0L && bytesBeforeUnwritable < flushBytesThreshold;
+    }
+    
+    private void adjustFlushBytesThreshold(final long backlogBytes) {
+        if (backlogBytes <= 0L) {
+            flushBytesThreshold = Math.min(flushBytesThreshold * 2L, maxFlushBytes);
+        } else if (backlogBytes >= flushBytesThreshold) {
+            flushBytesThreshold = Math.max(flushBytesThreshold / 2L, MIN_FLUSH_BYTES);
+        }
+    }
+    
+    private void flush(final long flushBytes) {
+        context.flush();
+        lastFlushEncodedBytes += flushBytes;
+        unflushedRows.set(0);
+    }
+}
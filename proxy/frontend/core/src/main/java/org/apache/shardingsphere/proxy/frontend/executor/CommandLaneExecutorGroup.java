@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import com.alibaba.ttl.TtlRunnable;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Command lane executor group.
+ *
+ * <p>
+ * Commands are executed by a fixed number of home lanes.
+ * Commands of one connection are serialized and prefer the home lane of the connection, idle lanes steal ready connections from busy lanes.
+ * Commands block on backend connections and resource locks, so when connections are ready but every lane has been running one command longer than the blocked threshold,
+ * a compensating lane is added to keep the commands which would release the blocked lanes moving.
+ * Compensating lanes are no more than home lanes, and exit after being idle for the keep alive time.
+ * </p>
+ */
+@Slf4j
+public final class CommandLaneExecutorGroup {
+    
+    private static final int DEFAULT_LANES_PER_PROCESSOR = 8;
+    
+    private static final long BLOCKED_CHECK_INTERVAL_MILLIS = 100L;
+    
+    private static final long BLOCKED_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private static final long COMPENSATING_LANE_KEEP_ALIVE_NANOS = TimeUnit.SECONDS.toNanos(60L);
+    
+    private static volatile CommandLaneExecutorGroup instance;
+    
+    private final CommandLane[] homeLanes;
+    
+    private final Collection<CommandLane> lanes = new CopyOnWriteArrayList<>();
+    
+    private final ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("Command-Lane-%d");
+    
+    private final ScheduledExecutorService blockedLaneMonitor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Command-Lane-Monitor-%d"));
+    
+    private final int maxPendingCommands;
+    
+    private final AtomicInteger compensatingLanes = new AtomicInteger();
+    
+    private volatile boolean closed;
+    
+    private final AtomicInteger pendingCommands = new AtomicInteger();
+    
+    private final Map<Integer, ConnectionCommandQueue> connectionCommandQueues = new ConcurrentHashMap<>();
+    
+    CommandLaneExecutorGroup(final int laneSize, final int maxPendingCommands) {
+        homeLanes = new CommandLane[laneSize > 0 ? laneSize : Runtime.getRuntime().availableProcessors() * DEFAULT_LANES_PER_PROCESSOR];
+        this.maxPendingCommands = maxPendingCommands;
+        for (int i = 0; i < homeLanes.length; i++) {
+            homeLanes[i] = new CommandLane(false);
+        }
+        for (CommandLane each : homeLanes) {
+            startLane(each);
+        }
+        blockedLaneMonitor.scheduleWithFixedDelay(this::compensateBlockedLanes, BLOCKED_CHECK_INTERVAL_MILLIS, BLOCKED_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    private void startLane(final CommandLane lane) {
+        lane.thread = threadFactory.newThread(lane);
+        lanes.add(lane);
+        lane.thread.start();
+    }
+    
+    /**
+     * Get command lane executor group.
+     *
+     * @return command lane executor group
+     */
+    public static CommandLaneExecutorGroup getInstance() {
+        if (null == instance) {
+            synchronized (CommandLaneExecutorGroup.class) {
+                if (null == instance) {
+                    ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+                    instance = new CommandLaneExecutorGroup(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMMAND_LANE_SIZE),
+                            props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMMAND_MAX_PENDING));
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Close command lane executor group if created.
+     */
+    public static void closeInstance() {
+        synchronized (CommandLaneExecutorGroup.class) {
+            if (null != instance) {
+                instance.close();
+                instance = null;
+            }
+        }
+    }
+    
+    /**
+     * Get lane size.
+     *
+     * @return lane size, including compensating lanes
+     */
+    public int getLaneSize() {
+        return lanes.size();
+    }
+    
+    /**
+     * Execute command of connection.
+     *
+     * @param connectionId connection id
+     * @param command command
+     * @return whether the command is admitted, false means too many commands are pending
+     */
+    public boolean execute(final int connectionId, final Runnable command) {
+        if (pendingCommands.incrementAndGet() > maxPendingCommands && maxPendingCommands > 0) {
+            pendingCommands.decrementAndGet();
+            return false;
+        }
+        connectionCommandQueues.computeIfAbsent(connectionId, ConnectionCommandQueue::new).offer(TtlRunnable.get(command));
+        return true;
+    }
+    
+    /**
+     * Unregister connection and execute close task after the pending commands of the connection.
+     *
+     * @param connectionId connection id
+     * @param closeTask close task
+     */
+    public void unregister(final int connectionId, final Runnable closeTask) {
+        ConnectionCommandQueue commandQueue = connectionCommandQueues.remove(connectionId);
+        pendingCommands.incrementAndGet();
+        (null == commandQueue ? new ConnectionCommandQueue(connectionId) : commandQueue).offer(closeTask);
+    }
+    
+    /**
+     * Close lanes after the running commands, pending commands are discarded.
+     */
+    public void close() {
+        closed = true;
+        blockedLaneMonitor.shutdownNow();
+        for (CommandLane each : lanes) {
+            LockSupport.unpark(each.thread);
+        }
+    }
+    
+    private void schedule(final CommandLane lane, final ConnectionCommandQueue commandQueue) {
+        lane.readyQueues.offerLast(commandQueue);
+        if (lane.idle) {
+            LockSupport.unpark(lane.thread);
+        } else {
+            signalIdleLane();
+        }
+    }
+    
+    private boolean signalIdleLane() {
+        for (CommandLane each : lanes) {
+            if (each.idle) {
+                LockSupport.unpark(each.thread);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void compensateBlockedLanes() {
+        if (!hasReadyConnection() || signalIdleLane()) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (CommandLane each : lanes) {
+            if (0L == each.runningSince || now - each.runningSince < BLOCKED_THRESHOLD_NANOS) {
+                return;
+            }
+        }
+        if (compensatingLanes.get() >= homeLanes.length) {
+            log.debug("All command lanes are blocked, compensating lanes reach the limit {}.", homeLanes.length);
+            return;
+        }
+        log.debug("All command lanes are blocked, add a compensating lane.");
+        compensatingLanes.incrementAndGet();
+        startLane(new CommandLane(true));
+    }
+    
+    private boolean hasReadyConnection() {
+        for (CommandLane each : homeLanes) {
+            if (!each.readyQueues.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private ConnectionCommandQueue pollOrSteal(final CommandLane lane) {
+        ConnectionCommandQueue result = lane.readyQueues.pollFirst();
+        if (null != result) {
+            return result;
+        }
+        for (CommandLane each : lanes) {
+            if (each != lane && null != (result = each.readyQueues.pollLast())) {
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private final class CommandLane implements Runnable {
+        
+        private final boolean compensating;
+        
+        private final ConcurrentLinkedDeque<ConnectionCommandQueue> readyQueues = new ConcurrentLinkedDeque<>();
+        
+        private volatile boolean idle;
+        
+        private volatile long runningSince;
+        
+        private Thread thread;
+        
+        @Override
+        public void run() {
+            long idleSince = System.nanoTime();
+            while (!closed && !Thread.currentThread().isInterrupted()) {
+                ConnectionCommandQueue commandQueue = take();
+                if (null != commandQueue) {
+                    if (hasReadyConnection()) {
+                        signalIdleLane();
+                    }
+                    runningSince = System.nanoTime();
+                    commandQueue.runNext(this);
+                    runningSince = 0L;
+                    idleSince = System.nanoTime();
+                } else if (compensating && System.nanoTime() - idleSince >= COMPENSATING_LANE_KEEP_ALIVE_NANOS) {
+                    retire();
+                    return;
+                }
+            }
+            lanes.remove(this);
+        }
+        
+        private ConnectionCommandQueue take() {
+            ConnectionCommandQueue result = pollOrSteal(this);
+            if (null != result) {
+                return result;
+            }
+            idle = true;
+            result = pollOrSteal(this);
+            if (null == result) {
+                if (compensating) {
+                    LockSupport.parkNanos(this, COMPENSATING_LANE_KEEP_ALIVE_NANOS);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            idle = false;
+            return result;
+        }
+        
+        private void retire() {
+            lanes.remove(this);
+            compensatingLanes.decrementAndGet();
+            if (hasReadyConnection()) {
+                signalIdleLane();
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private final class ConnectionCommandQueue {
+        
+        private final int connectionId;
+        
+        private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        
+        private void offer(final Runnable command) {
+            commands.offer(command);
+            if (scheduled.compareAndSet(false, true)) {
+                schedule(homeLanes[Math.abs(connectionId % homeLanes.length)], this);
+            }
+        }
+        
+        private void runNext(final CommandLane lane) {
+            Runnable command = commands.poll();
+            if (null != command) {
+                pendingCommands.decrementAndGet();
+                run(command);
+            }
+            scheduled.set(false);
+            if (!commands.isEmpty() && scheduled.compareAndSet(false, true)) {
+                schedule(lane, this);
+            }
+        }
+        
+        private void run(final Runnable command) {
+            try {
+                command.run();
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.error("Execute command of connection {} failed.", connectionId, ex);
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread is registered lazily when the connection first runs a distributed transaction command.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -52,12 +53,12 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     /**
-     * Register connection.
+     * Register connection if absent.
      *
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        executorServices.computeIfAbsent(connectionId, this::newSingleThreadExecutorService);
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
@@ -74,6 +75,23 @@ public final class ConnectionThreadExecutorGroup {
         return executorServices.get(connectionId);
     }
     
+    /**
+     * Unregister connection and execute close task after the running command of the connection.
+     *
+     * @param connectionId connection id
+     * @param closeTask close task
+     * @return whether the connection is registered, false means close task is not executed
+     */
+    public boolean unregister(final int connectionId, final Runnable closeTask) {
+        ExecutorService executorService = executorServices.remove(connectionId);
+        if (null == executorService) {
+            return false;
+        }
+        executorService.execute(closeTask);
+        executorService.shutdown();
+        return true;
+    }
+    
     /**
      * Unregister connection and await termination.
      *
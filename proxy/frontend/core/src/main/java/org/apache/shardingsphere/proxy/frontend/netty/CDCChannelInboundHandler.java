@@ -84,6 +84,15 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(null);
     }
     
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        CDCConnectionContext connectionContext = ctx.channel().attr(CONNECTION_CONTEXT_KEY).get();
+        if (ctx.channel().isWritable() && null != connectionContext) {
+            backendHandler.notifyStreamingWritable(connectionContext.getJobId(), ctx.channel().id());
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+    
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         log.error("caught CDC resolution error", cause);
@@ -29,8 +29,8 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
+import org.apache.shardingsphere.proxy.frontend.executor.CommandLaneExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
-import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
@@ -60,7 +60,6 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         connectionSession.setConnectionId(connectionId);
     }
     
@@ -102,11 +101,17 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
-        UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
+        connectionSession.getDatabaseConnectionManager().getResourceLock().doNotify();
+        CommandLaneExecutorGroup.getInstance().unregister(connectionSession.getConnectionId(), this::closeAllResourcesAfterConnectionThread);
+    }
+    
+    private void closeAllResourcesAfterConnectionThread() {
+        if (!ConnectionThreadExecutorGroup.getInstance().unregister(connectionSession.getConnectionId(), this::closeAllResources)) {
+            closeAllResources();
+        }
     }
     
     private void closeAllResources() {
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionSession.getConnectionId());
         connectionSession.getDatabaseConnectionManager().closeAllResources();
         Optional.ofNullable(connectionSession.getProcessId()).ifPresent(processEngine::disconnect);
         databaseProtocolFrontendEngine.release(connectionSession);
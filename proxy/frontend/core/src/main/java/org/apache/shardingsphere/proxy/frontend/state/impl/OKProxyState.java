@@ -17,17 +17,19 @@
 
 package org.apache.shardingsphere.proxy.frontend.state.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.shardingsphere.db.protocol.event.WriteCompleteEvent;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.proxy.frontend.exception.CommandOverloadException;
+import org.apache.shardingsphere.proxy.frontend.executor.CommandLaneExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
-import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyState;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 
-import java.util.concurrent.ExecutorService;
-
 /**
  * OK proxy state.
  */
@@ -35,17 +37,31 @@ public final class OKProxyState implements ProxyState {
     
     @Override
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
-        ExecutorService executorService = determineSuitableExecutorService(connectionSession);
         context.channel().config().setAutoRead(false);
-        executorService.execute(new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message));
-    }
-    
-    private ExecutorService determineSuitableExecutorService(final ConnectionSession connectionSession) {
-        return requireOccupyThreadForConnection(connectionSession) ? ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId())
-                : UserExecutorGroup.getInstance().getExecutorService();
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message);
+        if (requireOccupyThreadForConnection(connectionSession)) {
+            ConnectionThreadExecutorGroup.getInstance().register(connectionSession.getConnectionId());
+            ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId()).execute(commandExecutorTask);
+            return;
+        }
+        if (!CommandLaneExecutorGroup.getInstance().execute(connectionSession.getConnectionId(), commandExecutorTask)) {
+            try {
+                rejectCommand(context, (ByteBuf) message, databaseProtocolFrontendEngine, connectionSession);
+            } finally {
+                ReferenceCountUtil.release(message);
+            }
+        }
     }
     
     private boolean requireOccupyThreadForConnection(final ConnectionSession connectionSession) {
         return TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
     }
+    
+    private void rejectCommand(final ChannelHandlerContext context, final ByteBuf message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
+                               final ConnectionSession connectionSession) {
+        context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(new CommandOverloadException()));
+        databaseProtocolFrontendEngine.getCommandExecuteEngine().getRejectedCommandOtherPacket(message, connectionSession).ifPresent(context::write);
+        context.flush();
+        context.pipeline().fireUserEventTriggered(new WriteCompleteEvent());
+    }
 }
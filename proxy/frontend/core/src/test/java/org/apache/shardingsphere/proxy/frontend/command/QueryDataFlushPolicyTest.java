@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueryDataFlushPolicyTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private EventExecutor eventLoop;
+    
+    @Mock
+    private PacketCodec packetCodec;
+    
+    private final List<Runnable> eventLoopTasks = new LinkedList<>();
+    
+    @BeforeEach
+    void setUp() {
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        when(pipeline.get(PacketCodec.class)).thenReturn(packetCodec);
+        when(context.pipeline()).thenReturn(pipeline);
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(16 * 1024 * 1024);
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(16L * 1024L * 1024L);
+        when(context.executor()).thenReturn(eventLoop);
+        doAnswer(invocation -> eventLoopTasks.add(invocation.getArgument(0))).when(eventLoop).execute(any(Runnable.class));
+    }
+    
+    private void runEventLoopTasks() {
+        while (!eventLoopTasks.isEmpty()) {
+            eventLoopTasks.remove(0).run();
+        }
+    }
+    
+    @Test
+    void assertWriteTinyRowsWithoutFlush() {
+        when(packetCodec.getEncodedBytes()).thenReturn(0L, 20L);
+        QueryDataFlushPolicy flushPolicy = new QueryDataFlushPolicy(context, 1);
+        flushPolicy.write(mock(DatabasePacket.class));
+        flushPolicy.write(mock(DatabasePacket.class));
+        assertThat(eventLoopTasks.size(), is(2));
+        runEventLoopTasks();
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    void assertWriteWithFlushBytesThresholdReached() {
+        when(packetCodec.getEncodedBytes()).thenReturn(0L, 64L * 1024L);
+        new QueryDataFlushPolicy(context, 128).write(mock(DatabasePacket.class));
+        verify(context, never()).flush();
+        runEventLoopTasks();
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertWriteWithFlushRowsThresholdReached() {
+        when(packetCodec.getEncodedBytes()).thenReturn(0L, 8L * 1024L);
+        new QueryDataFlushPolicy(context, 1).write(mock(DatabasePacket.class));
+        runEventLoopTasks();
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertWriteWithChannelNearlyUnwritable() {
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(1024L);
+        when(packetCodec.getEncodedBytes()).thenReturn(0L, 1L);
+        new QueryDataFlushPolicy(context, 128).write(mock(DatabasePacket.class));
+        runEventLoopTasks();
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertWriteInEventLoop() {
+        when(eventLoop.inEventLoop()).thenReturn(true);
+        when(packetCodec.getEncodedBytes()).thenReturn(0L, 64L * 1024L);
+        new QueryDataFlushPolicy(context, 128).write(mock(DatabasePacket.class));
+        verify(context).flush();
+    }
+}
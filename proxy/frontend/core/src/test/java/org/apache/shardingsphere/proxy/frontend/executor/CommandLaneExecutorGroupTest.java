@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandLaneExecutorGroupTest {
+    
+    @Test
+    void assertExecuteSeriallyForConnection() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(4, 0);
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            assertTrue(executorGroup.execute(1, () -> {
+                actual.add(value);
+                latch.countDown();
+            }));
+        }
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        assertThat(actual, is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+    }
+    
+    @Test
+    void assertExecuteOnBoundedLanes() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(2, 0);
+        Set<String> actual = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(50);
+        for (int i = 0; i < 50; i++) {
+            executorGroup.execute(i, () -> {
+                actual.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        assertThat(executorGroup.getLaneSize(), is(2));
+        assertThat(actual.size(), lessThanOrEqualTo(2));
+    }
+    
+    @Test
+    void assertStealFromBusyLane() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(2, 0);
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+        executorGroup.execute(0, awaitQuietly(blocking));
+        executorGroup.execute(2, executed::countDown);
+        assertTrue(executed.await(10L, TimeUnit.SECONDS));
+        blocking.countDown();
+    }
+    
+    @Test
+    void assertCompensateBlockedLanes() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(1, 0);
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+        executorGroup.execute(1, () -> {
+            awaitQuietly(released).run();
+            executed.countDown();
+        });
+        executorGroup.execute(2, released::countDown);
+        assertTrue(executed.await(10L, TimeUnit.SECONDS));
+        assertThat(executorGroup.getLaneSize(), is(2));
+    }
+    
+    @Test
+    void assertCompensateBlockedLanesWithLimit() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(1, 0);
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 4; i++) {
+            executorGroup.execute(i, () -> {
+                started.countDown();
+                awaitQuietly(blocking).run();
+            });
+        }
+        assertTrue(started.await(10L, TimeUnit.SECONDS));
+        Thread.sleep(500L);
+        assertThat(executorGroup.getLaneSize(), is(2));
+        blocking.countDown();
+        executorGroup.close();
+    }
+    
+    @Test
+    void assertClose() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(2, 0);
+        executorGroup.close();
+        long deadline = System.currentTimeMillis() + 10000L;
+        while (executorGroup.getLaneSize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertThat(executorGroup.getLaneSize(), is(0));
+    }
+    
+    @Test
+    void assertRejectWhenTooManyCommandsPending() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocking = new CountDownLatch(1);
+        assertTrue(executorGroup.execute(1, () -> {
+            started.countDown();
+            awaitQuietly(blocking).run();
+        }));
+        assertTrue(started.await(10L, TimeUnit.SECONDS));
+        assertTrue(executorGroup.execute(2, () -> {
+        }));
+        assertFalse(executorGroup.execute(3, () -> {
+        }));
+        blocking.countDown();
+    }
+    
+    @Test
+    void assertUnregisterAfterPendingCommands() throws InterruptedException {
+        CommandLaneExecutorGroup executorGroup = new CommandLaneExecutorGroup(2, 0);
+        List<String> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        executorGroup.execute(1, () -> actual.add("command"));
+        executorGroup.unregister(1, () -> {
+            actual.add("close");
+            closed.countDown();
+        });
+        assertTrue(closed.await(10L, TimeUnit.SECONDS));
+        assertThat(actual, is(Arrays.asList("command", "close")));
+    }
+    
+    private Runnable awaitQuietly(final CountDownLatch latch) {
+        return () -> {
+            try {
+                latch.await();
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+}
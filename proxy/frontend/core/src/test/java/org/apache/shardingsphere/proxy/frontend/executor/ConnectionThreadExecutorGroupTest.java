@@ -19,8 +19,18 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConnectionThreadExecutorGroupTest {
     
@@ -39,4 +49,35 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    void assertUnregisterWithCloseTask() throws InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        List<String> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        ConnectionThreadExecutorGroup.getInstance().get(connectionId).execute(() -> {
+            try {
+                blocking.await();
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            actual.add("command");
+        });
+        assertTrue(ConnectionThreadExecutorGroup.getInstance().unregister(connectionId, () -> {
+            actual.add("close");
+            closed.countDown();
+        }));
+        assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        blocking.countDown();
+        assertTrue(closed.await(10L, TimeUnit.SECONDS));
+        assertThat(actual, is(Arrays.asList("command", "close")));
+    }
+    
+    @Test
+    void assertUnregisterWithCloseTaskWhenNotRegistered() {
+        assertFalse(ConnectionThreadExecutorGroup.getInstance().unregister(4, () -> {
+        }));
+    }
 }
@@ -18,12 +18,17 @@
 package org.apache.shardingsphere.proxy.frontend.state.impl;
 
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.embedded.EmbeddedChannel;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.event.WriteCompleteEvent;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.proxy.frontend.exception.CommandOverloadException;
+import org.apache.shardingsphere.proxy.frontend.executor.CommandLaneExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
@@ -39,6 +44,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -74,6 +80,46 @@ class OKProxyStateTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
+    @Test
+    void assertExecuteWithLocalTransaction() {
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getTransactionStatus().getTransactionType()).thenReturn(TransactionType.LOCAL);
+        when(connectionSession.getConnectionId()).thenReturn(1);
+        CommandLaneExecutorGroup executorGroup = setMockCommandLaneExecutorGroup();
+        when(executorGroup.execute(eq(1), any(CommandExecutorTask.class))).thenReturn(true);
+        new OKProxyState().execute(context, null, mock(DatabaseProtocolFrontendEngine.class), connectionSession);
+        verify(executorGroup).execute(eq(1), any(CommandExecutorTask.class));
+        setCommandLaneExecutorGroup(null);
+    }
+    
+    @Test
+    void assertExecuteWithTooManyPendingCommands() {
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getTransactionStatus().getTransactionType()).thenReturn(TransactionType.LOCAL);
+        when(connectionSession.getConnectionId()).thenReturn(1);
+        setMockCommandLaneExecutorGroup();
+        DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine = mock(DatabaseProtocolFrontendEngine.class, RETURNS_DEEP_STUBS);
+        DatabasePacket errorPacket = mock(DatabasePacket.class);
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(any(CommandOverloadException.class))).thenReturn(errorPacket);
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        when(context.pipeline()).thenReturn(pipeline);
+        new OKProxyState().execute(context, null, databaseProtocolFrontendEngine, connectionSession);
+        verify(context).write(errorPacket);
+        verify(pipeline).fireUserEventTriggered(any(WriteCompleteEvent.class));
+        setCommandLaneExecutorGroup(null);
+    }
+    
+    private CommandLaneExecutorGroup setMockCommandLaneExecutorGroup() {
+        CommandLaneExecutorGroup result = mock(CommandLaneExecutorGroup.class);
+        setCommandLaneExecutorGroup(result);
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setCommandLaneExecutorGroup(final CommandLaneExecutorGroup executorGroup) {
+        Plugins.getMemberAccessor().set(CommandLaneExecutorGroup.class.getDeclaredField("instance"), null, executorGroup);
+    }
+    
     @SuppressWarnings({"unchecked", "SameParameterValue"})
     @SneakyThrows(ReflectiveOperationException.class)
     private ExecutorService registerMockExecutorService(final int connectionId) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
@@ -43,6 +44,19 @@ public interface CommandExecuteEngine {
      */
     CommandPacketType getCommandPacketType(PacketPayload packetPayload);
     
+    /**
+     * Get command packet type with connection session.
+     *
+     * <p>Protocols which receive data packets outside the command phase, such as a file sent in reply to a server request, can override it to inspect the session state.</p>
+     *
+     * @param packetPayload packet payload
+     * @param connectionSession connection session
+     * @return command packet type
+     */
+    default CommandPacketType getCommandPacketType(final PacketPayload packetPayload, final ConnectionSession connectionSession) {
+        return getCommandPacketType(packetPayload);
+    }
+    
     /**
      * Get command packet.
      *
@@ -82,6 +96,19 @@ public interface CommandExecuteEngine {
         return Optional.empty();
     }
     
+    /**
+     * Get other packet of rejected command.
+     *
+     * <p>Protocols which expect the other packet only at the end of a message batch, such as PostgreSQL extended query, can override it to inspect the rejected message.</p>
+     *
+     * @param message rejected message
+     * @param connectionSession connection session
+     * @return other packet
+     */
+    default Optional<DatabasePacket> getRejectedCommandOtherPacket(final ByteBuf message, final ConnectionSession connectionSession) {
+        return getOtherPacket(connectionSession);
+    }
+    
     /**
      * Write query data.
      *
@@ -24,12 +24,17 @@ import io.netty.channel.epoll.EpollDomainSocketChannel;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.authority.checker.AuthorityChecker;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.compression.MySQLCompressionAlgorithm;
+import org.apache.shardingsphere.db.protocol.mysql.codec.compression.MySQLZlibCompressionAlgorithm;
+import org.apache.shardingsphere.db.protocol.mysql.codec.compression.MySQLZstdCompressionAlgorithm;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.db.protocol.mysql.netty.MySQLCompressionHandler;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
@@ -74,6 +79,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private AuthenticationResult currentAuthResult;
     
+    private int clientCapabilityFlags;
+    
+    private int zstdCompressionLevel;
+    
     @Override
     public int handshake(final ChannelHandlerContext context) {
         int result = ConnectionIdGenerator.getInstance().nextId();
@@ -106,6 +115,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new DatabaseAccessDeniedException(currentAuthResult.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
         }
         writeOKPacket(context);
+        createCompressionAlgorithm().ifPresent(optional -> enableCompression(context, optional));
         return AuthenticationResultBuilder.finished(grantee.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
     }
     
@@ -120,7 +130,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new HandshakeException();
         }
         authResponse = handshakeResponsePacket.getAuthResponse();
+        clientCapabilityFlags = handshakeResponsePacket.getCapabilityFlags();
+        zstdCompressionLevel = handshakeResponsePacket.getZstdCompressionLevel();
         setMultiStatementsOption(context, handshakeResponsePacket);
+        setLocalFilesOption(context, handshakeResponsePacket);
         setCharacterSet(context, handshakeResponsePacket);
         String database = handshakeResponsePacket.getDatabase();
         if (!Strings.isNullOrEmpty(database) && !ProxyContext.getInstance().databaseExists(database)) {
@@ -142,6 +155,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         context.channel().attr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS).set(handshakeResponsePacket.getMultiStatementsOption());
     }
     
+    private void setLocalFilesOption(final ChannelHandlerContext context, final MySQLHandshakeResponse41Packet handshakeResponsePacket) {
+        context.channel().attr(MySQLConstants.MYSQL_CLIENT_LOCAL_FILES).set(0 != (handshakeResponsePacket.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_LOCAL_FILES.getValue()));
+    }
+    
     private void setCharacterSet(final ChannelHandlerContext context, final MySQLHandshakeResponse41Packet handshakeResponsePacket) {
         MySQLCharacterSet characterSet = MySQLCharacterSet.findById(handshakeResponsePacket.getCharacterSet());
         context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(characterSet.getCharset());
@@ -177,4 +194,19 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     private void writeOKPacket(final ChannelHandlerContext context) {
         context.writeAndFlush(new MySQLOKPacket(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
     }
+    
+    private Optional<MySQLCompressionAlgorithm> createCompressionAlgorithm() {
+        if (0 != (clientCapabilityFlags & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue())) {
+            return Optional.of(new MySQLZlibCompressionAlgorithm());
+        }
+        if (0 != (clientCapabilityFlags & MySQLCapabilityFlag.CLIENT_ZSTD_COMPRESSION_ALGORITHM.getValue()) && MySQLZstdCompressionAlgorithm.isAvailable()) {
+            return Optional.of(new MySQLZstdCompressionAlgorithm(zstdCompressionLevel));
+        }
+        return Optional.empty();
+    }
+    
+    private void enableCompression(final ChannelHandlerContext context, final MySQLCompressionAlgorithm compressionAlgorithm) {
+        String packetCodecName = context.pipeline().context(PacketCodec.class).name();
+        context.pipeline().addBefore(packetCodecName, MySQLCompressionHandler.class.getSimpleName(), new MySQLCompressionHandler(compressionAlgorithm));
+    }
 }
@@ -46,9 +46,11 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execu
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata.MySQLLoadDataExecutorFactory;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Command executor factory for MySQL.
@@ -81,7 +83,8 @@ public final class MySQLCommandExecutorFactory {
             case COM_FIELD_LIST:
                 return new MySQLComFieldListPacketExecutor((MySQLComFieldListPacket) commandPacket, connectionSession);
             case COM_QUERY:
-                return new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, connectionSession);
+                Optional<CommandExecutor> loadDataExecutor = MySQLLoadDataExecutorFactory.newInstance((MySQLComQueryPacket) commandPacket, connectionSession);
+                return loadDataExecutor.isPresent() ? loadDataExecutor.get() : new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, connectionSession);
             case COM_PING:
                 return new MySQLComPingExecutor(connectionSession);
             case COM_STMT_PREPARE:
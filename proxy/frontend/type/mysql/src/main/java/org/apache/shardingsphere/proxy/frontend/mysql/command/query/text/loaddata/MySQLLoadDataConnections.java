@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+
+/**
+ * MySQL load data connections.
+ * 
+ * <p>Load data runs on the connections held by current transaction, or on dedicated connections which are committed together after all load data operations are done.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLLoadDataConnections {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final Collection<String> usedDataSourceNames = new HashSet<>();
+    
+    private final Collection<Connection> dedicatedConnections = new LinkedList<>();
+    
+    /**
+     * Get connection of data source.
+     *
+     * @param dataSourceName data source name
+     * @return connection
+     * @throws SQLException SQL exception
+     */
+    public Connection getConnection(final String dataSourceName) throws SQLException {
+        if (connectionSession.getTransactionStatus().isInConnectionHeldTransaction()) {
+            ShardingSpherePreconditions.checkState(usedDataSourceNames.add(dataSourceName),
+                    () -> new UnsupportedSQLOperationException(String.format("LOAD DATA can not run on multiple tables of data source `%s` in transaction", dataSourceName)));
+            return connectionSession.getDatabaseConnectionManager().getConnections(dataSourceName, 0, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        }
+        Connection result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDefaultDatabaseName(), dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        dedicatedConnections.add(result);
+        result.setAutoCommit(false);
+        return result;
+    }
+    
+    /**
+     * Commit dedicated connections.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void commit() throws SQLException {
+        for (Connection each : dedicatedConnections) {
+            each.commit();
+        }
+    }
+    
+    /**
+     * Rollback and close dedicated connections.
+     *
+     * @return SQL exceptions occurred
+     */
+    public Collection<SQLException> close() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Connection each : dedicatedConnections) {
+            try {
+                if (!each.getAutoCommit()) {
+                    each.rollback();
+                }
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        dedicatedConnections.clear();
+        return result;
+    }
+}
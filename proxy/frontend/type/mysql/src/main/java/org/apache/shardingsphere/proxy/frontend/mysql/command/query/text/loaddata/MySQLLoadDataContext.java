@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * MySQL load data context, which streams rows of {@code LOAD DATA LOCAL INFILE} into load data operations of data nodes.
+ *
+ * <p>Once writing fails, the context is cancelled and keeps discarding file content until the end of file, the failure is reported then.</p>
+ *
+ * <p>Each data node loads on its own thread of the context, the threads are bounded by the data nodes of the table and released when the context is closed.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLLoadDataContext {
+    
+    private final MySQLLoadDataRowReader rowReader;
+    
+    private final Collection<DataNode> dataNodes;
+    
+    private final MySQLLoadDataRowRouter rowRouter;
+    
+    private final Function<String, String> sqlGenerator;
+    
+    private final MySQLLoadDataConnections connections;
+    
+    private final Map<DataNode, MySQLLoadDataTarget> targets = new LinkedHashMap<>();
+    
+    private ExecutorService loadExecutorService;
+    
+    @Getter
+    private long readRows;
+    
+    private Exception failure;
+    
+    private boolean closed;
+    
+    /**
+     * Write file content.
+     *
+     * @param data file content
+     */
+    public void write(final byte[] data) {
+        if (null != failure) {
+            return;
+        }
+        try {
+            rowReader.write(data);
+            writeRows();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+            cancel();
+        }
+    }
+    
+    private void writeRows() throws SQLException {
+        Optional<MySQLLoadDataRow> row;
+        while ((row = rowReader.read()).isPresent()) {
+            if (null == rowRouter) {
+                for (DataNode each : dataNodes) {
+                    getTarget(each).write(row.get().getData());
+                }
+            } else {
+                getTarget(rowRouter.route(row.get())).write(row.get().getData());
+            }
+            readRows++;
+        }
+    }
+    
+    private MySQLLoadDataTarget getTarget(final DataNode dataNode) throws SQLException {
+        MySQLLoadDataTarget result = targets.get(dataNode);
+        if (null == result) {
+            if (null == loadExecutorService) {
+                loadExecutorService = Executors.newFixedThreadPool(dataNodes.size(), ExecutorThreadFactoryBuilder.build("MySQL-Load-Data-%d"));
+            }
+            result = new MySQLLoadDataTarget(connections.getConnection(dataNode.getDataSourceName()).createStatement(), sqlGenerator.apply(dataNode.getTableName()), loadExecutorService);
+            targets.put(dataNode, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Finish load data.
+     *
+     * <p>Every row of a table without sharding is loaded into all data nodes, so only the affected rows of the first data node are counted.</p>
+     *
+     * @return affected rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        if (null != failure) {
+            throwFailure();
+        }
+        rowReader.markEndOfData();
+        writeRows();
+        long result = 0L;
+        boolean firstTarget = true;
+        for (MySQLLoadDataTarget each : targets.values()) {
+            long affectedRows = each.finish();
+            if (null != rowRouter || firstTarget) {
+                result += affectedRows;
+            }
+            firstTarget = false;
+        }
+        connections.commit();
+        close();
+        return result;
+    }
+    
+    private void throwFailure() throws SQLException {
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        throw (RuntimeException) failure;
+    }
+    
+    /**
+     * Cancel load data and close resources.
+     *
+     * @return SQL exceptions occurred
+     */
+    public Collection<SQLException> cancel() {
+        for (MySQLLoadDataTarget each : targets.values()) {
+            each.cancel();
+        }
+        return close();
+    }
+    
+    private Collection<SQLException> close() {
+        if (closed) {
+            return Collections.emptyList();
+        }
+        closed = true;
+        targets.clear();
+        if (null != loadExecutorService) {
+            loadExecutorService.shutdown();
+        }
+        rowReader.close();
+        return connections.close();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * MySQL load data context registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLLoadDataContextRegistry {
+    
+    private static final MySQLLoadDataContextRegistry INSTANCE = new MySQLLoadDataContextRegistry();
+    
+    private final ConcurrentMap<Integer, MySQLLoadDataContext> loadDataContexts = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of MySQL load data context registry.
+     *
+     * @return instance of MySQL load data context registry
+     */
+    public static MySQLLoadDataContextRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register MySQL load data context.
+     *
+     * @param connectionId connection id
+     * @param loadDataContext MySQL load data context
+     */
+    public void register(final int connectionId, final MySQLLoadDataContext loadDataContext) {
+        MySQLLoadDataContext previous = loadDataContexts.put(connectionId, loadDataContext);
+        if (null != previous) {
+            previous.cancel();
+        }
+    }
+    
+    /**
+     * Get MySQL load data context.
+     *
+     * @param connectionId connection id
+     * @return MySQL load data context, null if absent
+     */
+    public MySQLLoadDataContext get(final int connectionId) {
+        return loadDataContexts.get(connectionId);
+    }
+    
+    /**
+     * Remove MySQL load data context.
+     *
+     * @param connectionId connection id
+     * @return removed MySQL load data context, null if absent
+     */
+    public MySQLLoadDataContext remove(final int connectionId) {
+        return loadDataContexts.remove(connectionId);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.LoadDataStatementContext;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.UnknownColumnException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCharsetException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.infra.route.engine.BulkLoadRouteEngine;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL load data executor factory, which creates executor for {@code LOAD DATA LOCAL INFILE}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLLoadDataExecutorFactory {
+    
+    private static final String LOAD_KEYWORD = "LOAD";
+    
+    /**
+     * Create new instance of load data executor.
+     *
+     * @param packet command query packet
+     * @param connectionSession connection session
+     * @return created instance, empty if the SQL does not load local file into table
+     */
+    public static Optional<CommandExecutor> newInstance(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) {
+        String sql = packet.getSQL();
+        String databaseName = connectionSession.getDefaultDatabaseName();
+        if (!sql.trim().regionMatches(true, 0, LOAD_KEYWORD, 0, LOAD_KEYWORD.length()) || null == databaseName || !ProxyContext.getInstance().databaseExists(databaseName)) {
+            return Optional.empty();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        SQLStatement sqlStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType()).parse(sql, false);
+        if (!(sqlStatement instanceof MySQLLoadDataStatement)) {
+            return Optional.empty();
+        }
+        MySQLLoadDataStatement loadDataStatement = (MySQLLoadDataStatement) sqlStatement;
+        SimpleTableSegment tableSegment = loadDataStatement.getTableSegment();
+        Optional<MySQLLoadDataOptions> options = MySQLLoadDataOptions.parse(sql, tableSegment.getStartIndex(), tableSegment.getStopIndex());
+        if (!options.isPresent()) {
+            return Optional.empty();
+        }
+        ShardingSpherePreconditions.checkState(Boolean.TRUE.equals(connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CLIENT_LOCAL_FILES).get()),
+                () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE is not enabled by client"));
+        ShardingSpherePreconditions.checkState(!options.get().getFieldTerminator().isEmpty() && !options.get().getLineTerminator().isEmpty(),
+                () -> new UnsupportedSQLOperationException("LOAD DATA with empty FIELDS TERMINATED BY or LINES TERMINATED BY"));
+        String logicTableName = tableSegment.getTableName().getIdentifier().getValue();
+        BulkLoadRouteEngine routeEngine = new BulkLoadRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps());
+        routeEngine.check(logicTableName, options.get().getAssignedColumnNames());
+        ShardingSphereTable table = database.containsSchema(database.getName()) ? database.getSchema(database.getName()).getTable(logicTableName) : null;
+        ShardingSpherePreconditions.checkNotNull(table, () -> new NoSuchTableException(logicTableName));
+        List<ShardingSphereColumn> fieldColumns = getFieldColumns(table, options.get());
+        List<String> fieldColumnNames = fieldColumns.stream().map(each -> null == each ? null : each.getName()).collect(Collectors.toList());
+        Optional<BulkLoadRowRouter> bulkLoadRowRouter = routeEngine.route(logicTableName, fieldColumnNames, new LoadDataStatementContext(loadDataStatement), packet.getHintValueContext());
+        MySQLLoadDataRowRouter rowRouter = bulkLoadRowRouter.map(optional -> new MySQLLoadDataRowRouter(optional, fieldColumns)).orElse(null);
+        MySQLLoadDataRowReader rowReader = new MySQLLoadDataRowReader(options.get(), null == rowRouter ? Collections.emptyList() : rowRouter.getRoutingFieldIndexes(),
+                getCharset(connectionSession, options.get()));
+        MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(rowReader, getDataNodes(database, logicTableName), rowRouter,
+                actualTableName -> options.get().buildSQL(tableSegment.getTableName().getIdentifier().getQuoteCharacter().wrap(actualTableName)), new MySQLLoadDataConnections(connectionSession));
+        return Optional.of(new MySQLLoadDataExecutor(connectionSession, loadDataContext, options.get().getFileName()));
+    }
+    
+    private static List<ShardingSphereColumn> getFieldColumns(final ShardingSphereTable table, final MySQLLoadDataOptions options) {
+        if (options.getFieldNames().isEmpty()) {
+            return new ArrayList<>(table.getColumnValues());
+        }
+        List<ShardingSphereColumn> result = new ArrayList<>(options.getFieldNames().size());
+        for (String each : options.getFieldNames()) {
+            if (each.startsWith("@")) {
+                result.add(null);
+                continue;
+            }
+            ShardingSpherePreconditions.checkState(table.containsColumn(each), () -> new UnknownColumnException(each, "field list"));
+            result.add(table.getColumn(each));
+        }
+        return result;
+    }
+    
+    private static Charset getCharset(final ConnectionSession connectionSession, final MySQLLoadDataOptions options) {
+        if (null == options.getCharacterSetName()) {
+            return connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        }
+        String characterSetName = options.getCharacterSetName().toLowerCase(Locale.ROOT);
+        switch (characterSetName) {
+            case "utf8":
+            case "utf8mb3":
+            case "utf8mb4":
+                return StandardCharsets.UTF_8;
+            case "binary":
+                return StandardCharsets.ISO_8859_1;
+            default:
+                try {
+                    return Charset.forName(characterSetName);
+                } catch (final IllegalArgumentException ex) {
+                    throw new UnknownCharsetException(characterSetName);
+                }
+        }
+    }
+    
+    private static Collection<DataNode> getDataNodes(final ShardingSphereDatabase database, final String logicTableName) {
+        for (DataNodeContainedRule each : database.getRuleMetaData().findRules(DataNodeContainedRule.class)) {
+            Collection<DataNode> dataNodes = each.getDataNodesByTableName(logicTableName);
+            if (!dataNodes.isEmpty()) {
+                Collection<DataNode> result = new LinkedList<>();
+                for (DataNode dataNode : dataNodes) {
+                    ShardingSpherePreconditions.checkState(database.getResourceMetaData().getStorageUnits().containsKey(dataNode.getDataSourceName()),
+                            () -> new UnsupportedSQLOperationException(String.format("LOAD DATA can not run on logic data source `%s`", dataNode.getDataSourceName())));
+                    result.add(new DataNode(dataNode.getDataSourceName(), dataNode.getTableName()));
+                }
+                return result;
+            }
+        }
+        throw new NoSuchTableException(logicTableName);
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MySQL load data options of {@code LOAD DATA LOCAL INFILE}.
+ *
+ * @see <a href="https://dev.mysql.com/doc/refman/8.0/en/load-data.html">LOAD DATA Statement</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class MySQLLoadDataOptions {
+    
+    private final String fileName;
+    
+    private final String characterSetName;
+    
+    private final String fieldTerminator;
+    
+    private final String enclosure;
+    
+    private final String escape;
+    
+    private final String lineStarting;
+    
+    private final String lineTerminator;
+    
+    private final long ignoreLines;
+    
+    private final List<String> fieldNames;
+    
+    private final Collection<String> assignedColumnNames;
+    
+    private final String prefixClause;
+    
+    private final String suffixClause;
+    
+    /**
+     * Parse load data options of local file.
+     *
+     * @param sql SQL
+     * @param tableStartIndex start index of table name
+     * @param tableStopIndex stop index of table name
+     * @return load data options, empty if the statement does not load local file
+     */
+    public static Optional<MySQLLoadDataOptions> parse(final String sql, final int tableStartIndex, final int tableStopIndex) {
+        List<Token> prefixTokens = tokenize(sql, 0, tableStartIndex);
+        int index = 0;
+        boolean local = false;
+        while (index < prefixTokens.size() && !"INFILE".equalsIgnoreCase(prefixTokens.get(index).text)) {
+            local = local || "LOCAL".equalsIgnoreCase(prefixTokens.get(index).text);
+            index++;
+        }
+        if (!local || index + 1 >= prefixTokens.size()) {
+            return Optional.empty();
+        }
+        OptionsBuilder builder = new OptionsBuilder(sql, tableStopIndex + 1);
+        builder.parse(tokenize(sql, tableStopIndex + 1, sql.length()));
+        return Optional.of(builder.build(prefixTokens.get(index + 1).getStringValue(), sql.substring(0, tableStartIndex)));
+    }
+    
+    private static List<Token> tokenize(final String sql, final int startIndex, final int stopIndex) {
+        List<Token> result = new ArrayList<>();
+        int index = startIndex;
+        while (index < stopIndex) {
+            char each = sql.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index++;
+                continue;
+            }
+            int tokenStartIndex = index;
+            if ('(' == each || ')' == each || ',' == each || ';' == each || '=' == each) {
+                index++;
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                index = skipQuoted(sql, index, stopIndex, each);
+            } else {
+                while (index < stopIndex && !Character.isWhitespace(sql.charAt(index)) && "(),;='\"`".indexOf(sql.charAt(index)) < 0) {
+                    index++;
+                }
+            }
+            result.add(new Token(sql.substring(tokenStartIndex, index), tokenStartIndex, index));
+        }
+        return result;
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final int stopIndex, final char quote) {
+        int result = startIndex + 1;
+        while (result < stopIndex) {
+            char each = sql.charAt(result);
+            if ('\\' == each && '`' != quote) {
+                result += 2;
+                continue;
+            }
+            if (quote == each) {
+                if (result + 1 < stopIndex && quote == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result + 1;
+            }
+            result++;
+        }
+        return Math.min(result, stopIndex);
+    }
+    
+    /**
+     * Build load data SQL for actual table.
+     *
+     * @param actualTableName actual table name
+     * @return load data SQL
+     */
+    public String buildSQL(final String actualTableName) {
+        return prefixClause + actualTableName + suffixClause;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Token {
+        
+        private final String text;
+        
+        private final int startIndex;
+        
+        private final int stopIndex;
+        
+        private String getIdentifier() {
+            return text.startsWith("`") ? text.substring(1, text.length() - 1).replace("``", "`") : text;
+        }
+        
+        private String getStringValue() {
+            if (!text.startsWith("'") && !text.startsWith("\"")) {
+                return text;
+            }
+            char quote = text.charAt(0);
+            StringBuilder result = new StringBuilder(text.length());
+            int index = 1;
+            while (index < text.length() - 1) {
+                char each = text.charAt(index++);
+                if (quote == each) {
+                    index++;
+                    result.append(quote);
+                } else if ('\\' == each && index < text.length() - 1) {
+                    result.append(unescape(text.charAt(index++)));
+                } else {
+                    result.append(each);
+                }
+            }
+            return result.toString();
+        }
+        
+        private String unescape(final char escaped) {
+            switch (escaped) {
+                case '0':
+                    return "\0";
+                case 'b':
+                    return "\b";
+                case 'n':
+                    return "\n";
+                case 'r':
+                    return "\r";
+                case 't':
+                    return "\t";
+                case 'Z':
+                    return String.valueOf((char) 0x1A);
+                case '%':
+                case '_':
+                    return "\\" + escaped;
+                default:
+                    return String.valueOf(escaped);
+            }
+        }
+    }
+    
+    private static final class OptionsBuilder {
+        
+        private final String sql;
+        
+        private int suffixStartIndex;
+        
+        private String characterSetName;
+        
+        private String fieldTerminator = "\t";
+        
+        private String enclosure = "";
+        
+        private String escape = "\\";
+        
+        private String lineStarting = "";
+        
+        private String lineTerminator = "\n";
+        
+        private long ignoreLines;
+        
+        private final List<String> fieldNames = new LinkedList<>();
+        
+        private final Collection<String> assignedColumnNames = new LinkedList<>();
+        
+        private final StringBuilder suffixClause = new StringBuilder();
+        
+        private OptionsBuilder(final String sql, final int suffixStartIndex) {
+            this.sql = sql;
+            this.suffixStartIndex = suffixStartIndex;
+        }
+        
+        private void parse(final List<Token> tokens) {
+            int index = 0;
+            while (index < tokens.size() && !";".equals(tokens.get(index).text)) {
+                String keyword = tokens.get(index).text.toUpperCase();
+                if ("CHARACTER".equals(keyword) && index + 2 < tokens.size()) {
+                    characterSetName = tokens.get(index + 2).getStringValue();
+                    index += 3;
+                } else if ("FIELDS".equals(keyword) || "COLUMNS".equals(keyword)) {
+                    index = parseFieldsClause(tokens, index + 1);
+                } else if ("LINES".equals(keyword)) {
+                    index = parseLinesClause(tokens, index + 1);
+                } else if ("IGNORE".equals(keyword) && index + 2 < tokens.size()) {
+                    ignoreLines = Long.parseLong(tokens.get(index + 1).text);
+                    suffixClause.append(sql, suffixStartIndex, tokens.get(index).startIndex);
+                    suffixStartIndex = index + 3 < tokens.size() ? tokens.get(index + 3).startIndex : tokens.get(index + 2).stopIndex;
+                    index += 3;
+                } else if ("(".equals(keyword)) {
+                    index = parseFieldNames(tokens, index + 1);
+                } else if ("SET".equals(keyword)) {
+                    index = parseAssignments(tokens, index + 1);
+                } else {
+                    index++;
+                }
+            }
+            suffixClause.append(sql, suffixStartIndex, index < tokens.size() ? tokens.get(index).startIndex : sql.length());
+        }
+        
+        private int parseFieldsClause(final List<Token> tokens, final int startIndex) {
+            int result = startIndex;
+            while (result < tokens.size()) {
+                String keyword = tokens.get(result).text.toUpperCase();
+                if ("OPTIONALLY".equals(keyword)) {
+                    result++;
+                } else if ("TERMINATED".equals(keyword) && result + 2 < tokens.size()) {
+                    fieldTerminator = tokens.get(result + 2).getStringValue();
+                    result += 3;
+                } else if ("ENCLOSED".equals(keyword) && result + 2 < tokens.size()) {
+                    enclosure = tokens.get(result + 2).getStringValue();
+                    result += 3;
+                } else if ("ESCAPED".equals(keyword) && result + 2 < tokens.size()) {
+                    escape = tokens.get(result + 2).getStringValue();
+                    result += 3;
+                } else {
+                    return result;
+                }
+            }
+            return result;
+        }
+        
+        private int parseLinesClause(final List<Token> tokens, final int startIndex) {
+            int result = startIndex;
+            while (result + 2 < tokens.size()) {
+                String keyword = tokens.get(result).text.toUpperCase();
+                if ("STARTING".equals(keyword)) {
+                    lineStarting = tokens.get(result + 2).getStringValue();
+                } else if ("TERMINATED".equals(keyword)) {
+                    lineTerminator = tokens.get(result + 2).getStringValue();
+                } else {
+                    return result;
+                }
+                result += 3;
+            }
+            return result;
+        }
+        
+        private int parseFieldNames(final List<Token> tokens, final int startIndex) {
+            int result = startIndex;
+            while (result < tokens.size() && !")".equals(tokens.get(result).text)) {
+                if (!",".equals(tokens.get(result).text)) {
+                    fieldNames.add(tokens.get(result).getIdentifier());
+                }
+                result++;
+            }
+            return result + 1;
+        }
+        
+        private int parseAssignments(final List<Token> tokens, final int startIndex) {
+            int result = startIndex;
+            int depth = 0;
+            boolean assignmentStart = true;
+            while (result < tokens.size() && !";".equals(tokens.get(result).text)) {
+                String text = tokens.get(result).text;
+                if (assignmentStart) {
+                    String columnName = tokens.get(result).getIdentifier();
+                    assignedColumnNames.add(columnName.substring(columnName.lastIndexOf('.') + 1));
+                }
+                depth += "(".equals(text) ? 1 : ")".equals(text) ? -1 : 0;
+                assignmentStart = 0 == depth && ",".equals(text);
+                result++;
+            }
+            return result;
+        }
+        
+        private MySQLLoadDataOptions build(final String fileName, final String prefixClause) {
+            return new MySQLLoadDataOptions(fileName, characterSetName, fieldTerminator, enclosure.isEmpty() ? "" : enclosure.substring(0, 1), escape.isEmpty() ? "" : escape.substring(0, 1),
+                    lineStarting, lineTerminator, ignoreLines, Collections.unmodifiableList(new ArrayList<>(fieldNames)), Collections.unmodifiableCollection(assignedColumnNames),
+                    prefixClause, suffixClause.toString());
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MySQL load data row reader, which splits file content into rows incrementally.
+ *
+ * <p>Every row is forwarded as line starting prefix, raw content and line terminator, so that backend parses it in the same way as the client file.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/refman/8.0/en/load-data.html#load-data-field-line-handling">Field and Line Handling</a>
+ */
+public final class MySQLLoadDataRowReader {
+    
+    private static final byte[] NULL_WORD = {'N', 'U', 'L', 'L'};
+    
+    private final byte[] fieldTerminator;
+    
+    private final byte[] lineStarting;
+    
+    private final byte[] lineTerminator;
+    
+    private final boolean enclosed;
+    
+    private final byte enclosure;
+    
+    private final boolean escaped;
+    
+    private final byte escape;
+    
+    private final Collection<Integer> fieldIndexes;
+    
+    private final Charset charset;
+    
+    private final ByteBuf cumulation = Unpooled.buffer();
+    
+    private long remainingIgnoreLines;
+    
+    private boolean endOfData;
+    
+    public MySQLLoadDataRowReader(final MySQLLoadDataOptions options, final Collection<Integer> fieldIndexes, final Charset charset) {
+        fieldTerminator = options.getFieldTerminator().getBytes(charset);
+        lineStarting = options.getLineStarting().getBytes(charset);
+        lineTerminator = options.getLineTerminator().getBytes(charset);
+        enclosed = !options.getEnclosure().isEmpty();
+        enclosure = enclosed ? options.getEnclosure().getBytes(charset)[0] : 0;
+        escaped = !options.getEscape().isEmpty();
+        escape = escaped ? options.getEscape().getBytes(charset)[0] : 0;
+        remainingIgnoreLines = options.getIgnoreLines();
+        this.fieldIndexes = fieldIndexes;
+        this.charset = charset;
+    }
+    
+    /**
+     * Write file content.
+     *
+     * @param data file content
+     */
+    public void write(final byte[] data) {
+        cumulation.writeBytes(data);
+    }
+    
+    /**
+     * Mark end of file content, the remaining bytes will be read as the last row.
+     */
+    public void markEndOfData() {
+        endOfData = true;
+    }
+    
+    /**
+     * Read next complete row.
+     *
+     * @return row, empty if there is no complete row
+     */
+    public Optional<MySQLLoadDataRow> read() {
+        while (remainingIgnoreLines > 0) {
+            int contentEndIndex = findContentEndIndex(cumulation.readerIndex());
+            if (contentEndIndex < 0) {
+                return Optional.empty();
+            }
+            cumulation.readerIndex(Math.min(contentEndIndex + lineTerminator.length, cumulation.writerIndex()));
+            remainingIgnoreLines--;
+        }
+        Optional<MySQLLoadDataRow> result = readRow();
+        cumulation.discardSomeReadBytes();
+        return result;
+    }
+    
+    private Optional<MySQLLoadDataRow> readRow() {
+        int startIndex = findLineStartingIndex();
+        if (startIndex < 0) {
+            return Optional.empty();
+        }
+        int contentStartIndex = startIndex + lineStarting.length;
+        int contentEndIndex = findContentEndIndex(contentStartIndex);
+        if (contentEndIndex < 0) {
+            return Optional.empty();
+        }
+        int rowEndIndex = Math.min(contentEndIndex + lineTerminator.length, cumulation.writerIndex());
+        byte[] data;
+        if (rowEndIndex - contentEndIndex == lineTerminator.length) {
+            data = ByteBufUtil.getBytes(cumulation, startIndex, rowEndIndex - startIndex);
+        } else {
+            data = new byte[contentEndIndex - startIndex + lineTerminator.length];
+            cumulation.getBytes(startIndex, data, 0, contentEndIndex - startIndex);
+            System.arraycopy(lineTerminator, 0, data, contentEndIndex - startIndex, lineTerminator.length);
+        }
+        cumulation.readerIndex(rowEndIndex);
+        return Optional.of(new MySQLLoadDataRow(data, parseFields(data, contentStartIndex - startIndex, contentEndIndex - startIndex)));
+    }
+    
+    private int findLineStartingIndex() {
+        int readerIndex = cumulation.readerIndex();
+        if (0 == lineStarting.length) {
+            return cumulation.isReadable() ? readerIndex : -1;
+        }
+        int writerIndex = cumulation.writerIndex();
+        int index = readerIndex;
+        while (index + lineStarting.length <= writerIndex) {
+            if (matches(cumulation, index, writerIndex, lineStarting)) {
+                return index;
+            }
+            index++;
+        }
+        cumulation.readerIndex(endOfData ? writerIndex : Math.max(readerIndex, writerIndex - lineStarting.length + 1));
+        return -1;
+    }
+    
+    private int findContentEndIndex(final int startIndex) {
+        int writerIndex = cumulation.writerIndex();
+        boolean fieldStart = true;
+        boolean inEnclosure = false;
+        int index = startIndex;
+        while (index < writerIndex) {
+            byte each = cumulation.getByte(index);
+            if (escaped && escape == each) {
+                index += 2;
+                fieldStart = false;
+            } else if (inEnclosure) {
+                if (enclosure == each && index + 1 < writerIndex && enclosure == cumulation.getByte(index + 1)) {
+                    index++;
+                } else if (enclosure == each) {
+                    inEnclosure = !isFieldEnd(cumulation, index + 1, writerIndex);
+                }
+                index++;
+            } else if (fieldStart && enclosed && enclosure == each) {
+                inEnclosure = true;
+                fieldStart = false;
+                index++;
+            } else if (matches(cumulation, index, writerIndex, lineTerminator)) {
+                return index;
+            } else if (matches(cumulation, index, writerIndex, fieldTerminator)) {
+                index += fieldTerminator.length;
+                fieldStart = true;
+            } else {
+                index++;
+                fieldStart = false;
+            }
+        }
+        return endOfData && writerIndex > startIndex ? writerIndex : -1;
+    }
+    
+    private boolean isFieldEnd(final ByteBuf byteBuf, final int index, final int endIndex) {
+        return index == endIndex || matches(byteBuf, index, endIndex, fieldTerminator) || matches(byteBuf, index, endIndex, lineTerminator);
+    }
+    
+    private boolean matches(final ByteBuf byteBuf, final int index, final int endIndex, final byte[] expected) {
+        if (0 == expected.length || index + expected.length > endIndex) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != byteBuf.getByte(index + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Map<Integer, String> parseFields(final byte[] data, final int startIndex, final int endIndex) {
+        Map<Integer, String> result = new HashMap<>(fieldIndexes.size(), 1F);
+        ByteBuf row = Unpooled.wrappedBuffer(data);
+        int fieldIndex = 0;
+        int index = startIndex;
+        while (true) {
+            ByteArrayOutputStream value = fieldIndexes.contains(fieldIndex) ? new ByteArrayOutputStream() : null;
+            boolean enclosedField = enclosed && index < endIndex && enclosure == data[index];
+            boolean nullValue = false;
+            if (enclosedField) {
+                index = readEnclosedField(row, index + 1, endIndex, value);
+            } else {
+                int fieldStartIndex = index;
+                index = readField(row, index, endIndex, value);
+                nullValue = isNullField(data, fieldStartIndex, index);
+            }
+            if (null != value) {
+                result.put(fieldIndex, nullValue ? null : new String(value.toByteArray(), charset));
+            }
+            if (index >= endIndex) {
+                return result;
+            }
+            index += fieldTerminator.length;
+            fieldIndex++;
+        }
+    }
+    
+    private int readEnclosedField(final ByteBuf row, final int startIndex, final int endIndex, final ByteArrayOutputStream value) {
+        int result = startIndex;
+        while (result < endIndex) {
+            byte each = row.getByte(result);
+            if (escaped && escape == each && result + 1 < endIndex) {
+                writeFieldValue(value, unescape(row.getByte(result + 1)));
+                result += 2;
+            } else if (enclosure == each && result + 1 < endIndex && enclosure == row.getByte(result + 1)) {
+                writeFieldValue(value, each);
+                result += 2;
+            } else if (enclosure == each && isFieldEnd(row, result + 1, endIndex)) {
+                return result + 1;
+            } else {
+                writeFieldValue(value, each);
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private int readField(final ByteBuf row, final int startIndex, final int endIndex, final ByteArrayOutputStream value) {
+        int result = startIndex;
+        while (result < endIndex && !matches(row, result, endIndex, fieldTerminator)) {
+            byte each = row.getByte(result);
+            if (escaped && escape == each && result + 1 < endIndex) {
+                writeFieldValue(value, unescape(row.getByte(result + 1)));
+                result += 2;
+            } else {
+                writeFieldValue(value, each);
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private void writeFieldValue(final ByteArrayOutputStream value, final byte data) {
+        if (null != value) {
+            value.write(data);
+        }
+    }
+    
+    private boolean isNullField(final byte[] data, final int startIndex, final int endIndex) {
+        if (escaped && 2 == endIndex - startIndex && escape == data[startIndex] && 'N' == data[startIndex + 1]) {
+            return true;
+        }
+        if ((enclosed || !escaped) && NULL_WORD.length == endIndex - startIndex) {
+            for (int i = 0; i < NULL_WORD.length; i++) {
+                if (NULL_WORD[i] != data[startIndex + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+    
+    private byte unescape(final byte value) {
+        switch (value) {
+            case '0':
+                return 0;
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return 0x1A;
+            default:
+                return value;
+        }
+    }
+    
+    /**
+     * Close reader.
+     */
+    public void close() {
+        cumulation.release();
+    }
+}
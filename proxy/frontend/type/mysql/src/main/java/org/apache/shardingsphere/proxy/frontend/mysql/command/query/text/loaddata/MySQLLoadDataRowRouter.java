@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL load data row router, which converts values of routing fields by column types and routes every row of local file by the bulk load row router of kernel.
+ */
+public final class MySQLLoadDataRowRouter {
+    
+    private static final int MAX_CACHED_ROUTE_RESULTS = 4096;
+    
+    private final BulkLoadRowRouter rowRouter;
+    
+    private final List<ShardingSphereColumn> fieldColumns;
+    
+    private final Map<List<Comparable<?>>, DataNode> cachedRouteResults = new HashMap<>();
+    
+    public MySQLLoadDataRowRouter(final BulkLoadRowRouter rowRouter, final List<ShardingSphereColumn> fieldColumns) {
+        this.rowRouter = rowRouter;
+        this.fieldColumns = fieldColumns;
+    }
+    
+    /**
+     * Get indexes of routing fields.
+     *
+     * @return indexes of routing fields
+     */
+    public Collection<Integer> getRoutingFieldIndexes() {
+        return rowRouter.getRoutingFieldIndexes();
+    }
+    
+    /**
+     * Route load data row.
+     *
+     * @param row load data row
+     * @return routed data node
+     */
+    public DataNode route(final MySQLLoadDataRow row) {
+        List<Comparable<?>> routingValues = new ArrayList<>(rowRouter.getRoutingFieldIndexes().size());
+        for (Integer each : rowRouter.getRoutingFieldIndexes()) {
+            routingValues.add(convert(fieldColumns.get(each), row.getFieldValues().get(each)));
+        }
+        DataNode result = cachedRouteResults.get(routingValues);
+        if (null != result) {
+            return result;
+        }
+        result = rowRouter.route(routingValues);
+        if (cachedRouteResults.size() >= MAX_CACHED_ROUTE_RESULTS) {
+            cachedRouteResults.clear();
+        }
+        cachedRouteResults.put(routingValues, result);
+        return result;
+    }
+    
+    private Comparable<?> convert(final ShardingSphereColumn column, final String value) {
+        if (null == value) {
+            return null;
+        }
+        switch (column.getDataType()) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.parseInt(value.trim());
+            case Types.BIGINT:
+                return Long.parseLong(value.trim());
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value.trim());
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.parseDouble(value.trim());
+            case Types.DATE:
+                return Date.valueOf(value.trim());
+            case Types.TIME:
+                return Time.valueOf(value.trim());
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value.trim());
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return value;
+            default:
+                throw new UnsupportedSQLOperationException(String.format("LOAD DATA can not route by column `%s` with data type `%d`", column.getName(), column.getDataType()));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * MySQL load data target, which streams rows of one data node into backend {@code LOAD DATA LOCAL INFILE}.
+ *
+ * <p>Rows are buffered into chunks and handed over to the backend statement through a bounded queue,
+ * the statement reads them as local file by the input stream hook of MySQL Connector/J, which is accessed by reflection.</p>
+ */
+public final class MySQLLoadDataTarget {
+    
+    private static final int CHUNK_SIZE = 64 * 1024;
+    
+    private static final int MAX_QUEUED_CHUNKS = 16;
+    
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    
+    private static final byte[] END_OF_DATA = new byte[0];
+    
+    private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(MAX_QUEUED_CHUNKS);
+    
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+    
+    private final Future<Long> loadFuture;
+    
+    private int position;
+    
+    private volatile boolean cancelled;
+    
+    public MySQLLoadDataTarget(final Statement statement, final String sql, final ExecutorService loadExecutorService) throws SQLException {
+        setLocalInfileInputStream(statement, new ChunkInputStream());
+        loadFuture = loadExecutorService.submit(() -> load(statement, sql));
+    }
+    
+    private static void setLocalInfileInputStream(final Statement statement, final InputStream inputStream) throws SQLException {
+        Class<? extends Statement> statementClass = getJDBCStatementClass();
+        try {
+            statementClass.getMethod("setLocalInfileInputStream", InputStream.class).invoke(statement.unwrap(statementClass), inputStream);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            throw new SQLException("Can not set local infile input stream of MySQL statement.", ex);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Statement> getJDBCStatementClass() throws SQLException {
+        try {
+            return (Class<? extends Statement>) Class.forName("com.mysql.cj.jdbc.JdbcStatement");
+        } catch (final ClassNotFoundException ignored) {
+            try {
+                return (Class<? extends Statement>) Class.forName("com.mysql.jdbc.Statement");
+            } catch (final ClassNotFoundException ex) {
+                throw new SQLException("LOAD DATA LOCAL INFILE requires MySQL Connector/J.", ex);
+            }
+        }
+    }
+    
+    private long load(final Statement statement, final String sql) throws SQLException {
+        try {
+            statement.execute(sql);
+            return statement.getUpdateCount();
+        } finally {
+            statement.close();
+        }
+    }
+    
+    /**
+     * Write row data.
+     *
+     * @param data row data
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        if (data.length > buffer.length - position) {
+            flush();
+        }
+        if (data.length >= buffer.length) {
+            put(data);
+            return;
+        }
+        System.arraycopy(data, 0, buffer, position, data.length);
+        position += data.length;
+    }
+    
+    private void flush() throws SQLException {
+        if (position > 0) {
+            put(Arrays.copyOf(buffer, position));
+            position = 0;
+        }
+    }
+    
+    private void put(final byte[] chunk) throws SQLException {
+        try {
+            while (!chunks.offer(chunk, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (loadFuture.isDone()) {
+                    awaitLoad();
+                    throw new SQLException("Backend LOAD DATA terminated before all data was sent.");
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Finish load data.
+     *
+     * @return affected rows of backend
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        flush();
+        put(END_OF_DATA);
+        return awaitLoad();
+    }
+    
+    private long awaitLoad() throws SQLException {
+        try {
+            return loadFuture.get();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Cancel load data and wait for backend statement to be terminated.
+     */
+    public void cancel() {
+        cancelled = true;
+        while (!loadFuture.isDone()) {
+            chunks.clear();
+            chunks.offer(END_OF_DATA);
+            try {
+                loadFuture.get(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final TimeoutException | ExecutionException ignored) {
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    private final class ChunkInputStream extends InputStream {
+        
+        private byte[] current = new byte[0];
+        
+        private int offset;
+        
+        @Override
+        public int read() throws IOException {
+            byte[] result = new byte[1];
+            return -1 == read(result, 0, 1) ? -1 : result[0] & 0xFF;
+        }
+        
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) throws IOException {
+            if (cancelled) {
+                throw new IOException("LOAD DATA is cancelled.");
+            }
+            if (0 == len) {
+                return 0;
+            }
+            while (offset == current.length) {
+                if (END_OF_DATA == current) {
+                    return -1;
+                }
+                current = takeChunk();
+                offset = 0;
+            }
+            int result = Math.min(len, current.length - offset);
+            System.arraycopy(current, offset, bytes, off, result);
+            offset += result;
+            return result;
+        }
+        
+        private byte[] takeChunk() throws IOException {
+            try {
+                return chunks.take();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+}
@@ -17,17 +17,23 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLEncodedTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
@@ -120,7 +126,25 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        return proxyBackendHandler instanceof DatabaseConnector
+                ? createEncodedRowPacket((DatabaseConnector) proxyBackendHandler)
+                : new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+    }
+    
+    private MySQLPacket createEncodedRowPacket(final DatabaseConnector databaseConnector) throws SQLException {
+        ByteBuf encodedValues = PooledByteBufAllocator.DEFAULT.directBuffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(encodedValues, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        try {
+            for (int columnIndex = 1; columnIndex <= databaseConnector.getQueryColumnCount(); columnIndex++) {
+                MySQLTextResultSetRowPacket.writeValue(payload, databaseConnector.getRowValue(columnIndex));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            encodedValues.release();
+            throw ex;
+        }
+        return new MySQLEncodedTextResultSetRowPacket(encodedValues);
     }
     
     @Override
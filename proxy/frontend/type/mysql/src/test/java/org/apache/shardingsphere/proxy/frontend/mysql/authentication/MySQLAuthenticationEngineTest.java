@@ -25,10 +25,12 @@ import io.netty.util.Attribute;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.netty.MySQLCompressionHandler;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
@@ -149,6 +151,7 @@ class MySQLAuthenticationEngineTest {
         when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
         when(channel.attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
         when(channel.attr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS)).thenReturn(mock(Attribute.class));
+        when(channel.attr(MySQLConstants.MYSQL_CLIENT_LOCAL_FILES)).thenReturn(mock(Attribute.class));
         when(channelHandlerContext.channel()).thenReturn(channel);
         when(payload.readInt1()).thenReturn(1);
         when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
@@ -285,6 +288,28 @@ class MySQLAuthenticationEngineTest {
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
     }
     
+    @Test
+    void assertAuthenticateSuccessWithCompression() {
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        AuthorityRule rule = mock(AuthorityRule.class);
+        when(rule.getAuthenticatorType(any())).thenReturn("");
+        ShardingSphereUser user = new ShardingSphereUser("root", "", "127.0.0.1");
+        when(rule.findUser(user.getGrantee())).thenReturn(Optional.of(user));
+        ChannelHandlerContext context = mockChannelHandlerContext();
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        ChannelHandlerContext packetCodecContext = mock(ChannelHandlerContext.class);
+        when(packetCodecContext.name()).thenReturn("PacketCodec#0");
+        when(pipeline.context(PacketCodec.class)).thenReturn(packetCodecContext);
+        when(context.pipeline()).thenReturn(pipeline);
+        ContextManager contextManager = mockContextManager(rule);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        MySQLPacketPayload payload = getPayload("root", null, authResponse);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB, MySQLCapabilityFlag.CLIENT_COMPRESS));
+        authenticationEngine.authenticate(context, payload);
+        verify(context).writeAndFlush(any(MySQLOKPacket.class));
+        verify(pipeline).addBefore(eq("PacketCodec#0"), eq(MySQLCompressionHandler.class.getSimpleName()), any(MySQLCompressionHandler.class));
+    }
+    
     private ContextManager mockContextManager(final AuthorityRule rule) {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
@@ -323,6 +348,7 @@ class MySQLAuthenticationEngineTest {
         when(result.attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
         when(result.attr(MySQLConstants.MYSQL_SEQUENCE_ID)).thenReturn(mock(Attribute.class));
         when(result.attr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS)).thenReturn(mock(Attribute.class));
+        when(result.attr(MySQLConstants.MYSQL_CLIENT_LOCAL_FILES)).thenReturn(mock(Attribute.class));
         return result;
     }
     
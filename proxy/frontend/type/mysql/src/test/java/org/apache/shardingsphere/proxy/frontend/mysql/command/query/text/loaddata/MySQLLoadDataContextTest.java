@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLLoadDataContextTest {
+    
+    private static final String SQL = "LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_config";
+    
+    @Mock
+    private MySQLLoadDataConnections connections;
+    
+    @Test
+    void assertWriteBroadcastRowsAndFinish() throws SQLException {
+        final ByteArrayOutputStream loaded0 = mockLoad("ds_0", 2);
+        final ByteArrayOutputStream loaded1 = mockLoad("ds_1", 2);
+        MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(createRowReader(), Arrays.asList(new DataNode("ds_0", "t_config"), new DataNode("ds_1", "t_config")),
+                null, actualTableName -> "LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE " + actualTableName, connections);
+        loadDataContext.write("1\tfoo\n2\t".getBytes(StandardCharsets.UTF_8));
+        loadDataContext.write("bar".getBytes(StandardCharsets.UTF_8));
+        assertThat(loadDataContext.finish(), is(2L));
+        assertThat(loadDataContext.getReadRows(), is(2L));
+        assertThat(loaded0.toByteArray(), is("1\tfoo\n2\tbar\n".getBytes(StandardCharsets.UTF_8)));
+        assertThat(loaded1.toByteArray(), is("1\tfoo\n2\tbar\n".getBytes(StandardCharsets.UTF_8)));
+        verify(connections).commit();
+        verify(connections).close();
+    }
+    
+    @Test
+    void assertFinishBroadcastRowsCountedOnce() throws SQLException {
+        mockLoad("ds_0", 1);
+        mockLoad("ds_1", 2);
+        MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(createRowReader(), Arrays.asList(new DataNode("ds_0", "t_config"), new DataNode("ds_1", "t_config")),
+                null, actualTableName -> "LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE " + actualTableName, connections);
+        loadDataContext.write("1\tfoo\n2\tbar\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(loadDataContext.finish(), is(1L));
+        assertThat(loadDataContext.getReadRows(), is(2L));
+    }
+    
+    @Test
+    void assertFinishAfterWriteFailed() throws SQLException {
+        SQLException expected = new SQLException("Connection refused.");
+        when(connections.getConnection("ds_0")).thenThrow(expected);
+        when(connections.close()).thenReturn(Collections.emptyList());
+        MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(createRowReader(), Collections.singleton(new DataNode("ds_0", "t_config")),
+                null, actualTableName -> "LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE " + actualTableName, connections);
+        loadDataContext.write("1\tfoo\n".getBytes(StandardCharsets.UTF_8));
+        loadDataContext.write("2\tbar\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(assertThrows(SQLException.class, loadDataContext::finish), is(expected));
+        verify(connections).close();
+        verify(connections, never()).commit();
+    }
+    
+    private MySQLLoadDataRowReader createRowReader() {
+        return new MySQLLoadDataRowReader(MySQLLoadDataOptions.parse(SQL, 42, 49).orElseThrow(IllegalStateException::new), Collections.emptySet(), StandardCharsets.UTF_8);
+    }
+    
+    private ByteArrayOutputStream mockLoad(final String dataSourceName, final int updateCount) throws SQLException {
+        Connection connection = mock(Connection.class);
+        JdbcStatement statement = mock(JdbcStatement.class);
+        when(connections.getConnection(dataSourceName)).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(statement);
+        AtomicReference<InputStream> inputStream = new AtomicReference<>();
+        doAnswer(invocation -> {
+            inputStream.set(invocation.getArgument(0));
+            return null;
+        }).when(statement).setLocalInfileInputStream(any());
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        when(statement.execute("LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_config")).thenAnswer(invocation -> {
+            byte[] buffer = new byte[16];
+            int length;
+            while (-1 != (length = inputStream.get().read(buffer, 0, buffer.length))) {
+                result.write(buffer, 0, length);
+            }
+            return false;
+        });
+        when(statement.getUpdateCount()).thenReturn(updateCount);
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLLoadDataOptionsTest {
+    
+    @Test
+    void assertParseWithDefaultOptions() {
+        MySQLLoadDataOptions actual = parse("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order");
+        assertThat(actual.getFileName(), is("/tmp/t_order.txt"));
+        assertThat(actual.getFieldTerminator(), is("\t"));
+        assertThat(actual.getEnclosure(), is(""));
+        assertThat(actual.getEscape(), is("\\"));
+        assertThat(actual.getLineStarting(), is(""));
+        assertThat(actual.getLineTerminator(), is("\n"));
+        assertThat(actual.getIgnoreLines(), is(0L));
+        assertThat(actual.getFieldNames(), is(Collections.emptyList()));
+        assertThat(actual.buildSQL("t_order_0"), is("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order_0"));
+    }
+    
+    @Test
+    void assertParseWithAllOptions() {
+        MySQLLoadDataOptions actual = parse("LOAD DATA LOW_PRIORITY LOCAL INFILE 'C:\\\\data\\\\t_order.csv' REPLACE INTO TABLE t_order CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES STARTING BY 'xxx' TERMINATED BY '\\r\\n' IGNORE 1 LINES "
+                + "(order_id, `user_id`, @status) SET status = UPPER(@status), remark = CONCAT(@status, ','), t_order.create_time = NOW();");
+        assertThat(actual.getFileName(), is("C:\\data\\t_order.csv"));
+        assertThat(actual.getCharacterSetName(), is("utf8mb4"));
+        assertThat(actual.getFieldTerminator(), is(","));
+        assertThat(actual.getEnclosure(), is("\""));
+        assertThat(actual.getEscape(), is("\\"));
+        assertThat(actual.getLineStarting(), is("xxx"));
+        assertThat(actual.getLineTerminator(), is("\r\n"));
+        assertThat(actual.getIgnoreLines(), is(1L));
+        assertThat(actual.getFieldNames(), is(Arrays.asList("order_id", "user_id", "@status")));
+        assertThat(new ArrayList<>(actual.getAssignedColumnNames()), is(Arrays.asList("status", "remark", "create_time")));
+        assertThat(actual.buildSQL("`t_order_1`"), is("LOAD DATA LOW_PRIORITY LOCAL INFILE 'C:\\\\data\\\\t_order.csv' REPLACE INTO TABLE `t_order_1` CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES STARTING BY 'xxx' TERMINATED BY '\\r\\n' "
+                + "(order_id, `user_id`, @status) SET status = UPPER(@status), remark = CONCAT(@status, ','), t_order.create_time = NOW()"));
+    }
+    
+    @Test
+    void assertParseWithEmptyEscapeAndEnclosure() {
+        MySQLLoadDataOptions actual = parse("LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_order COLUMNS TERMINATED BY '|' ENCLOSED BY '' ESCAPED BY ''");
+        assertThat(actual.getFieldTerminator(), is("|"));
+        assertThat(actual.getEnclosure(), is(""));
+        assertThat(actual.getEscape(), is(""));
+    }
+    
+    @Test
+    void assertParseServerFile() {
+        String sql = "LOAD DATA INFILE '/tmp/t_order.txt' INTO TABLE t_order";
+        assertThat(MySQLLoadDataOptions.parse(sql, sql.indexOf("t_order "), sql.indexOf("t_order ") + 6), is(Optional.empty()));
+    }
+    
+    private MySQLLoadDataOptions parse(final String sql) {
+        int tableStartIndex = sql.indexOf("TABLE ") + 6;
+        int tableStopIndex = sql.indexOf(' ', tableStartIndex) < 0 ? sql.length() - 1 : sql.indexOf(' ', tableStartIndex) - 1;
+        return MySQLLoadDataOptions.parse(sql, tableStartIndex, tableStopIndex).orElseThrow(IllegalStateException::new);
+    }
+}
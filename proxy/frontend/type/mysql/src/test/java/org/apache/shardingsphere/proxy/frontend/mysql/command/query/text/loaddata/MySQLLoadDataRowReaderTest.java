@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class MySQLLoadDataRowReaderTest {
+    
+    @Test
+    void assertReadRowsAcrossWrites() {
+        MySQLLoadDataRowReader reader = createReader("", Arrays.asList(0, 2));
+        reader.write(bytes("1\tfoo\t10\n2\tb"));
+        MySQLLoadDataRow actual = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getData(), is(bytes("1\tfoo\t10\n")));
+        assertThat(actual.getFieldValues().get(0), is("1"));
+        assertThat(actual.getFieldValues().get(2), is("10"));
+        assertFalse(actual.getFieldValues().containsKey(1));
+        assertFalse(reader.read().isPresent());
+        reader.write(bytes("ar\t20\n"));
+        assertThat(reader.read().orElseThrow(IllegalStateException::new).getFieldValues().get(2), is("20"));
+        reader.close();
+    }
+    
+    @Test
+    void assertReadEscapedAndNullFields() {
+        MySQLLoadDataRowReader reader = createReader("", Arrays.asList(0, 1));
+        reader.write(bytes("a\\\tb\\nc\t\\N\n"));
+        MySQLLoadDataRow actual = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getFieldValues().get(0), is("a\tb\nc"));
+        assertThat(actual.getFieldValues().get(1), nullValue());
+        reader.close();
+    }
+    
+    @Test
+    void assertReadEnclosedFields() {
+        MySQLLoadDataRowReader reader = createReader(" FIELDS TERMINATED BY ',' ENCLOSED BY '\"' LINES TERMINATED BY '\\r\\n'", Arrays.asList(0, 1, 2));
+        reader.write(bytes("\"1,\r\n\"\"x\"\"\",NULL,\"NULL\"\r\n"));
+        MySQLLoadDataRow actual = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getData(), is(bytes("\"1,\r\n\"\"x\"\"\",NULL,\"NULL\"\r\n")));
+        assertThat(actual.getFieldValues().get(0), is("1,\r\n\"x\""));
+        assertThat(actual.getFieldValues().get(1), nullValue());
+        assertThat(actual.getFieldValues().get(2), is("NULL"));
+        reader.close();
+    }
+    
+    @Test
+    void assertReadWithIgnoreLinesAndLineStarting() {
+        MySQLLoadDataRowReader reader = createReader(" FIELDS TERMINATED BY ',' LINES STARTING BY 'xxx' IGNORE 1 LINES", Arrays.asList(0, 1));
+        reader.write(bytes("xxxid,name\nxxx1,foo\nsomething xxx2,bar\n3,baz\n"));
+        MySQLLoadDataRow first = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(first.getData(), is(bytes("xxx1,foo\n")));
+        assertThat(first.getFieldValues().get(0), is("1"));
+        MySQLLoadDataRow second = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(second.getData(), is(bytes("xxx2,bar\n")));
+        assertThat(second.getFieldValues().get(1), is("bar"));
+        reader.markEndOfData();
+        assertThat(reader.read(), is(Optional.empty()));
+        reader.close();
+    }
+    
+    @Test
+    void assertReadUnterminatedLastRow() {
+        MySQLLoadDataRowReader reader = createReader("", Arrays.asList(0, 1));
+        reader.write(bytes("1\tfoo"));
+        assertFalse(reader.read().isPresent());
+        reader.markEndOfData();
+        MySQLLoadDataRow actual = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getData(), is(bytes("1\tfoo\n")));
+        assertThat(actual.getFieldValues().get(1), is("foo"));
+        assertFalse(reader.read().isPresent());
+        reader.close();
+    }
+    
+    private MySQLLoadDataRowReader createReader(final String optionsClause, final Collection<Integer> fieldIndexes) {
+        String sql = "LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_order" + optionsClause;
+        MySQLLoadDataOptions options = MySQLLoadDataOptions.parse(sql, 42, 48).orElseThrow(IllegalStateException::new);
+        return new MySQLLoadDataRowReader(options, fieldIndexes, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLLoadDataRowRouterTest {
+    
+    private final List<ShardingSphereColumn> fieldColumns = Arrays.asList(null, new ShardingSphereColumn("order_id", Types.BIGINT, false, false, false, true, false, true),
+            new ShardingSphereColumn("flag", Types.BIT, false, false, false, true, false, true), new ShardingSphereColumn("content", Types.OTHER, false, false, false, true, false, true));
+    
+    @Test
+    void assertRoute() {
+        BulkLoadRowRouter rowRouter = mockRowRouter(1);
+        when(rowRouter.route(Collections.singletonList(10L))).thenReturn(new DataNode("ds_0", "t_order_0"));
+        MySQLLoadDataRowRouter loadDataRowRouter = new MySQLLoadDataRowRouter(rowRouter, fieldColumns);
+        assertThat(loadDataRowRouter.route(new MySQLLoadDataRow(new byte[0], Collections.singletonMap(1, " 10"))), is(new DataNode("ds_0", "t_order_0")));
+        assertThat(loadDataRowRouter.route(new MySQLLoadDataRow(new byte[0], Collections.singletonMap(1, "10"))), is(new DataNode("ds_0", "t_order_0")));
+        verify(rowRouter, times(1)).route(Collections.singletonList(10L));
+    }
+    
+    @Test
+    void assertRouteBitAsInteger() {
+        BulkLoadRowRouter rowRouter = mockRowRouter(2);
+        when(rowRouter.route(Collections.singletonList(1))).thenReturn(new DataNode("ds_1", "t_order_1"));
+        assertThat(new MySQLLoadDataRowRouter(rowRouter, fieldColumns).route(new MySQLLoadDataRow(new byte[0], Collections.singletonMap(2, "1"))), is(new DataNode("ds_1", "t_order_1")));
+    }
+    
+    @Test
+    void assertRouteWithUnsupportedDataType() {
+        MySQLLoadDataRowRouter loadDataRowRouter = new MySQLLoadDataRowRouter(mockRowRouter(3), fieldColumns);
+        assertThrows(UnsupportedSQLOperationException.class, () -> loadDataRowRouter.route(new MySQLLoadDataRow(new byte[0], Collections.singletonMap(3, "{}"))));
+    }
+    
+    private BulkLoadRowRouter mockRowRouter(final int routingFieldIndex) {
+        BulkLoadRowRouter result = mock(BulkLoadRowRouter.class);
+        when(result.getRoutingFieldIndexes()).thenReturn(Collections.singleton(routingFieldIndex));
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.loaddata;
+
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLLocalInfileDataExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private MySQLLoadDataContext loadDataContext;
+    
+    @BeforeEach
+    void setUp() {
+        when(connectionSession.getConnectionId()).thenReturn(CONNECTION_ID);
+        MySQLLoadDataContextRegistry.getInstance().register(CONNECTION_ID, loadDataContext);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        MySQLLoadDataContextRegistry.getInstance().remove(CONNECTION_ID);
+    }
+    
+    @Test
+    void assertExecuteWithData() throws SQLException {
+        byte[] data = "1\tfoo\n".getBytes(StandardCharsets.UTF_8);
+        assertTrue(new MySQLLocalInfileDataExecutor(new MySQLLocalInfileDataPacket(data), connectionSession).execute().isEmpty());
+        verify(loadDataContext).write(data);
+        assertThat(MySQLLoadDataContextRegistry.getInstance().get(CONNECTION_ID), is(loadDataContext));
+    }
+    
+    @Test
+    void assertExecuteWithEndOfData() throws SQLException {
+        when(loadDataContext.finish()).thenReturn(3L);
+        when(loadDataContext.getReadRows()).thenReturn(3L);
+        Collection<DatabasePacket> actual = new MySQLLocalInfileDataExecutor(new MySQLLocalInfileDataPacket(new byte[0]), connectionSession).execute();
+        assertThat(actual.size(), is(1));
+        MySQLOKPacket actualPacket = (MySQLOKPacket) actual.iterator().next();
+        assertThat(actualPacket.getAffectedRows(), is(3L));
+        assertThat(actualPacket.getInfo(), is("Records: 3  Deleted: 0  Skipped: 0  Warnings: 0"));
+        assertThat(MySQLLoadDataContextRegistry.getInstance().get(CONNECTION_ID), nullValue());
+    }
+    
+    @Test
+    void assertExecuteWithEndOfDataFailed() throws SQLException {
+        SQLException expected = new SQLException("Duplicate entry.");
+        when(loadDataContext.finish()).thenThrow(expected);
+        assertThat(assertThrows(SQLException.class, () -> new MySQLLocalInfileDataExecutor(new MySQLLocalInfileDataPacket(new byte[0]), connectionSession).execute()), is(expected));
+        verify(loadDataContext).cancel();
+        assertThat(MySQLLoadDataContextRegistry.getInstance().get(CONNECTION_ID), nullValue());
+    }
+}
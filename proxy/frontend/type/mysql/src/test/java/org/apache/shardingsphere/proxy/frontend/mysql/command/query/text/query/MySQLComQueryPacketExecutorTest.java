@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLEncodedTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
@@ -38,6 +43,7 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
@@ -60,6 +66,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.plugins.MemberAccessor;
 import org.mockito.quality.Strictness;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Arrays;
@@ -174,6 +181,22 @@ class MySQLComQueryPacketExecutorTest {
         assertThat(new MySQLComQueryPacketExecutor(packet, connectionSession).getQueryRowPacket(), instanceOf(MySQLTextResultSetRowPacket.class));
     }
     
+    @Test
+    void assertGetEncodedQueryRowPacket() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        MySQLComQueryPacketExecutor executor = new MySQLComQueryPacketExecutor(packet, connectionSession);
+        DatabaseConnector databaseConnector = mock(DatabaseConnector.class);
+        when(databaseConnector.getQueryColumnCount()).thenReturn(2);
+        when(databaseConnector.getRowValue(1)).thenReturn("foo");
+        when(databaseConnector.getRowValue(2)).thenReturn(null);
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        Plugins.getMemberAccessor().set(MySQLComQueryPacketExecutor.class.getDeclaredField("proxyBackendHandler"), executor, databaseConnector);
+        MySQLPacket actual = executor.getQueryRowPacket();
+        assertThat(actual, instanceOf(MySQLEncodedTextResultSetRowPacket.class));
+        ByteBuf encodedValues = ((MySQLEncodedTextResultSetRowPacket) actual).getEncodedValues();
+        assertThat(ByteBufUtil.getBytes(encodedValues), is(new byte[]{3, 'f', 'o', 'o', (byte) 0xfb}));
+        encodedValues.release();
+    }
+    
     @Test
     void assertClose() throws SQLException, NoSuchFieldException, IllegalAccessException {
         MySQLComQueryPacketExecutor actual = new MySQLComQueryPacketExecutor(packet, connectionSession);
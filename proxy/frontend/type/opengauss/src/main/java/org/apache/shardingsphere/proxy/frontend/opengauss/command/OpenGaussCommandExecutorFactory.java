@@ -26,7 +26,10 @@ import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.sql.SQLReceivedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLPipelinedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
@@ -40,8 +43,13 @@ import org.apache.shardingsphere.proxy.frontend.opengauss.command.query.simple.O
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyExecutorFactory;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -53,6 +61,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extende
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Command executor factory for openGauss.
@@ -78,10 +87,26 @@ public final class OpenGaussCommandExecutorFactory {
         } else {
             log.debug("Execute packet type: {}", commandPacketType);
         }
+        if (commandPacket instanceof PostgreSQLPipelinedCommandPacket) {
+            return getPipelinedCommandExecutor((PostgreSQLPipelinedCommandPacket) commandPacket, connectionSession, portalContext);
+        }
         if (!(commandPacket instanceof PostgreSQLAggregatedCommandPacket)) {
             return getCommandExecutor(commandPacketType, commandPacket, connectionSession, portalContext);
         }
-        PostgreSQLAggregatedCommandPacket aggregatedCommandPacket = (PostgreSQLAggregatedCommandPacket) commandPacket;
+        return getAggregatedCommandExecutor((PostgreSQLAggregatedCommandPacket) commandPacket, connectionSession, portalContext);
+    }
+    
+    private static CommandExecutor getPipelinedCommandExecutor(final PostgreSQLPipelinedCommandPacket pipelinedCommandPacket,
+                                                               final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
+        List<CommandExecutor> result = new ArrayList<>(pipelinedCommandPacket.getPackets().size());
+        for (PostgreSQLAggregatedCommandPacket each : pipelinedCommandPacket.getPackets()) {
+            result.add(getAggregatedCommandExecutor(each, connectionSession, portalContext));
+        }
+        return new PostgreSQLPipelinedCommandExecutor(connectionSession, result);
+    }
+    
+    private static CommandExecutor getAggregatedCommandExecutor(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
+                                                                final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         if (aggregatedCommandPacket.isContainsBatchedStatements() && aggregatedCommandPacket.getPackets().stream().noneMatch(OpenGaussComBatchBindPacket.class::isInstance)) {
             return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
         }
@@ -117,7 +142,14 @@ public final class OpenGaussCommandExecutorFactory {
         }
         switch ((PostgreSQLCommandPacketType) commandPacketType) {
             case SIMPLE_QUERY:
-                return new OpenGaussComQueryExecutor(portalContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+                Optional<CommandExecutor> copyExecutor = PostgreSQLCopyExecutorFactory.newInstance((PostgreSQLComQueryPacket) commandPacket, connectionSession);
+                return copyExecutor.isPresent() ? copyExecutor.get() : new OpenGaussComQueryExecutor(portalContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor((PostgreSQLComCopyDataPacket) commandPacket, connectionSession);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(connectionSession);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor((PostgreSQLComCopyFailPacket) commandPacket, connectionSession);
             case PARSE_COMMAND:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, connectionSession);
             case BIND_COMMAND:
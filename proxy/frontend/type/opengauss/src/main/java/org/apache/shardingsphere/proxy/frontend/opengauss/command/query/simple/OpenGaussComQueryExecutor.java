@@ -17,18 +17,24 @@
 
 package org.apache.shardingsphere.proxy.frontend.opengauss.command.query.simple;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEncodedDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
@@ -61,6 +67,8 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
     
     private final PortalContext portalContext;
     
+    private final ConnectionSession connectionSession;
+    
     private final ProxyBackendHandler proxyBackendHandler;
     
     @Getter
@@ -68,6 +76,7 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
     
     public OpenGaussComQueryExecutor(final PortalContext portalContext, final PostgreSQLComQueryPacket comQueryPacket, final ConnectionSession connectionSession) throws SQLException {
         this.portalContext = portalContext;
+        this.connectionSession = connectionSession;
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(TypedSPILoader.getService(DatabaseType.class, "openGauss"), comQueryPacket.getSQL(), connectionSession,
                 comQueryPacket.getHintValueContext());
     }
@@ -124,7 +133,27 @@ public final class OpenGaussComQueryExecutor implements QueryCommandExecutor {
     
     @Override
     public PostgreSQLPacket getQueryRowPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData());
+        return proxyBackendHandler instanceof DatabaseConnector
+                ? createEncodedDataRowPacket((DatabaseConnector) proxyBackendHandler)
+                : new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData());
+    }
+    
+    private PostgreSQLPacket createEncodedDataRowPacket(final DatabaseConnector databaseConnector) throws SQLException {
+        ByteBuf encodedValues = PooledByteBufAllocator.DEFAULT.directBuffer();
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(encodedValues, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        try {
+            int columnCount = databaseConnector.getQueryColumnCount();
+            payload.writeInt2(columnCount);
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                PostgreSQLDataRowPacket.writeTextValue(payload, databaseConnector.getRowValue(columnIndex));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            encodedValues.release();
+            throw ex;
+        }
+        return new PostgreSQLEncodedDataRowPacket(encodedValues);
     }
     
     @Override
@@ -17,13 +17,18 @@
 
 package org.apache.shardingsphere.proxy.frontend.opengauss.command.query.simple;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEncodedDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
@@ -40,6 +45,7 @@ import org.mockito.Mock;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -49,6 +55,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -123,4 +130,20 @@ class OpenGaussComQueryExecutorTest {
         PostgreSQLPacket actual = queryExecutor.getQueryRowPacket();
         assertThat(actual, is(instanceOf(PostgreSQLDataRowPacket.class)));
     }
+    
+    @Test
+    void assertGetEncodedQueryRowPacket() throws SQLException, ReflectiveOperationException {
+        DatabaseConnector databaseConnector = mock(DatabaseConnector.class);
+        when(databaseConnector.getQueryColumnCount()).thenReturn(1);
+        when(databaseConnector.getRowValue(1)).thenReturn("foo");
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        Plugins.getMemberAccessor().set(OpenGaussComQueryExecutor.class.getDeclaredField("connectionSession"), queryExecutor, connectionSession);
+        Plugins.getMemberAccessor().set(OpenGaussComQueryExecutor.class.getDeclaredField("proxyBackendHandler"), queryExecutor, databaseConnector);
+        PostgreSQLPacket actual = queryExecutor.getQueryRowPacket();
+        assertThat(actual, is(instanceOf(PostgreSQLEncodedDataRowPacket.class)));
+        ByteBuf encodedValues = ((PostgreSQLEncodedDataRowPacket) actual).getEncodedValues();
+        assertThat(ByteBufUtil.getBytes(encodedValues), is(new byte[]{0, 1, 0, 0, 0, 3, 'f', 'o', 'o'}));
+        encodedValues.release();
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEncodedDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDonePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -35,10 +38,12 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataFlushPolicy;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyOutExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrorPacketFactory;
 
 import java.sql.SQLException;
@@ -49,6 +54,10 @@ import java.util.Optional;
  */
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final int MESSAGE_TYPE_LENGTH = 1;
+    
+    private static final int PAYLOAD_LENGTH = 4;
+    
     @Override
     public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return PostgreSQLCommandPacketType.valueOf(payload.getByteBuf().getByte(payload.getByteBuf().readerIndex()));
@@ -75,6 +84,24 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         return Optional.of(connectionSession.getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.TRANSACTION_FAILED : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
     }
     
+    @Override
+    public Optional<DatabasePacket> getRejectedCommandOtherPacket(final ByteBuf message, final ConnectionSession connectionSession) {
+        int lastMessageType = getLastMessageType(message);
+        return PostgreSQLCommandPacketType.SYNC_COMMAND.getValue() == lastMessageType || PostgreSQLCommandPacketType.SIMPLE_QUERY.getValue() == lastMessageType
+                ? getOtherPacket(connectionSession)
+                : Optional.empty();
+    }
+    
+    private int getLastMessageType(final ByteBuf message) {
+        int result = 0;
+        int index = message.readerIndex();
+        while (index + MESSAGE_TYPE_LENGTH + PAYLOAD_LENGTH <= message.writerIndex()) {
+            result = message.getByte(index);
+            index += MESSAGE_TYPE_LENGTH + message.getInt(index + MESSAGE_TYPE_LENGTH);
+        }
+        return result;
+    }
+    
     @Override
     public void writeQueryData(final ChannelHandlerContext context,
                                final ProxyDatabaseConnectionManager databaseConnectionManager, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
@@ -93,7 +120,10 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
             return;
         }
         long dataRows = writeDataPackets(context, databaseConnectionManager, queryExecutor);
-        if (ResponseType.QUERY == queryExecutor.getResponseType()) {
+        if (queryExecutor instanceof PostgreSQLCopyOutExecutor) {
+            context.write(new PostgreSQLCopyDonePacket());
+            context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.COPY.getTag(), ((PostgreSQLCopyOutExecutor) queryExecutor).getCopiedRows()));
+        } else if (ResponseType.QUERY == queryExecutor.getResponseType()) {
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
         }
         context.write(databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
@@ -103,19 +133,14 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0;
-        int flushCount = 0;
         int proxyFrontendFlushThreshold = ProxyContext.getInstance()
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        QueryDataFlushPolicy flushPolicy = new QueryDataFlushPolicy(context, proxyFrontendFlushThreshold);
         while (queryCommandExecutor.next()) {
-            flushCount++;
             databaseConnectionManager.getResourceLock().doAwait(context);
             DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
-            if (resultValue instanceof PostgreSQLDataRowPacket) {
+            flushPolicy.write(resultValue);
+            if (resultValue instanceof PostgreSQLDataRowPacket || resultValue instanceof PostgreSQLEncodedDataRowPacket) {
                 dataRows++;
             }
         }
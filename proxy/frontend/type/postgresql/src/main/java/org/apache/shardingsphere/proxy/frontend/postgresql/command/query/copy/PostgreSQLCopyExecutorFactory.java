@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.CopyStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.exception.postgresql.exception.metadata.ColumnNotFoundException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.apache.shardingsphere.infra.route.engine.BulkLoadRouteEngine;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.transaction.TransactionalErrorAllowedSQLStatementHandler;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyOptions.Format;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL copy executor factory, which creates executors for {@code COPY ... FROM STDIN} and {@code COPY ... TO STDOUT}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyExecutorFactory {
+    
+    private static final String COPY_KEYWORD = "COPY";
+    
+    /**
+     * Create new instance of copy executor.
+     *
+     * @param packet command query packet
+     * @param connectionSession connection session
+     * @return created instance, empty if the SQL is not a copy from STDIN or to STDOUT of table
+     * @throws SQLException SQL exception
+     */
+    public static Optional<CommandExecutor> newInstance(final PostgreSQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
+        String sql = packet.getSQL();
+        String databaseName = connectionSession.getDefaultDatabaseName();
+        if (!sql.trim().regionMatches(true, 0, COPY_KEYWORD, 0, COPY_KEYWORD.length()) || null == databaseName || !ProxyContext.getInstance().databaseExists(databaseName)) {
+            return Optional.empty();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        SQLStatement sqlStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType()).parse(sql, false);
+        if (!(sqlStatement instanceof CopyStatement) || null == ((CopyStatement) sqlStatement).getTableSegment()) {
+            return Optional.empty();
+        }
+        CopyStatement copyStatement = (CopyStatement) sqlStatement;
+        Optional<PostgreSQLCopyOptions> options = PostgreSQLCopyOptions.parse(sql, copyStatement.getTableSegment().getStopIndex());
+        if (!options.isPresent()) {
+            return Optional.empty();
+        }
+        new BulkLoadRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps()).check(copyStatement.getTableSegment().getTableName().getIdentifier().getValue(), Collections.emptyList());
+        if (connectionSession.getTransactionStatus().isExceptionOccur()) {
+            Optional<TransactionalErrorAllowedSQLStatementHandler> allowedSQLStatementHandler = DatabaseTypedSPILoader.findService(
+                    TransactionalErrorAllowedSQLStatementHandler.class, database.getProtocolType());
+            if (allowedSQLStatementHandler.isPresent()) {
+                allowedSQLStatementHandler.get().judgeContinueToExecute(copyStatement);
+            }
+        }
+        return Optional.of(options.get().isCopyIn() ? createCopyInExecutor(packet, connectionSession, database, copyStatement, options.get())
+                : createCopyOutExecutor(connectionSession, database, copyStatement, options.get()));
+    }
+    
+    private static CommandExecutor createCopyInExecutor(final PostgreSQLComQueryPacket packet, final ConnectionSession connectionSession, final ShardingSphereDatabase database,
+                                                        final CopyStatement copyStatement, final PostgreSQLCopyOptions options) {
+        String logicTableName = copyStatement.getTableSegment().getTableName().getIdentifier().getValue();
+        List<ShardingSphereColumn> columns = getColumns(connectionSession, database, copyStatement.getTableSegment(), options);
+        Charset charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        List<String> columnNames = columns.stream().map(ShardingSphereColumn::getName).collect(Collectors.toList());
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        Optional<BulkLoadRowRouter> bulkLoadRowRouter = new BulkLoadRouteEngine(database.getRuleMetaData().getRules(), props)
+                .route(logicTableName, columnNames, new CopyStatementContext(copyStatement), packet.getHintValueContext());
+        PostgreSQLCopyRowRouter rowRouter = bulkLoadRowRouter.map(optional -> new PostgreSQLCopyRowRouter(optional, columns, Format.BINARY == options.getFormat(), charset)).orElse(null);
+        PostgreSQLCopyRowReader rowReader = new PostgreSQLCopyRowReader(options, null == rowRouter ? Collections.emptyList() : rowRouter.getRoutingFieldIndexes(), charset);
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(rowReader, getDataNodes(database, logicTableName), rowRouter,
+                createSQLGenerator(copyStatement.getTableSegment(), options), new PostgreSQLCopyConnections(connectionSession));
+        return new PostgreSQLCopyInExecutor(connectionSession, copyInContext, Format.BINARY == options.getFormat(), columns.size());
+    }
+    
+    private static CommandExecutor createCopyOutExecutor(final ConnectionSession connectionSession, final ShardingSphereDatabase database,
+                                                         final CopyStatement copyStatement, final PostgreSQLCopyOptions options) {
+        String logicTableName = copyStatement.getTableSegment().getTableName().getIdentifier().getValue();
+        Collection<DataNode> dataNodes = getDataNodes(database, logicTableName);
+        Collection<DataNode> exportedDataNodes = isDistributed(database, logicTableName) ? dataNodes : Collections.singleton(dataNodes.iterator().next());
+        return new PostgreSQLCopyOutExecutor(options, exportedDataNodes, createSQLGenerator(copyStatement.getTableSegment(), options),
+                getColumns(connectionSession, database, copyStatement.getTableSegment(), options).size(), new PostgreSQLCopyConnections(connectionSession));
+    }
+    
+    private static List<ShardingSphereColumn> getColumns(final ConnectionSession connectionSession, final ShardingSphereDatabase database,
+                                                         final SimpleTableSegment tableSegment, final PostgreSQLCopyOptions options) {
+        String tableName = tableSegment.getTableName().getIdentifier().getValue();
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue())
+                .orElseGet(() -> new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(connectionSession.getDefaultDatabaseName()));
+        ShardingSphereTable table = database.containsSchema(schemaName) ? database.getSchema(schemaName).getTable(tableName) : null;
+        ShardingSpherePreconditions.checkNotNull(table, () -> new NoSuchTableException(tableName));
+        if (options.getColumnNames().isEmpty()) {
+            return new ArrayList<>(table.getColumnValues());
+        }
+        List<ShardingSphereColumn> result = new ArrayList<>(options.getColumnNames().size());
+        for (String each : options.getColumnNames()) {
+            ShardingSpherePreconditions.checkState(table.containsColumn(each), () -> new ColumnNotFoundException(tableName, each));
+            result.add(table.getColumn(each));
+        }
+        return result;
+    }
+    
+    private static boolean isDistributed(final ShardingSphereDatabase database, final String logicTableName) {
+        for (DataNodeContainedRule each : database.getRuleMetaData().findRules(DataNodeContainedRule.class)) {
+            if (!each.getDataNodesByTableName(logicTableName).isEmpty()) {
+                return each.isNeedAccumulate(Collections.singleton(logicTableName));
+            }
+        }
+        return false;
+    }
+    
+    private static Collection<DataNode> getDataNodes(final ShardingSphereDatabase database, final String logicTableName) {
+        for (DataNodeContainedRule each : database.getRuleMetaData().findRules(DataNodeContainedRule.class)) {
+            Collection<DataNode> dataNodes = each.getDataNodesByTableName(logicTableName);
+            if (!dataNodes.isEmpty()) {
+                Collection<DataNode> result = new LinkedList<>();
+                for (DataNode dataNode : dataNodes) {
+                    ShardingSpherePreconditions.checkState(database.getResourceMetaData().getStorageUnits().containsKey(dataNode.getDataSourceName()),
+                            () -> new UnsupportedSQLOperationException(String.format("COPY can not run on logic data source `%s`", dataNode.getDataSourceName())));
+                    result.add(new DataNode(dataNode.getDataSourceName(), dataNode.getTableName()));
+                }
+                return result;
+            }
+        }
+        throw new NoSuchTableException(logicTableName);
+    }
+    
+    private static Function<String, String> createSQLGenerator(final SimpleTableSegment tableSegment, final PostgreSQLCopyOptions options) {
+        String ownerPrefix = tableSegment.getOwner().map(optional -> optional.getIdentifier().getQuoteCharacter().wrap(optional.getIdentifier().getValue()) + ".").orElse("");
+        return actualTableName -> options.buildSQL(ownerPrefix + tableSegment.getTableName().getIdentifier().getQuoteCharacter().wrap(actualTableName));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * PostgreSQL copy in context, which streams rows of {@code COPY ... FROM STDIN} into copy operations of data nodes.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInContext {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final PostgreSQLCopyRowReader rowReader;
+    
+    private final Collection<DataNode> broadcastDataNodes;
+    
+    private final PostgreSQLCopyRowRouter rowRouter;
+    
+    private final Function<String, String> sqlGenerator;
+    
+    private final PostgreSQLCopyConnections connections;
+    
+    private final Map<DataNode, CopyInTarget> targets = new LinkedHashMap<>();
+    
+    private long copiedRows;
+    
+    /**
+     * Write copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        rowReader.write(data);
+        writeRows();
+    }
+    
+    private void writeRows() throws SQLException {
+        Optional<PostgreSQLCopyRow> row;
+        while ((row = rowReader.read()).isPresent()) {
+            if (null == rowRouter) {
+                for (DataNode each : broadcastDataNodes) {
+                    getTarget(each).write(row.get().getData());
+                }
+            } else {
+                getTarget(rowRouter.route(row.get())).write(row.get().getData());
+            }
+            copiedRows++;
+        }
+    }
+    
+    private CopyInTarget getTarget(final DataNode dataNode) throws SQLException {
+        CopyInTarget result = targets.get(dataNode);
+        if (null != result) {
+            return result;
+        }
+        Connection connection = connections.getConnection(dataNode.getDataSourceName());
+        CopyIn copyIn = new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(sqlGenerator.apply(dataNode.getTableName()));
+        result = new CopyInTarget(copyIn);
+        targets.put(dataNode, result);
+        byte[] header = rowReader.getHeader().orElse(new byte[0]);
+        if (header.length > 0) {
+            result.write(header);
+        }
+        return result;
+    }
+    
+    /**
+     * Finish copy.
+     *
+     * @return copied rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        rowReader.markEndOfData();
+        writeRows();
+        for (CopyInTarget each : targets.values()) {
+            each.end();
+        }
+        connections.commit();
+        close();
+        return copiedRows;
+    }
+    
+    /**
+     * Cancel copy and close resources.
+     *
+     * @return SQL exceptions occurred
+     */
+    public Collection<SQLException> cancel() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (CopyInTarget each : targets.values()) {
+            try {
+                each.cancel();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        result.addAll(close());
+        return result;
+    }
+    
+    private Collection<SQLException> close() {
+        targets.clear();
+        rowReader.close();
+        return connections.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CopyInTarget {
+        
+        private final CopyIn copyIn;
+        
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        
+        private int position;
+        
+        private void write(final byte[] data) throws SQLException {
+            if (data.length > buffer.length - position) {
+                flush();
+            }
+            if (data.length >= buffer.length) {
+                copyIn.writeToCopy(data, 0, data.length);
+                return;
+            }
+            System.arraycopy(data, 0, buffer, position, data.length);
+            position += data.length;
+        }
+        
+        private void flush() throws SQLException {
+            if (position > 0) {
+                copyIn.writeToCopy(buffer, 0, position);
+                position = 0;
+            }
+        }
+        
+        private void end() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+        
+        private void cancel() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * PostgreSQL copy in context registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyInContextRegistry {
+    
+    private static final PostgreSQLCopyInContextRegistry INSTANCE = new PostgreSQLCopyInContextRegistry();
+    
+    private final ConcurrentMap<Integer, PostgreSQLCopyInContext> copyInContexts = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of PostgreSQL copy in context registry.
+     *
+     * @return instance of PostgreSQL copy in context registry
+     */
+    public static PostgreSQLCopyInContextRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register PostgreSQL copy in context.
+     *
+     * @param connectionId connection id
+     * @param copyInContext PostgreSQL copy in context
+     */
+    public void register(final int connectionId, final PostgreSQLCopyInContext copyInContext) {
+        PostgreSQLCopyInContext previous = copyInContexts.put(connectionId, copyInContext);
+        if (null != previous) {
+            previous.cancel();
+        }
+    }
+    
+    /**
+     * Get PostgreSQL copy in context.
+     *
+     * @param connectionId connection id
+     * @return PostgreSQL copy in context, null if absent
+     */
+    public PostgreSQLCopyInContext get(final int connectionId) {
+        return copyInContexts.get(connectionId);
+    }
+    
+    /**
+     * Remove PostgreSQL copy in context.
+     *
+     * @param connectionId connection id
+     * @return removed PostgreSQL copy in context, null if absent
+     */
+    public PostgreSQLCopyInContext remove(final int connectionId) {
+        return copyInContexts.remove(connectionId);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * PostgreSQL copy in executor, which starts copy in mode for {@code COPY ... FROM STDIN}.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInExecutor implements CommandExecutor {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyInContext copyInContext;
+    
+    private final boolean binary;
+    
+    private final int columnCount;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        PostgreSQLCopyInContextRegistry.getInstance().register(connectionSession.getConnectionId(), copyInContext);
+        return Collections.singleton(new PostgreSQLCopyInResponsePacket(binary, columnCount));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL copy options of {@code COPY ... FROM STDIN} and {@code COPY ... TO STDOUT}.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyOptions {
+    
+    private final boolean copyIn;
+    
+    private final Format format;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final boolean header;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    private final List<String> columnNames;
+    
+    private final String columnsClause;
+    
+    private final String directionClause;
+    
+    /**
+     * Parse copy options from the part of SQL after table name.
+     *
+     * @param sql SQL
+     * @param tableStopIndex stop index of table name
+     * @return copy options, empty if the statement does not copy from STDIN or to STDOUT
+     */
+    public static Optional<PostgreSQLCopyOptions> parse(final String sql, final int tableStopIndex) {
+        List<Token> tokens = tokenize(sql, tableStopIndex + 1);
+        int index = 0;
+        List<String> columnNames = new ArrayList<>();
+        String columnsClause = "";
+        if (index < tokens.size() && "(".equals(tokens.get(index).text)) {
+            int columnsStartIndex = tokens.get(index).startIndex;
+            for (index++; index < tokens.size() && !")".equals(tokens.get(index).text); index++) {
+                if (!",".equals(tokens.get(index).text)) {
+                    columnNames.add(tokens.get(index).getIdentifier());
+                }
+            }
+            if (index >= tokens.size()) {
+                return Optional.empty();
+            }
+            columnsClause = sql.substring(columnsStartIndex, tokens.get(index).startIndex + 1);
+            index++;
+        }
+        if (index + 1 >= tokens.size()) {
+            return Optional.empty();
+        }
+        String direction = tokens.get(index).text.toUpperCase();
+        String target = tokens.get(index + 1).text.toUpperCase();
+        boolean copyIn = "FROM".equals(direction) && "STDIN".equals(target);
+        if (!copyIn && !("TO".equals(direction) && "STDOUT".equals(target))) {
+            return Optional.empty();
+        }
+        String directionClause = sql.substring(tokens.get(index).startIndex).trim();
+        if (directionClause.endsWith(";")) {
+            directionClause = directionClause.substring(0, directionClause.length() - 1).trim();
+        }
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parse(tokens.subList(index + 2, tokens.size()));
+        return Optional.of(builder.build(copyIn, Collections.unmodifiableList(columnNames), columnsClause, directionClause));
+    }
+    
+    private static List<Token> tokenize(final String sql, final int startIndex) {
+        List<Token> result = new ArrayList<>();
+        int index = startIndex;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index++;
+                continue;
+            }
+            int tokenStartIndex = index;
+            if ('(' == each || ')' == each || ',' == each || ';' == each) {
+                index++;
+            } else if ('\'' == each || '"' == each) {
+                index = skipQuoted(sql, index, each);
+            } else {
+                while (index < sql.length() && !Character.isWhitespace(sql.charAt(index)) && "(),;'\"".indexOf(sql.charAt(index)) < 0) {
+                    index++;
+                }
+            }
+            result.add(new Token(sql.substring(tokenStartIndex, index), tokenStartIndex));
+        }
+        return result;
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final char quote) {
+        int result = startIndex + 1;
+        while (result < sql.length()) {
+            if (quote == sql.charAt(result)) {
+                if (result + 1 < sql.length() && quote == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result + 1;
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Build copy SQL for actual table.
+     *
+     * @param actualTableName actual table name
+     * @return copy SQL
+     */
+    public String buildSQL(final String actualTableName) {
+        return columnsClause.isEmpty() ? String.format("COPY %s %s", actualTableName, directionClause) : String.format("COPY %s %s %s", actualTableName, columnsClause, directionClause);
+    }
+    
+    /**
+     * Copy format.
+     */
+    public enum Format {
+        
+        TEXT, CSV, BINARY
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Token {
+        
+        private final String text;
+        
+        private final int startIndex;
+        
+        private String getIdentifier() {
+            return text.startsWith("\"") ? text.substring(1, text.length() - 1).replace("\"\"", "\"") : text.toLowerCase();
+        }
+        
+        private String getStringValue() {
+            return text.startsWith("'") ? text.substring(1, text.length() - 1).replace("''", "'") : text;
+        }
+    }
+    
+    private static final class OptionsBuilder {
+        
+        private Format format = Format.TEXT;
+        
+        private Character delimiter;
+        
+        private String nullString;
+        
+        private boolean header;
+        
+        private Character quote;
+        
+        private Character escape;
+        
+        private void parse(final List<Token> tokens) {
+            int index = 0;
+            if (index < tokens.size() && "WITH".equalsIgnoreCase(tokens.get(index).text)) {
+                index++;
+            }
+            if (index < tokens.size() && "(".equals(tokens.get(index).text)) {
+                parseOptionList(tokens.subList(index + 1, tokens.size()));
+            } else {
+                parseLegacyOptions(tokens.subList(index, tokens.size()));
+            }
+        }
+        
+        private void parseOptionList(final List<Token> tokens) {
+            int index = 0;
+            while (index < tokens.size() && !")".equals(tokens.get(index).text)) {
+                String name = tokens.get(index++).text.toUpperCase();
+                List<Token> values = new ArrayList<>();
+                int depth = 0;
+                while (index < tokens.size() && (depth > 0 || !",".equals(tokens.get(index).text) && !")".equals(tokens.get(index).text))) {
+                    String text = tokens.get(index).text;
+                    depth += "(".equals(text) ? 1 : ")".equals(text) ? -1 : 0;
+                    values.add(tokens.get(index++));
+                }
+                if (index < tokens.size() && ",".equals(tokens.get(index).text)) {
+                    index++;
+                }
+                setOption(name, values.isEmpty() ? null : values.get(0).getStringValue());
+            }
+        }
+        
+        private void setOption(final String name, final String value) {
+            switch (name) {
+                case "FORMAT":
+                    format = Format.valueOf(value.toUpperCase());
+                    break;
+                case "DELIMITER":
+                    delimiter = value.charAt(0);
+                    break;
+                case "NULL":
+                    nullString = value;
+                    break;
+                case "HEADER":
+                    header = null == value || !("FALSE".equalsIgnoreCase(value) || "OFF".equalsIgnoreCase(value) || "0".equals(value));
+                    break;
+                case "QUOTE":
+                    quote = value.charAt(0);
+                    break;
+                case "ESCAPE":
+                    escape = value.charAt(0);
+                    break;
+                default:
+            }
+        }
+        
+        private void parseLegacyOptions(final List<Token> tokens) {
+            int index = 0;
+            while (index < tokens.size()) {
+                String keyword = tokens.get(index++).text.toUpperCase();
+                if ("WHERE".equals(keyword) || "FORCE".equals(keyword)) {
+                    return;
+                }
+                if ("BINARY".equals(keyword) || "CSV".equals(keyword)) {
+                    format = Format.valueOf(keyword);
+                } else if ("HEADER".equals(keyword)) {
+                    header = true;
+                } else if ("DELIMITER".equals(keyword) || "NULL".equals(keyword) || "QUOTE".equals(keyword) || "ESCAPE".equals(keyword)) {
+                    if (index < tokens.size() && "AS".equalsIgnoreCase(tokens.get(index).text)) {
+                        index++;
+                    }
+                    if (index < tokens.size()) {
+                        setOption(keyword, tokens.get(index++).getStringValue());
+                    }
+                }
+            }
+        }
+        
+        private PostgreSQLCopyOptions build(final boolean copyIn, final List<String> columnNames, final String columnsClause, final String directionClause) {
+            boolean csv = Format.CSV == format;
+            char actualQuote = null == quote ? '"' : quote;
+            return new PostgreSQLCopyOptions(copyIn, format, null == delimiter ? csv ? ',' : '\t' : delimiter, null == nullString ? csv ? "" : "\\N" : nullString,
+                    Format.BINARY != format && header, actualQuote, null == escape ? actualQuote : escape, columnNames, columnsClause, directionClause);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyOptions.Format;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
+import org.postgresql.core.BaseConnection;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * PostgreSQL copy out executor, which exports data nodes of {@code COPY ... TO STDOUT} in parallel and merges them into one copy out stream.
+ *
+ * <p>Reading copy data blocks until the data node sends it, so exports run on threads owned by the executor instead of the shared backend executor.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyOutExecutor implements QueryCommandExecutor {
+    
+    private static final int QUEUE_CAPACITY = 1024;
+    
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    
+    private static final byte[] BINARY_TRAILER = {(byte) 0xFF, (byte) 0xFF};
+    
+    private static final int BINARY_HEADER_FIXED_LENGTH = 19;
+    
+    private static final CopyOutChunk END_OF_EXPORT = new CopyOutChunk(new byte[0], false);
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final Collection<DataNode> dataNodes;
+    
+    private final Function<String, String> sqlGenerator;
+    
+    private final int columnCount;
+    
+    private final PostgreSQLCopyConnections connections;
+    
+    private final BlockingQueue<CopyOutChunk> chunks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    
+    private final Collection<Future<?>> exportFutures = new LinkedList<>();
+    
+    private ExecutorService exportExecutorService;
+    
+    private final AtomicLong copiedRowCount = new AtomicLong();
+    
+    private volatile boolean closed;
+    
+    private volatile SQLException exportFailure;
+    
+    @Getter
+    private final ResponseType responseType = ResponseType.QUERY;
+    
+    private int runningExports;
+    
+    private boolean headerWritten;
+    
+    private boolean trailerWritten;
+    
+    private byte[] currentData;
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        exportExecutorService = Executors.newFixedThreadPool(dataNodes.size(), ExecutorThreadFactoryBuilder.build("PostgreSQL-Copy-Out-%d"));
+        for (DataNode each : dataNodes) {
+            CopyOut copyOut = new CopyManager(connections.getConnection(each.getDataSourceName()).unwrap(BaseConnection.class)).copyOut(sqlGenerator.apply(each.getTableName()));
+            exportFutures.add(exportExecutorService.submit(() -> export(copyOut)));
+            runningExports++;
+        }
+        return Collections.singleton(new PostgreSQLCopyOutResponsePacket(Format.BINARY == options.getFormat(), columnCount));
+    }
+    
+    private void export(final CopyOut copyOut) {
+        try {
+            boolean firstChunk = true;
+            byte[] data;
+            while (null != (data = copyOut.readFromCopy())) {
+                if (closed) {
+                    copyOut.cancelCopy();
+                    return;
+                }
+                if (!(firstChunk ? offerFirstChunk(data) : offerChunk(data))) {
+                    return;
+                }
+                firstChunk = false;
+            }
+            copiedRowCount.addAndGet(copyOut.getHandledRowCount());
+        } catch (final SQLException ex) {
+            exportFailure = ex;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            exportFailure = new SQLException(ex);
+        } finally {
+            offer(END_OF_EXPORT);
+        }
+    }
+    
+    private boolean offerFirstChunk(final byte[] data) {
+        if (Format.BINARY == options.getFormat()) {
+            int headerLength = BINARY_HEADER_FIXED_LENGTH + ((data[15] & 0xFF) << 24 | (data[16] & 0xFF) << 16 | (data[17] & 0xFF) << 8 | data[18] & 0xFF);
+            return offer(new CopyOutChunk(Arrays.copyOf(data, headerLength), true)) && offerChunk(Arrays.copyOfRange(data, headerLength, data.length));
+        }
+        return options.isHeader() ? offer(new CopyOutChunk(data, true)) : offerChunk(data);
+    }
+    
+    private boolean offerChunk(final byte[] data) {
+        if (0 == data.length || Format.BINARY == options.getFormat() && Arrays.equals(BINARY_TRAILER, data)) {
+            return true;
+        }
+        return offer(new CopyOutChunk(data, false));
+    }
+    
+    private boolean offer(final CopyOutChunk chunk) {
+        try {
+            while (!closed) {
+                if (chunks.offer(chunk, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (runningExports > 0) {
+            CopyOutChunk chunk = takeChunk();
+            if (END_OF_EXPORT == chunk) {
+                runningExports--;
+                continue;
+            }
+            if (chunk.header && headerWritten) {
+                continue;
+            }
+            headerWritten |= chunk.header;
+            currentData = chunk.data;
+            return true;
+        }
+        if (null != exportFailure) {
+            throw exportFailure;
+        }
+        if (Format.BINARY == options.getFormat() && !trailerWritten) {
+            trailerWritten = true;
+            currentData = BINARY_TRAILER;
+            return true;
+        }
+        return false;
+    }
+    
+    private CopyOutChunk takeChunk() throws SQLException {
+        try {
+            CopyOutChunk result;
+            do {
+                if (null != exportFailure) {
+                    throw exportFailure;
+                }
+                result = chunks.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } while (null == result);
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentData);
+    }
+    
+    /**
+     * Get copied rows.
+     *
+     * @return copied rows
+     */
+    public long getCopiedRows() {
+        return copiedRowCount.get();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        for (Future<?> each : exportFutures) {
+            awaitExport(each);
+        }
+        if (null != exportExecutorService) {
+            exportExecutorService.shutdown();
+        }
+        chunks.clear();
+        Collection<SQLException> exceptions = connections.close();
+        if (!exceptions.isEmpty()) {
+            throw exceptions.iterator().next();
+        }
+    }
+    
+    private void awaitExport(final Future<?> exportFuture) {
+        while (true) {
+            chunks.clear();
+            try {
+                exportFuture.get(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (final TimeoutException ignored) {
+            } catch (final ExecutionException ignored) {
+                return;
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CopyOutChunk {
+        
+        private final byte[] data;
+        
+        private final boolean header;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.exception.PostgreSQLProtocolException;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyOptions.Format;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * PostgreSQL copy row reader, which splits copy data stream into rows incrementally.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9">File Formats</a>
+ */
+public final class PostgreSQLCopyRowReader {
+    
+    private static final byte[] BINARY_SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    
+    private static final int BINARY_HEADER_FIXED_LENGTH = BINARY_SIGNATURE.length + 8;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final Collection<Integer> fieldIndexes;
+    
+    private final Charset charset;
+    
+    private final ByteBuf cumulation = Unpooled.buffer();
+    
+    private byte[] header;
+    
+    private boolean endOfData;
+    
+    private boolean finished;
+    
+    public PostgreSQLCopyRowReader(final PostgreSQLCopyOptions options, final Collection<Integer> fieldIndexes, final Charset charset) {
+        this.options = options;
+        this.fieldIndexes = fieldIndexes;
+        this.charset = charset;
+        if (!options.isHeader() && Format.BINARY != options.getFormat()) {
+            header = new byte[0];
+        }
+    }
+    
+    /**
+     * Write copy data.
+     *
+     * @param data copy data
+     */
+    public void write(final byte[] data) {
+        if (!finished) {
+            cumulation.writeBytes(data);
+        }
+    }
+    
+    /**
+     * Mark end of copy data, the remaining bytes will be read as the last row.
+     */
+    public void markEndOfData() {
+        endOfData = true;
+    }
+    
+    /**
+     * Get header, which is the binary file header or the header line.
+     *
+     * @return header, empty if header has not been read yet
+     */
+    public Optional<byte[]> getHeader() {
+        return Optional.ofNullable(header);
+    }
+    
+    /**
+     * Read next complete row.
+     *
+     * @return row, empty if there is no complete row
+     * @throws PostgreSQLProtocolException PostgreSQL protocol exception
+     */
+    public Optional<PostgreSQLCopyRow> read() {
+        if (finished) {
+            return Optional.empty();
+        }
+        if (null == header && !readHeader()) {
+            return Optional.empty();
+        }
+        Optional<PostgreSQLCopyRow> result = Format.BINARY == options.getFormat() ? readBinaryRow() : readTextRow();
+        cumulation.discardSomeReadBytes();
+        if (!result.isPresent() && endOfData && !finished && cumulation.isReadable()) {
+            throw new PostgreSQLProtocolException("Incomplete COPY data.");
+        }
+        return result;
+    }
+    
+    private boolean readHeader() {
+        if (Format.BINARY != options.getFormat()) {
+            int endIndex = findTextRowEndIndex();
+            if (endIndex < 0) {
+                return false;
+            }
+            header = ByteBufUtil.getBytes(cumulation, cumulation.readerIndex(), endIndex - cumulation.readerIndex());
+            cumulation.readerIndex(endIndex);
+            return true;
+        }
+        if (cumulation.readableBytes() < BINARY_HEADER_FIXED_LENGTH) {
+            return false;
+        }
+        byte[] signature = ByteBufUtil.getBytes(cumulation, cumulation.readerIndex(), BINARY_SIGNATURE.length);
+        for (int i = 0; i < BINARY_SIGNATURE.length; i++) {
+            if (signature[i] != BINARY_SIGNATURE[i]) {
+                throw new PostgreSQLProtocolException("COPY file signature not recognized.");
+            }
+        }
+        int headerLength = BINARY_HEADER_FIXED_LENGTH + cumulation.getInt(cumulation.readerIndex() + BINARY_HEADER_FIXED_LENGTH - 4);
+        if (cumulation.readableBytes() < headerLength) {
+            return false;
+        }
+        header = ByteBufUtil.getBytes(cumulation, cumulation.readerIndex(), headerLength);
+        cumulation.skipBytes(headerLength);
+        return true;
+    }
+    
+    private Optional<PostgreSQLCopyRow> readBinaryRow() {
+        if (cumulation.readableBytes() < 2) {
+            return Optional.empty();
+        }
+        int startIndex = cumulation.readerIndex();
+        short fieldCount = cumulation.getShort(startIndex);
+        if (-1 == fieldCount) {
+            finished = true;
+            cumulation.skipBytes(cumulation.readableBytes());
+            return Optional.empty();
+        }
+        Map<Integer, Object> fieldValues = new HashMap<>(fieldIndexes.size(), 1F);
+        int index = startIndex + 2;
+        for (int i = 0; i < fieldCount; i++) {
+            if (cumulation.writerIndex() - index < 4) {
+                return Optional.empty();
+            }
+            int length = cumulation.getInt(index);
+            index += 4;
+            if (length > 0 && cumulation.writerIndex() - index < length) {
+                return Optional.empty();
+            }
+            if (fieldIndexes.contains(i)) {
+                fieldValues.put(i, length < 0 ? null : ByteBufUtil.getBytes(cumulation, index, length));
+            }
+            index += Math.max(length, 0);
+        }
+        byte[] data = ByteBufUtil.getBytes(cumulation, startIndex, index - startIndex);
+        cumulation.readerIndex(index);
+        return Optional.of(new PostgreSQLCopyRow(data, fieldValues));
+    }
+    
+    private Optional<PostgreSQLCopyRow> readTextRow() {
+        int endIndex = findTextRowEndIndex();
+        if (endIndex < 0) {
+            return Optional.empty();
+        }
+        int startIndex = cumulation.readerIndex();
+        byte[] data = ByteBufUtil.getBytes(cumulation, startIndex, endIndex - startIndex);
+        cumulation.readerIndex(endIndex);
+        int contentLength = getContentLength(data);
+        if (2 == contentLength && '\\' == data[0] && '.' == data[1]) {
+            finished = true;
+            cumulation.skipBytes(cumulation.readableBytes());
+            return Optional.empty();
+        }
+        if (data.length == contentLength) {
+            data = appendNewLine(data);
+        }
+        return Optional.of(new PostgreSQLCopyRow(data, Format.CSV == options.getFormat() ? parseCSVFields(data, contentLength) : parseTextFields(data, contentLength)));
+    }
+    
+    private int findTextRowEndIndex() {
+        boolean csv = Format.CSV == options.getFormat();
+        boolean inQuote = false;
+        int writerIndex = cumulation.writerIndex();
+        int i = cumulation.readerIndex();
+        while (i < writerIndex) {
+            byte each = cumulation.getByte(i);
+            if (inQuote) {
+                if (options.getEscape() != options.getQuote() && options.getEscape() == each && i + 1 < writerIndex) {
+                    i++;
+                } else if (options.getQuote() == each) {
+                    inQuote = false;
+                }
+            } else if (csv && options.getQuote() == each) {
+                inQuote = true;
+            } else if (!csv && '\\' == each) {
+                i++;
+            } else if ('\n' == each) {
+                return i + 1;
+            }
+            i++;
+        }
+        return endOfData && !inQuote && cumulation.isReadable() ? writerIndex : -1;
+    }
+    
+    private int getContentLength(final byte[] data) {
+        int result = data.length;
+        if (result > 0 && '\n' == data[result - 1]) {
+            result--;
+            if (result > 0 && '\r' == data[result - 1]) {
+                result--;
+            }
+        }
+        return result;
+    }
+    
+    private byte[] appendNewLine(final byte[] data) {
+        byte[] result = new byte[data.length + 1];
+        System.arraycopy(data, 0, result, 0, data.length);
+        result[data.length] = '\n';
+        return result;
+    }
+    
+    private Map<Integer, Object> parseTextFields(final byte[] data, final int contentLength) {
+        Map<Integer, Object> result = new HashMap<>(fieldIndexes.size(), 1F);
+        int fieldIndex = 0;
+        int fieldStartIndex = 0;
+        int i = 0;
+        while (i <= contentLength) {
+            if (i < contentLength && '\\' == data[i]) {
+                i++;
+            } else if (i == contentLength || options.getDelimiter() == data[i]) {
+                if (fieldIndexes.contains(fieldIndex)) {
+                    result.put(fieldIndex, decodeTextField(data, fieldStartIndex, Math.min(i, contentLength)));
+                }
+                fieldIndex++;
+                fieldStartIndex = i + 1;
+            }
+            i++;
+        }
+        return result;
+    }
+    
+    private String decodeTextField(final byte[] data, final int startIndex, final int endIndex) {
+        String raw = new String(data, startIndex, endIndex - startIndex, charset);
+        if (raw.equals(options.getNullString())) {
+            return null;
+        }
+        if (raw.indexOf('\\') < 0) {
+            return raw;
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream(endIndex - startIndex);
+        int i = startIndex;
+        while (i < endIndex) {
+            if ('\\' != data[i] || i + 1 == endIndex) {
+                result.write(data[i++]);
+                continue;
+            }
+            byte escaped = data[i + 1];
+            i += 2;
+            switch (escaped) {
+                case 'b':
+                    result.write('\b');
+                    break;
+                case 'f':
+                    result.write('\f');
+                    break;
+                case 'n':
+                    result.write('\n');
+                    break;
+                case 'r':
+                    result.write('\r');
+                    break;
+                case 't':
+                    result.write('\t');
+                    break;
+                case 'v':
+                    result.write(0x0B);
+                    break;
+                default:
+                    result.write(escaped);
+            }
+        }
+        return new String(result.toByteArray(), charset);
+    }
+    
+    private Map<Integer, Object> parseCSVFields(final byte[] data, final int contentLength) {
+        Map<Integer, Object> result = new HashMap<>(fieldIndexes.size(), 1F);
+        int fieldIndex = 0;
+        ByteArrayOutputStream value = new ByteArrayOutputStream();
+        boolean inQuote = false;
+        boolean quoted = false;
+        int i = 0;
+        while (i <= contentLength) {
+            if (i == contentLength || !inQuote && options.getDelimiter() == data[i]) {
+                if (fieldIndexes.contains(fieldIndex)) {
+                    String fieldValue = new String(value.toByteArray(), charset);
+                    result.put(fieldIndex, !quoted && fieldValue.equals(options.getNullString()) ? null : fieldValue);
+                }
+                fieldIndex++;
+                value.reset();
+                quoted = false;
+            } else if (inQuote && options.getEscape() == data[i] && i + 1 < contentLength && (options.getQuote() == data[i + 1] || options.getEscape() == data[i + 1])) {
+                value.write(data[++i]);
+            } else if (options.getQuote() == data[i]) {
+                inQuote = !inQuote;
+                quoted = true;
+            } else {
+                value.write(data[i]);
+            }
+            i++;
+        }
+        return result;
+    }
+    
+    /**
+     * Close reader.
+     */
+    public void close() {
+        cumulation.release();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * PostgreSQL copy row router, which converts values of routing fields by column types and routes every row of copy by the bulk load row router of kernel.
+ */
+public final class PostgreSQLCopyRowRouter {
+    
+    private static final int MAX_CACHED_ROUTE_RESULTS = 4096;
+    
+    private static final LocalDate POSTGRESQL_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    
+    private final BulkLoadRowRouter rowRouter;
+    
+    private final List<ShardingSphereColumn> columns;
+    
+    private final boolean binary;
+    
+    private final Charset charset;
+    
+    private final Map<List<Comparable<?>>, DataNode> cachedRouteResults = new HashMap<>();
+    
+    public PostgreSQLCopyRowRouter(final BulkLoadRowRouter rowRouter, final List<ShardingSphereColumn> columns, final boolean binary, final Charset charset) {
+        this.rowRouter = rowRouter;
+        this.columns = columns;
+        this.binary = binary;
+        this.charset = charset;
+    }
+    
+    /**
+     * Get indexes of routing fields.
+     *
+     * @return indexes of routing fields
+     */
+    public Collection<Integer> getRoutingFieldIndexes() {
+        return rowRouter.getRoutingFieldIndexes();
+    }
+    
+    /**
+     * Route copy row.
+     *
+     * @param row copy row
+     * @return routed data node
+     */
+    public DataNode route(final PostgreSQLCopyRow row) {
+        List<Comparable<?>> routingValues = new ArrayList<>(rowRouter.getRoutingFieldIndexes().size());
+        for (Integer each : rowRouter.getRoutingFieldIndexes()) {
+            routingValues.add(convert(columns.get(each), row.getFieldValues().get(each)));
+        }
+        DataNode result = cachedRouteResults.get(routingValues);
+        if (null != result) {
+            return result;
+        }
+        result = rowRouter.route(routingValues);
+        if (cachedRouteResults.size() >= MAX_CACHED_ROUTE_RESULTS) {
+            cachedRouteResults.clear();
+        }
+        cachedRouteResults.put(routingValues, result);
+        return result;
+    }
+    
+    private Comparable<?> convert(final ShardingSphereColumn column, final Object value) {
+        if (null == value) {
+            return null;
+        }
+        return binary ? convertBinaryValue(column, (byte[]) value) : convertTextValue(column, (String) value);
+    }
+    
+    private Comparable<?> convertTextValue(final ShardingSphereColumn column, final String value) {
+        switch (column.getDataType()) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return parseBoolean(column, value);
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.parseInt(value);
+            case Types.BIGINT:
+                return Long.parseLong(value);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value);
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.parseDouble(value);
+            case Types.DATE:
+                return Date.valueOf(value);
+            case Types.TIME:
+                return Time.valueOf(value);
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return value;
+            default:
+                throw new UnsupportedSQLOperationException(String.format("COPY can not route by column `%s` with data type `%d`", column.getName(), column.getDataType()));
+        }
+    }
+    
+    private Boolean parseBoolean(final ShardingSphereColumn column, final String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "t":
+            case "true":
+            case "y":
+            case "yes":
+            case "on":
+            case "1":
+                return true;
+            case "f":
+            case "false":
+            case "n":
+            case "no":
+            case "off":
+            case "0":
+                return false;
+            default:
+                throw new UnsupportedSQLOperationException(String.format("COPY can not route by column `%s` with boolean value `%s`", column.getName(), value));
+        }
+    }
+    
+    private Comparable<?> convertBinaryValue(final ShardingSphereColumn column, final byte[] value) {
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        switch (column.getDataType()) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return 0 != buffer.get();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return (int) buffer.getShort();
+            case Types.INTEGER:
+                return buffer.getInt();
+            case Types.BIGINT:
+                return buffer.getLong();
+            case Types.DATE:
+                return Date.valueOf(POSTGRESQL_EPOCH_DATE.plusDays(buffer.getInt()));
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return new String(value, charset);
+            default:
+                throw new UnsupportedSQLOperationException(String.format("Binary COPY can not route by column `%s` with data type `%d`", column.getName(), column.getDataType()));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.exception.PostgreSQLProtocolException;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.util.PostgreSQLTextBitUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.util.PostgreSQLTextBoolUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLPortalSuspendedPacket;
@@ -56,6 +58,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatemen
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -101,9 +104,23 @@ public final class Portal {
      * Do bind.
      * 
      * @throws SQLException SQL exception
+     * @throws PostgreSQLProtocolException PostgreSQL protocol exception when binary result format is requested for column without binary writer
      */
     public void bind() throws SQLException {
         responseHeader = proxyBackendHandler.execute();
+        if (responseHeader instanceof QueryResponseHeader) {
+            checkBinaryResultSupported((QueryResponseHeader) responseHeader);
+        }
+    }
+    
+    private void checkBinaryResultSupported(final QueryResponseHeader queryResponseHeader) {
+        int columnIndex = 0;
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            if (PostgreSQLValueFormat.BINARY == determineValueFormat(columnIndex++)
+                    && !isBinaryResultSupported(each.getColumnType(), each.getColumnTypeName())) {
+                throw new PostgreSQLProtocolException("No binary output function available for column `%s` of type `%s`", each.getColumnLabel(), each.getColumnTypeName());
+            }
+        }
     }
     
     /**
@@ -179,8 +196,10 @@ public final class Portal {
         List<Object> result = new ArrayList<>(cells.size());
         List<QueryResponseCell> columns = new ArrayList<>(cells);
         for (int i = 0; i < columns.size(); i++) {
+            QueryResponseCell each = columns.get(i);
+            String columnTypeName = each.getColumnTypeName().orElse(null);
             PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : getCellData(columns.get(i)));
+            result.add(PostgreSQLValueFormat.BINARY == format ? new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(each.getJdbcType(), columnTypeName), each.getData()) : getCellData(each));
         }
         return result;
     }
@@ -189,8 +208,8 @@ public final class Portal {
         return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
     }
     
-    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType(), cell.getColumnTypeName().orElse(null)), getCellData(cell));
+    private boolean isBinaryResultSupported(final int jdbcType, final String columnTypeName) {
+        return Types.ARRAY != jdbcType && PostgreSQLBinaryProtocolValueFactory.isBinaryResultSupported(PostgreSQLColumnType.valueOfJDBCType(jdbcType, columnTypeName));
     }
     
     private Object getCellData(final QueryResponseCell cell) {
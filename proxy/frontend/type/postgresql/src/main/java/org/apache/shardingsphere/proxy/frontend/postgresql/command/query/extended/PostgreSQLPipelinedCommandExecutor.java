@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.infra.exception.dialect.exception.transaction.InTransactionException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
+import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrorPacketFactory;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Pipelined command executor for PostgreSQL.
+ * 
+ * <p>Executors of each sync are executed in order and their responses are returned together.
+ * Error of one sync is responded with error and ready for query packets, and executors of following syncs are still executed.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class PostgreSQLPipelinedCommandExecutor implements CommandExecutor {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final List<CommandExecutor> executors;
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        List<DatabasePacket> result = new LinkedList<>();
+        for (CommandExecutor each : executors) {
+            try {
+                result.addAll(each.execute());
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                result.addAll(createErrorResponses(ex));
+            } finally {
+                each.close();
+            }
+        }
+        return result;
+    }
+    
+    private Collection<DatabasePacket> createErrorResponses(final Exception cause) {
+        if (ExpectedExceptions.isExpected(cause.getClass())) {
+            log.debug("Exception occur: ", cause);
+        } else {
+            log.error("Exception occur: ", cause);
+        }
+        TransactionStatus transactionStatus = connectionSession.getTransactionStatus();
+        if (transactionStatus.isInTransaction() && !transactionStatus.isExceptionOccur() && !(cause instanceof InTransactionException)) {
+            transactionStatus.setExceptionOccur(true);
+        }
+        Collection<DatabasePacket> result = new LinkedList<>();
+        result.add(PostgreSQLErrorPacketFactory.newInstance(cause));
+        result.add(transactionStatus.isInTransaction() ? PostgreSQLReadyForQueryPacket.TRANSACTION_FAILED : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+        return result;
+    }
+}
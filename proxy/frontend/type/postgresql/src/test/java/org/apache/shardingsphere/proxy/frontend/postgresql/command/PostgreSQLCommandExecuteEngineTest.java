@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
@@ -40,12 +45,16 @@ import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -61,7 +70,7 @@ class PostgreSQLCommandExecuteEngineTest {
     @Mock
     private ChannelHandlerContext channelHandlerContext;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private Channel channel;
     
     @Mock
@@ -73,6 +82,10 @@ class PostgreSQLCommandExecuteEngineTest {
     @BeforeEach
     void setUp() {
         when(channelHandlerContext.channel()).thenReturn(channel);
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        when(pipeline.get(PacketCodec.class)).thenReturn(mock(PacketCodec.class));
+        when(channelHandlerContext.pipeline()).thenReturn(pipeline);
+        when(channelHandlerContext.executor()).thenReturn(mock(EventExecutor.class));
         when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
     }
     
@@ -128,4 +141,16 @@ class PostgreSQLCommandExecuteEngineTest {
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
         verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
     }
+    
+    @Test
+    void assertGetRejectedCommandOtherPacketWithSync() {
+        ByteBuf message = Unpooled.buffer().writeByte('P').writeInt(5).writeByte(0).writeByte('S').writeInt(4);
+        assertThat(new PostgreSQLCommandExecuteEngine().getRejectedCommandOtherPacket(message, connectionSession).orElse(null), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+    }
+    
+    @Test
+    void assertGetRejectedCommandOtherPacketWithoutSync() {
+        ByteBuf message = Unpooled.buffer().writeByte('P').writeInt(5).writeByte(0).writeByte('H').writeInt(4);
+        assertFalse(new PostgreSQLCommandExecuteEngine().getRejectedCommandOtherPacket(message, connectionSession).isPresent());
+    }
 }
@@ -23,6 +23,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLPipelinedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -54,10 +56,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
@@ -168,6 +172,27 @@ class PostgreSQLCommandExecutorFactoryTest {
         assertFalse(actualPacketsIterator.hasNext());
     }
     
+    @Test
+    void assertPipelinedPacket() throws SQLException {
+        PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
+        when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
+        PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
+        when(packet.getPackets()).thenReturn(Collections.singletonList(syncPacket));
+        PostgreSQLPipelinedCommandPacket pipelinedPacket = new PostgreSQLPipelinedCommandPacket(Arrays.asList(packet, packet));
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, pipelinedPacket, connectionSession, portalContext);
+        assertThat(actual, instanceOf(PostgreSQLPipelinedCommandExecutor.class));
+        List<CommandExecutor> actualExecutors = getExecutorsFromPipelinedCommandExecutor((PostgreSQLPipelinedCommandExecutor) actual);
+        assertThat(actualExecutors.size(), is(2));
+        assertThat(actualExecutors.get(0), instanceOf(PostgreSQLAggregatedCommandExecutor.class));
+        assertThat(actualExecutors.get(1), instanceOf(PostgreSQLAggregatedCommandExecutor.class));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private List<CommandExecutor> getExecutorsFromPipelinedCommandExecutor(final PostgreSQLPipelinedCommandExecutor executor) {
+        return (List<CommandExecutor>) Plugins.getMemberAccessor().get(PostgreSQLPipelinedCommandExecutor.class.getDeclaredField("executors"), executor);
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private List<CommandExecutor> getExecutorsFromAggregatedCommandExecutor(final PostgreSQLAggregatedCommandExecutor executor) {
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLComCopyDoneExecutorTest {
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Test
+    void assertExecuteWithoutCopyInContext() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(1);
+        assertTrue(new PostgreSQLComCopyDoneExecutor(connectionSession).execute().isEmpty());
+    }
+    
+    @Test
+    void assertExecute() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(2);
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
+        PostgreSQLCopyInContext copyInContext = mock(PostgreSQLCopyInContext.class);
+        when(copyInContext.finish()).thenReturn(10L);
+        PostgreSQLCopyInContextRegistry.getInstance().register(2, copyInContext);
+        Iterator<DatabasePacket> actual = new PostgreSQLComCopyDoneExecutor(connectionSession).execute().iterator();
+        assertThat(actual.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actual.next(), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        assertThat(PostgreSQLCopyInContextRegistry.getInstance().get(2), nullValue());
+    }
+    
+    @Test
+    void assertExecuteWithFailure() throws SQLException {
+        when(connectionSession.getConnectionId()).thenReturn(3);
+        PostgreSQLCopyInContext copyInContext = mock(PostgreSQLCopyInContext.class);
+        when(copyInContext.finish()).thenThrow(SQLException.class);
+        PostgreSQLCopyInContextRegistry.getInstance().register(3, copyInContext);
+        assertThrows(SQLException.class, () -> new PostgreSQLComCopyDoneExecutor(connectionSession).execute());
+        verify(copyInContext).cancel();
+    }
+}
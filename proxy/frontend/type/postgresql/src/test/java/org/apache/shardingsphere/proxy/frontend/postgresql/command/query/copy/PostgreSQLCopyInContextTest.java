@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.QueryExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLCopyInContextTest {
+    
+    @Mock
+    private PostgreSQLCopyConnections connections;
+    
+    @Test
+    void assertWriteBroadcastRowsAndFinish() throws SQLException {
+        final CopyIn copyIn0 = mockCopyIn("ds_0", "COPY t_config FROM STDIN");
+        final CopyIn copyIn1 = mockCopyIn("ds_1", "COPY t_config FROM STDIN");
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(createRowReader(), Arrays.asList(new DataNode("ds_0", "t_config"), new DataNode("ds_1", "t_config")),
+                null, actualTableName -> "COPY " + actualTableName + " FROM STDIN", connections);
+        copyInContext.write("1\tfoo\n2\t".getBytes(StandardCharsets.UTF_8));
+        copyInContext.write("bar\n".getBytes(StandardCharsets.UTF_8));
+        verify(copyIn0, never()).writeToCopy(any(), anyInt(), anyInt());
+        assertThat(copyInContext.finish(), is(2L));
+        byte[] expected = "1\tfoo\n2\tbar\n".getBytes(StandardCharsets.UTF_8);
+        verify(copyIn0).writeToCopy(Arrays.copyOf(expected, 65536), 0, expected.length);
+        verify(copyIn0).endCopy();
+        verify(copyIn1).endCopy();
+        verify(connections).commit();
+        verify(connections).close();
+    }
+    
+    @Test
+    void assertCancel() throws SQLException {
+        CopyIn copyIn = mockCopyIn("ds_0", "COPY t_config FROM STDIN");
+        when(copyIn.isActive()).thenReturn(true);
+        when(connections.close()).thenReturn(Collections.emptyList());
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(createRowReader(), Collections.singleton(new DataNode("ds_0", "t_config")),
+                null, actualTableName -> "COPY " + actualTableName + " FROM STDIN", connections);
+        copyInContext.write("1\tfoo\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(copyInContext.cancel().size(), is(0));
+        verify(copyIn).cancelCopy();
+        verify(copyIn, never()).endCopy();
+        verify(connections, never()).commit();
+    }
+    
+    private PostgreSQLCopyRowReader createRowReader() {
+        return new PostgreSQLCopyRowReader(PostgreSQLCopyOptions.parse("COPY t_config FROM STDIN", 12).orElseThrow(IllegalStateException::new), Collections.emptySet(), StandardCharsets.UTF_8);
+    }
+    
+    private CopyIn mockCopyIn(final String dataSourceName, final String sql) throws SQLException {
+        Connection connection = mock(Connection.class);
+        BaseConnection baseConnection = mock(BaseConnection.class);
+        QueryExecutor queryExecutor = mock(QueryExecutor.class);
+        CopyIn result = mock(CopyIn.class);
+        when(connections.getConnection(dataSourceName)).thenReturn(connection);
+        when(connection.unwrap(BaseConnection.class)).thenReturn(baseConnection);
+        when(baseConnection.getQueryExecutor()).thenReturn(queryExecutor);
+        when(queryExecutor.startCopy(sql, false)).thenReturn(result);
+        return result;
+    }
+}
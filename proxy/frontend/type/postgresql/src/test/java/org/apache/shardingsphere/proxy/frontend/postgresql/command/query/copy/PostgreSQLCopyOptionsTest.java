@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyOptions.Format;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyOptionsTest {
+    
+    @Test
+    void assertParseTextCopyIn() {
+        PostgreSQLCopyOptions actual = parse("COPY t_order FROM STDIN");
+        assertTrue(actual.isCopyIn());
+        assertThat(actual.getFormat(), is(Format.TEXT));
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertFalse(actual.isHeader());
+        assertThat(actual.getColumnNames(), is(Collections.emptyList()));
+        assertThat(actual.buildSQL("t_order_0"), is("COPY t_order_0 FROM STDIN"));
+    }
+    
+    @Test
+    void assertParseCSVCopyInWithColumnsAndOptionList() {
+        PostgreSQLCopyOptions actual = parse("COPY t_order (order_id, \"User_Id\") FROM STDIN WITH (FORMAT csv, HEADER true, DELIMITER '|', NULL 'null', QUOTE '''');");
+        assertTrue(actual.isCopyIn());
+        assertThat(actual.getFormat(), is(Format.CSV));
+        assertThat(actual.getDelimiter(), is('|'));
+        assertThat(actual.getNullString(), is("null"));
+        assertTrue(actual.isHeader());
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\''));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("order_id", "User_Id")));
+        assertThat(actual.buildSQL("t_order_1"),
+                is("COPY t_order_1 (order_id, \"User_Id\") FROM STDIN WITH (FORMAT csv, HEADER true, DELIMITER '|', NULL 'null', QUOTE '''')"));
+    }
+    
+    @Test
+    void assertParseLegacyCSVCopyOut() {
+        PostgreSQLCopyOptions actual = parse("COPY t_order TO STDOUT WITH CSV HEADER DELIMITER AS ';' ESCAPE '\\'");
+        assertFalse(actual.isCopyIn());
+        assertThat(actual.getFormat(), is(Format.CSV));
+        assertThat(actual.getDelimiter(), is(';'));
+        assertThat(actual.getNullString(), is(""));
+        assertTrue(actual.isHeader());
+        assertThat(actual.getQuote(), is('"'));
+        assertThat(actual.getEscape(), is('\\'));
+    }
+    
+    @Test
+    void assertParseBinaryIgnoresHeader() {
+        PostgreSQLCopyOptions actual = parse("COPY t_order FROM STDIN (FORMAT binary, HEADER)");
+        assertThat(actual.getFormat(), is(Format.BINARY));
+        assertFalse(actual.isHeader());
+    }
+    
+    @Test
+    void assertParseFileCopy() {
+        assertFalse(PostgreSQLCopyOptions.parse("COPY t_order FROM '/tmp/t_order.csv'", 11).isPresent());
+        assertFalse(PostgreSQLCopyOptions.parse("COPY t_order TO PROGRAM 'gzip > /tmp/t_order.gz'", 11).isPresent());
+    }
+    
+    private PostgreSQLCopyOptions parse(final String sql) {
+        return PostgreSQLCopyOptions.parse(sql, 11).orElseThrow(IllegalStateException::new);
+    }
+}
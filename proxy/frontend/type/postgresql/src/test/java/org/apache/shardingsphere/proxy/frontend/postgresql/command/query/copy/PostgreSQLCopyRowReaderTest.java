@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.exception.PostgreSQLProtocolException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostgreSQLCopyRowReaderTest {
+    
+    @Test
+    void assertReadTextRowsAcrossChunks() {
+        PostgreSQLCopyRowReader reader = createReader("COPY t_order FROM STDIN", 0, 2);
+        reader.write(bytes("1\tfoo\\tbar\t\\N\n2\t"));
+        PostgreSQLCopyRow firstRow = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(firstRow.getData(), is(bytes("1\tfoo\\tbar\t\\N\n")));
+        assertThat(firstRow.getFieldValues().get(0), is("1"));
+        assertThat(firstRow.getFieldValues().get(2), nullValue());
+        assertFalse(firstRow.getFieldValues().containsKey(1));
+        assertFalse(reader.read().isPresent());
+        reader.write(bytes("a\\\nb\t3\n\\.\n"));
+        PostgreSQLCopyRow secondRow = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(secondRow.getFieldValues().get(0), is("2"));
+        assertThat(secondRow.getFieldValues().get(2), is("3"));
+        assertFalse(reader.read().isPresent());
+        reader.close();
+    }
+    
+    @Test
+    void assertReadTextRowWithoutTrailingNewLine() {
+        PostgreSQLCopyRowReader reader = createReader("COPY t_order FROM STDIN", 0);
+        reader.write(bytes("1\tfoo"));
+        assertFalse(reader.read().isPresent());
+        reader.markEndOfData();
+        assertThat(reader.read().orElseThrow(IllegalStateException::new).getData(), is(bytes("1\tfoo\n")));
+        reader.close();
+    }
+    
+    @Test
+    void assertReadCSVRowsWithHeader() {
+        PostgreSQLCopyRowReader reader = createReader("COPY t_order FROM STDIN WITH (FORMAT csv, HEADER)", 0, 1);
+        reader.write(bytes("order_id,status\n1,\"a,\"\"b\"\"\n c\"\n2,\n3,\"\"\n"));
+        assertThat(reader.read().orElseThrow(IllegalStateException::new).getFieldValues().get(1), is("a,\"b\"\n c"));
+        assertThat(reader.getHeader().orElseThrow(IllegalStateException::new), is(bytes("order_id,status\n")));
+        assertThat(reader.read().orElseThrow(IllegalStateException::new).getFieldValues().get(1), nullValue());
+        assertThat(reader.read().orElseThrow(IllegalStateException::new).getFieldValues().get(1), is(""));
+        reader.close();
+    }
+    
+    @Test
+    void assertReadBinaryRows() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeBytes(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0});
+        byteBuf.writeInt(0);
+        byteBuf.writeInt(0);
+        byteBuf.writeShort(2);
+        byteBuf.writeInt(-1);
+        byteBuf.writeInt(4);
+        byteBuf.writeInt(10);
+        byteBuf.writeShort(-1);
+        byte[] data = ByteBufUtil.getBytes(byteBuf);
+        PostgreSQLCopyRowReader reader = createReader("COPY t_order FROM STDIN (FORMAT binary)", 1);
+        reader.write(Arrays.copyOf(data, 25));
+        assertFalse(reader.read().isPresent());
+        assertThat(reader.getHeader().orElseThrow(IllegalStateException::new).length, is(19));
+        reader.write(Arrays.copyOfRange(data, 25, data.length));
+        PostgreSQLCopyRow actual = reader.read().orElseThrow(IllegalStateException::new);
+        assertThat(actual.getData().length, is(14));
+        assertThat(actual.getFieldValues().get(1), is(new byte[]{0, 0, 0, 10}));
+        assertFalse(reader.read().isPresent());
+        reader.close();
+    }
+    
+    @Test
+    void assertReadBinaryWithInvalidSignature() {
+        PostgreSQLCopyRowReader reader = createReader("COPY t_order FROM STDIN (FORMAT binary)");
+        reader.write(new byte[19]);
+        assertThrows(PostgreSQLProtocolException.class, reader::read);
+        reader.close();
+    }
+    
+    @Test
+    void assertReadIncompleteData() {
+        PostgreSQLCopyRowReader reader = createReader("COPY t_order FROM STDIN (FORMAT csv)");
+        reader.write(bytes("1,\"unterminated\n"));
+        reader.markEndOfData();
+        assertThrows(PostgreSQLProtocolException.class, reader::read);
+        reader.close();
+    }
+    
+    private PostgreSQLCopyRowReader createReader(final String sql, final Integer... fieldIndexes) {
+        PostgreSQLCopyOptions options = PostgreSQLCopyOptions.parse(sql, 11).orElseThrow(IllegalStateException::new);
+        return new PostgreSQLCopyRowReader(options, 0 == fieldIndexes.length ? Collections.emptySet() : Arrays.asList(fieldIndexes), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
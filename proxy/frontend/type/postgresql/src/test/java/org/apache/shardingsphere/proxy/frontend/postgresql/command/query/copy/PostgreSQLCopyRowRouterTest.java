@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.route.BulkLoadRowRouter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLCopyRowRouterTest {
+    
+    private final List<ShardingSphereColumn> columns = Arrays.asList(new ShardingSphereColumn("name", Types.VARCHAR, false, false, true, true, false, true),
+            new ShardingSphereColumn("enabled", Types.BIT, false, false, true, true, false, true), new ShardingSphereColumn("uid", Types.OTHER, false, false, true, true, false, true));
+    
+    @Test
+    void assertRouteTextBoolean() {
+        BulkLoadRowRouter rowRouter = mockRowRouter(1);
+        when(rowRouter.route(Collections.singletonList(true))).thenReturn(new DataNode("ds_1", "t_order_1"));
+        PostgreSQLCopyRowRouter copyRowRouter = new PostgreSQLCopyRowRouter(rowRouter, columns, false, StandardCharsets.UTF_8);
+        assertThat(copyRowRouter.route(new PostgreSQLCopyRow(new byte[0], Collections.singletonMap(1, "t"))), is(new DataNode("ds_1", "t_order_1")));
+        assertThat(copyRowRouter.route(new PostgreSQLCopyRow(new byte[0], Collections.singletonMap(1, "true"))), is(new DataNode("ds_1", "t_order_1")));
+        verify(rowRouter, times(1)).route(Collections.singletonList(true));
+    }
+    
+    @Test
+    void assertRouteBinaryBoolean() {
+        BulkLoadRowRouter rowRouter = mockRowRouter(1);
+        when(rowRouter.route(Collections.singletonList(false))).thenReturn(new DataNode("ds_0", "t_order_0"));
+        assertThat(new PostgreSQLCopyRowRouter(rowRouter, columns, true, StandardCharsets.UTF_8).route(new PostgreSQLCopyRow(new byte[0], Collections.singletonMap(1, new byte[]{0}))),
+                is(new DataNode("ds_0", "t_order_0")));
+    }
+    
+    @Test
+    void assertRouteTextString() {
+        BulkLoadRowRouter rowRouter = mockRowRouter(0);
+        when(rowRouter.route(Collections.singletonList("foo"))).thenReturn(new DataNode("ds_0", "t_order_0"));
+        assertThat(new PostgreSQLCopyRowRouter(rowRouter, columns, false, StandardCharsets.UTF_8).route(new PostgreSQLCopyRow(new byte[0], Collections.singletonMap(0, "foo"))),
+                is(new DataNode("ds_0", "t_order_0")));
+    }
+    
+    @Test
+    void assertRouteWithUnsupportedDataType() {
+        PostgreSQLCopyRowRouter copyRowRouter = new PostgreSQLCopyRowRouter(mockRowRouter(2), columns, false, StandardCharsets.UTF_8);
+        assertThrows(UnsupportedSQLOperationException.class, () -> copyRowRouter.route(new PostgreSQLCopyRow(new byte[0], Collections.singletonMap(2, "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11"))));
+    }
+    
+    @Test
+    void assertRouteWithInvalidBoolean() {
+        PostgreSQLCopyRowRouter copyRowRouter = new PostgreSQLCopyRowRouter(mockRowRouter(1), columns, false, StandardCharsets.UTF_8);
+        assertThrows(UnsupportedSQLOperationException.class, () -> copyRowRouter.route(new PostgreSQLCopyRow(new byte[0], Collections.singletonMap(1, "maybe"))));
+    }
+    
+    private BulkLoadRowRouter mockRowRouter(final int routingFieldIndex) {
+        BulkLoadRowRouter result = mock(BulkLoadRowRouter.class);
+        when(result.getRoutingFieldIndexes()).thenReturn(Collections.singleton(routingFieldIndex));
+        return result;
+    }
+}
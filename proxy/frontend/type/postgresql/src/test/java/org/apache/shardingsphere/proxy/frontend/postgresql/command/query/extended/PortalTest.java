@@ -17,14 +17,17 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.exception.PostgreSQLProtocolException;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
@@ -172,6 +175,47 @@ class PortalTest {
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
     }
     
+    @Test
+    void assertExecuteSelectStatementWithBinaryResultFormat() throws SQLException {
+        QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
+        QueryHeader boolColumnQueryHeader = new QueryHeader("schema", "table", "columnLabel", "columnName", Types.BIT, "bool", 0, 0, false, false, false, false);
+        QueryHeader int4ColumnQueryHeader = new QueryHeader("schema", "table", "columnLabel", "columnName", Types.INTEGER, "int4", 0, 0, false, false, false, false);
+        when(responseHeader.getQueryHeaders()).thenReturn(Arrays.asList(boolColumnQueryHeader, int4ColumnQueryHeader));
+        when(proxyBackendHandler.execute()).thenReturn(responseHeader);
+        when(proxyBackendHandler.next()).thenReturn(true, false);
+        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Arrays.asList(new QueryResponseCell(Types.BIT, true, "bool"), new QueryResponseCell(Types.INTEGER, 1, "int4"))));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new PostgreSQLSelectStatement());
+        PostgreSQLServerPreparedStatement preparedStatement =
+                new PostgreSQLServerPreparedStatement("", sqlStatementContext, new HintValueContext(), Collections.emptyList(), Collections.emptyList());
+        Portal portal = new Portal("", preparedStatement, Collections.emptyList(), Arrays.asList(PostgreSQLValueFormat.BINARY, PostgreSQLValueFormat.TEXT), databaseConnectionManager);
+        portal.bind();
+        Optional<Collection<PostgreSQLColumnDescription>> columnDescriptions = ReflectionUtils.getFieldValue(portal.describe(), "columnDescriptions");
+        assertTrue(columnDescriptions.isPresent());
+        Iterator<PostgreSQLColumnDescription> columnDescriptionIterator = columnDescriptions.get().iterator();
+        assertThat(columnDescriptionIterator.next().getDataFormat(), is(PostgreSQLValueFormat.BINARY.getCode()));
+        assertThat(columnDescriptionIterator.next().getDataFormat(), is(PostgreSQLValueFormat.TEXT.getCode()));
+        Iterator<Object> actualData = ((PostgreSQLDataRowPacket) portal.execute(0).iterator().next()).getData().iterator();
+        BinaryCell actualBoolCell = (BinaryCell) actualData.next();
+        assertThat(actualBoolCell.getColumnType(), is(PostgreSQLColumnType.BOOL));
+        assertThat(actualBoolCell.getData(), is(true));
+        assertThat(actualData.next(), is(1));
+    }
+    
+    @Test
+    void assertBindWithBinaryResultFormatOfUnsupportedColumn() throws SQLException {
+        QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
+        QueryHeader arrayColumnQueryHeader = new QueryHeader("schema", "table", "columnLabel", "columnName", Types.ARRAY, "_int4", 0, 0, false, false, false, false);
+        when(responseHeader.getQueryHeaders()).thenReturn(Collections.singletonList(arrayColumnQueryHeader));
+        when(proxyBackendHandler.execute()).thenReturn(responseHeader);
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new PostgreSQLSelectStatement());
+        PostgreSQLServerPreparedStatement preparedStatement =
+                new PostgreSQLServerPreparedStatement("", sqlStatementContext, new HintValueContext(), Collections.emptyList(), Collections.emptyList());
+        Portal portal = new Portal("", preparedStatement, Collections.emptyList(), Collections.singletonList(PostgreSQLValueFormat.BINARY), databaseConnectionManager);
+        assertThrows(PostgreSQLProtocolException.class, portal::bind);
+    }
+    
     @Test
     void assertExecuteSelectStatementAndPortalSuspended() throws SQLException {
         QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
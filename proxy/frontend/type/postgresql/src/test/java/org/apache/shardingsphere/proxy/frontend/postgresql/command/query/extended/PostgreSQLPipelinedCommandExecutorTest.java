@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLPipelinedCommandExecutorTest {
+    
+    @Test
+    void assertExecuteContinuesAfterFailedSync() throws SQLException {
+        CommandExecutor failedExecutor = mock(CommandExecutor.class);
+        when(failedExecutor.execute()).thenThrow(new SQLException("foo", "42000"));
+        CommandExecutor succeededExecutor = mock(CommandExecutor.class);
+        PostgreSQLPacket expectedPacket = mock(PostgreSQLPacket.class);
+        when(succeededExecutor.execute()).thenReturn(Collections.singleton(expectedPacket));
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        Iterator<DatabasePacket> actual = new PostgreSQLPipelinedCommandExecutor(connectionSession, Arrays.asList(failedExecutor, succeededExecutor)).execute().iterator();
+        assertThat(actual.next(), instanceOf(PostgreSQLErrorResponsePacket.class));
+        assertThat(actual.next(), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+        assertThat(actual.next(), is(expectedPacket));
+        verify(failedExecutor).close();
+        verify(succeededExecutor).close();
+    }
+    
+    @Test
+    void assertExecuteFailedInTransaction() throws SQLException {
+        CommandExecutor failedExecutor = mock(CommandExecutor.class);
+        when(failedExecutor.execute()).thenThrow(new SQLException("foo", "42000"));
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        Iterator<DatabasePacket> actual = new PostgreSQLPipelinedCommandExecutor(connectionSession, Collections.singletonList(failedExecutor)).execute().iterator();
+        assertThat(actual.next(), instanceOf(PostgreSQLErrorResponsePacket.class));
+        assertThat(actual.next(), is(PostgreSQLReadyForQueryPacket.TRANSACTION_FAILED));
+        verify(connectionSession.getTransactionStatus()).setExceptionOccur(true);
+    }
+}